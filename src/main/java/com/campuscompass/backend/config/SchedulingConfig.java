@@ -0,0 +1,10 @@
+package com.campuscompass.backend.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/** @Scheduled 작업 (인기 카운터 주기적 반영 등) */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
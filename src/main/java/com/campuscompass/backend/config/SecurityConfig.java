@@ -5,6 +5,7 @@ import com.campuscompass.backend.security.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
@@ -51,10 +52,17 @@ public class SecurityConfig {
                         // H2 콘솔 허용
                         .requestMatchers("/h2-console/**").permitAll()
 
+                        // 헬스 체크만 허용 (메트릭은 인증 필요)
+                        .requestMatchers("/actuator/health").permitAll()
+
                         // 기존 API 허용 목록
                         .requestMatchers("/api/user/login", "/api/user/signup", "/api/user/refresh").permitAll() // user 경로 확인 필요
                         .requestMatchers("/api/auth/**").permitAll()
-                        .requestMatchers("/api/buildings/**", "/api/floors/**", "/api/search").permitAll()
+                        .requestMatchers("/api/buildings/**", "/api/floors/**", "/api/rooms/**", "/api/search", "/api/routes/**", "/api/sync", "/api/bundle").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/popularity/**").permitAll()   // 클릭 기록(POST)은 로그인 필요
+
+                        // 관리자 API (시간표 가져오기 등)
+                        .requestMatchers("/api/admin/**").hasRole("ADMIN")
 
                         .anyRequest().authenticated()
                 )
@@ -0,0 +1,26 @@
+package com.campuscompass.backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 비동기 응답 제한 시간.
+ * 비동기로 나가는 응답은 NDJSON 내보내기(StreamingResponseBody)뿐인데, 표 크기에 따라 오래 걸리므로
+ * 서블릿 컨테이너 기본값(30초) 대신 campus.export.timeout-ms(기본 1시간, 0 이하면 제한 없음)를 쓴다.
+ */
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final long asyncTimeoutMs;
+
+    public WebMvcConfig(@Value("${campus.export.timeout-ms:3600000}") long asyncTimeoutMs) {
+        this.asyncTimeoutMs = asyncTimeoutMs;
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setDefaultTimeout(asyncTimeoutMs);
+    }
+}
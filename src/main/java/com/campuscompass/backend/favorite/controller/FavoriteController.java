@@ -1,13 +1,19 @@
 package com.campuscompass.backend.favorite.controller;
 
 import com.campuscompass.backend.favorite.dto.FavoriteAddRequest;
+import com.campuscompass.backend.favorite.dto.FavoriteAvailabilityResponse;
+import com.campuscompass.backend.favorite.dto.FavoriteBatchRequest;
+import com.campuscompass.backend.favorite.dto.FavoriteBatchResponse;
 import com.campuscompass.backend.favorite.dto.FavoriteResponse;
 import com.campuscompass.backend.favorite.service.FavoriteService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.time.LocalTime;
 import java.util.List;
 
 @RestController
@@ -39,6 +45,17 @@ public class FavoriteController {
         return ResponseEntity.ok(favorites);
     }
 
+    /**
+     * 즐겨찾기 목록 + 사용 현황 API (지금 비었는지, 언제까지, 다음 수업)
+     * (GET /api/favorites/availability?dayOfWeek=1&at=10:00, 둘 다 생략하면 지금 기준)
+     */
+    @GetMapping("/availability")
+    public ResponseEntity<List<FavoriteAvailabilityResponse>> getFavoritesWithAvailability(
+            @RequestParam(required = false) Integer dayOfWeek,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "HH:mm") LocalTime at) {
+        return ResponseEntity.ok(favoriteService.getFavoritesWithAvailability(dayOfWeek, at));
+    }
+
     /**
      * 즐겨찾기 삭제 API (Room ID 기반)
      * (DELETE /api/favorites?roomId=1)
@@ -48,4 +65,31 @@ public class FavoriteController {
         favoriteService.deleteFavoriteByRoomId(roomId);
         return ResponseEntity.noContent().build(); // 204 No Content
     }
-}
\ No newline at end of file
+
+    /**
+     * 즐겨찾기 일괄 추가 API (오프라인 동기화용, 최대 500개)
+     * (POST /api/favorites/batch, body: {"roomIds": [1, 2, 3]})
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<FavoriteBatchResponse> addFavorites(@RequestBody FavoriteBatchRequest request) {
+        return ResponseEntity.ok(favoriteService.addFavorites(request.getRoomIds()));
+    }
+
+    /**
+     * 즐겨찾기 일괄 삭제 API (오프라인 동기화용, 최대 500개)
+     * (DELETE /api/favorites/batch?roomIds=1,2,3)
+     */
+    @DeleteMapping("/batch")
+    public ResponseEntity<FavoriteBatchResponse> deleteFavorites(@RequestParam List<Integer> roomIds) {
+        return ResponseEntity.ok(favoriteService.deleteFavorites(roomIds));
+    }
+
+    /**
+     * 서비스가 상태 코드를 정한 오류 (예: 토큰의 사용자가 지워졌으면 401)
+     * - sendError로 /error에 넘기면 인증 없는 ERROR 디스패치가 막혀 403이 되므로 여기서 바로 쓴다.
+     */
+    @ExceptionHandler(ResponseStatusException.class)
+    public ResponseEntity<String> handleStatus(ResponseStatusException e) {
+        return ResponseEntity.status(e.getStatusCode()).body(e.getReason());
+    }
+}
@@ -0,0 +1,40 @@
+package com.campuscompass.backend.favorite.dto;
+
+import java.time.LocalTime;
+
+/**
+ * 즐겨찾기 + 그 시각 강의실 사용 현황
+ * (시각이 null이면 하루 끝(24:00)까지라는 뜻)
+ *
+ * @param freeNow        지금 비어 있는지
+ * @param freeUntil      비어 있으면 언제까지 비어 있는지
+ * @param busyUntil      수업 중이면 언제 비는지
+ * @param nextClassStart 다음 수업 시작 (그날 남은 수업이 없으면 null)
+ * @param nextClassEnd   다음 수업 끝 (이어지는 수업은 합쳐서)
+ */
+public record FavoriteAvailabilityResponse(
+        Long favoriteId,
+        Integer roomId,
+        String roomNumber,
+        String roomName,
+        Integer floorId,
+        Integer floorLevel,
+        String floorName,
+        Integer buildingId,
+        String buildingName,
+        int dayOfWeek,
+        boolean freeNow,
+        LocalTime freeUntil,
+        LocalTime busyUntil,
+        LocalTime nextClassStart,
+        LocalTime nextClassEnd
+) {
+
+    public static FavoriteAvailabilityResponse of(FavoriteResponse f, int dayOfWeek, boolean freeNow,
+                                                  LocalTime freeUntil, LocalTime busyUntil,
+                                                  LocalTime nextClassStart, LocalTime nextClassEnd) {
+        return new FavoriteAvailabilityResponse(f.favoriteId(), f.roomId(), f.roomNumber(), f.roomName(),
+                f.floorId(), f.floorLevel(), f.floorName(), f.buildingId(), f.buildingName(),
+                dayOfWeek, freeNow, freeUntil, busyUntil, nextClassStart, nextClassEnd);
+    }
+}
@@ -0,0 +1,10 @@
+package com.campuscompass.backend.favorite.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class FavoriteBatchRequest {
+    private List<Integer> roomIds;
+}
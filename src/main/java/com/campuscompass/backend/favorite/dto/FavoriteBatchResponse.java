@@ -0,0 +1,16 @@
+package com.campuscompass.backend.favorite.dto;
+
+import java.util.List;
+
+/**
+ * 즐겨찾기 일괄 추가/삭제 결과 (요청한 방 id를 셋으로 나눔, 중복 id는 한 번만)
+ *
+ * @param changed   새로 추가된(삭제된) 방
+ * @param unchanged 이미 즐겨찾기였던(즐겨찾기가 아니었던) 방
+ * @param notFound  없는 방 (추가할 때만)
+ */
+public record FavoriteBatchResponse(
+        List<Integer> changed,
+        List<Integer> unchanged,
+        List<Integer> notFound
+) { }
@@ -1,10 +1,15 @@
 package com.campuscompass.backend.favorite.repository;
 
 import com.campuscompass.backend.favorite.domain.Favorite;
+import com.campuscompass.backend.favorite.dto.FavoriteResponse;
 import com.campuscompass.backend.map.domain.Room;
 import com.campuscompass.backend.user.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,4 +24,31 @@ public interface FavoriteRepository extends JpaRepository<Favorite, Long> {
      * 특정 사용자와 특정 강의실로 즐겨찾기 항목을 찾는 메소드 (중복 추가 방지용)
      */
     Optional<Favorite> findByUserAndRoom(User user, Room room);
+
+    /** roomIds 중 사용자가 이미 즐겨찾기 한 방 id (일괄 추가/삭제용) */
+    @Query("select f.room.id from Favorite f where f.user = :user and f.room.id in :roomIds")
+    List<Integer> findRoomIdsByUserAndRoomIdIn(@Param("user") User user, @Param("roomIds") Collection<Integer> roomIds);
+
+    /** 사용자의 즐겨찾기 중 roomIds를 한 번에 삭제 → 삭제한 수 */
+    @Modifying
+    @Query("delete from Favorite f where f.user = :user and f.room.id in :roomIds")
+    int deleteByUserAndRoomIdIn(@Param("user") User user, @Param("roomIds") Collection<Integer> roomIds);
+
+    /**
+     * 사용자의 즐겨찾기 목록 (방/층/건물 정보 포함, 추가한 순서)
+     * 엔티티를 거치지 않고 한 번의 조인 쿼리로 응답을 만든다. (방마다 지연 로딩하지 않음)
+     */
+    @Query("""
+        select new com.campuscompass.backend.favorite.dto.FavoriteResponse(
+            f.id, r.id, r.roomNumber, r.name,
+            fl.id, fl.level, fl.name, b.id, b.name
+        )
+        from Favorite f
+        join f.room r
+        join r.floor fl
+        join fl.building b
+        where f.user.id = :userId
+        order by f.id asc
+    """)
+    List<FavoriteResponse> findResponsesByUserId(@Param("userId") Long userId);
 }
\ No newline at end of file
@@ -0,0 +1,115 @@
+package com.campuscompass.backend.favorite.service;
+
+import com.campuscompass.backend.favorite.dto.FavoriteResponse;
+import com.campuscompass.backend.map.snapshot.CampusSnapshotHolder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 사용자별 즐겨찾기 목록 캐시 (LRU).
+ * - 키: 학번
+ * - 즐겨찾기를 추가/삭제하면 트랜잭션이 끝난 뒤 그 사용자 항목을 지운다.
+ * - 방/층/건물 이름이 들어 있으므로 캠퍼스 스냅샷 버전이 바뀌면 통째로 비운다.
+ * - 목록을 읽는 사이 무효화가 있었으면 읽은 결과를 담지 않는다. (이전 목록이 다시 들어가지 않도록)
+ * - 메트릭: campus.favorites.cache.requests (result=hit|miss), campus.favorites.cache.size
+ */
+@Component
+public class FavoriteCache {
+
+    private final CampusSnapshotHolder snapshotHolder;
+    private final int maxEntries;
+    private final Counter hits;
+    private final Counter misses;
+
+    private final LinkedHashMap<String, List<FavoriteResponse>> entries = new LinkedHashMap<>(16, 0.75f, true);   // 접근 순서
+    private long version = -1L;
+    private long invalidations;   // 무효화할 때마다 1씩 증가
+
+    /**
+     * @param maxEntries 최대 사용자 수 (넘치면 가장 오래 안 쓴 것부터 버린다, 0이면 캐시 끔)
+     */
+    public FavoriteCache(CampusSnapshotHolder snapshotHolder,
+                         MeterRegistry meterRegistry,
+                         @Value("${campus.favorites.cache.max-entries:10000}") int maxEntries) {
+        this.snapshotHolder = snapshotHolder;
+        this.maxEntries = maxEntries;
+        this.hits = requests(meterRegistry, "hit");
+        this.misses = requests(meterRegistry, "miss");
+        Gauge.builder("campus.favorites.cache.size", this, FavoriteCache::size)
+                .description("즐겨찾기 캐시 사용자 수")
+                .register(meterRegistry);
+    }
+
+    /** 캐시에 있으면 그 목록, 없으면 loader로 읽어 담는다. */
+    public List<FavoriteResponse> get(String studentId, Supplier<List<FavoriteResponse>> loader) {
+        if (maxEntries <= 0) return loader.get();
+
+        long snapshotVersion = snapshotHolder.current().version();
+        long stamp;
+        synchronized (this) {
+            if (version != snapshotVersion) {
+                entries.clear();
+                version = snapshotVersion;
+            }
+            var cached = entries.get(studentId);
+            if (cached != null) {
+                hits.increment();
+                return cached;
+            }
+            stamp = invalidations;
+        }
+
+        misses.increment();
+        var favorites = List.copyOf(loader.get());
+        synchronized (this) {
+            if (stamp == invalidations && version == snapshotVersion) {
+                entries.put(studentId, favorites);
+                var it = entries.entrySet().iterator();
+                while (entries.size() > maxEntries && it.hasNext()) {
+                    it.next();
+                    it.remove();
+                }
+            }
+        }
+        return favorites;
+    }
+
+    /** 사용자의 즐겨찾기가 바뀜: 진행 중인 트랜잭션이 끝난 뒤(없으면 바로) 그 사용자 항목을 지운다. */
+    public void invalidate(String studentId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(studentId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                evict(studentId);
+            }
+        });
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private synchronized void evict(String studentId) {
+        entries.remove(studentId);
+        invalidations++;
+    }
+
+    private static Counter requests(MeterRegistry registry, String result) {
+        return Counter.builder("campus.favorites.cache.requests")
+                .description("즐겨찾기 캐시 조회 수")
+                .tag("result", result)
+                .register(registry);
+    }
+}
@@ -2,40 +2,56 @@ package com.campuscompass.backend.favorite.service;
 
 import com.campuscompass.backend.favorite.domain.Favorite;
 import com.campuscompass.backend.favorite.dto.FavoriteAddRequest;
+import com.campuscompass.backend.favorite.dto.FavoriteAvailabilityResponse;
+import com.campuscompass.backend.favorite.dto.FavoriteBatchResponse;
 import com.campuscompass.backend.favorite.dto.FavoriteResponse;
 import com.campuscompass.backend.favorite.repository.FavoriteRepository;
 import com.campuscompass.backend.map.domain.Room;
 import com.campuscompass.backend.map.repository.RoomRepository;
+import com.campuscompass.backend.map.snapshot.CampusSnapshotHolder;
+import com.campuscompass.backend.map.snapshot.OccupancyIndex;
+import com.campuscompass.backend.popularity.service.PopularityService;
+import com.campuscompass.backend.security.AuthUser;
 import com.campuscompass.backend.user.domain.User;
 import com.campuscompass.backend.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
-import java.util.List;
-import java.util.stream.Collectors;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.*;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class FavoriteService {
 
+    /** 일괄 추가/삭제 한 번에 받는 최대 방 수 */
+    private static final int MAX_BATCH_SIZE = 500;
+
     private final FavoriteRepository favoriteRepository;
     private final UserRepository userRepository;
     private final RoomRepository roomRepository;
+    private final FavoriteCache favoriteCache;
+    private final JdbcTemplate jdbcTemplate;
+    private final CampusSnapshotHolder snapshotHolder;
+    private final PopularityService popularityService;
 
     /**
      * 즐겨찾기 추가 로직
      */
     @Transactional
     public Long addFavorite(FavoriteAddRequest request) {
-        // ... (이전과 동일) ...
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String studentId = authentication.getName();
-        User user = userRepository.findByStudentId(studentId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        AuthUser authUser = AuthUser.current();
+        User user = userRepository.getReferenceById(authUser.userId());   // 토큰의 user_id (SELECT 없음)
         Room room = roomRepository.findById(request.getRoomId())
                 .orElseThrow(() -> new IllegalArgumentException("강의실을 찾을 수 없습니다."));
         favoriteRepository.findByUserAndRoom(user, room)
@@ -43,23 +59,61 @@ public class FavoriteService {
                     throw new IllegalArgumentException("이미 즐겨찾기에 추가된 항목입니다.");
                 });
         Favorite newFavorite = new Favorite(user, room);
-        Favorite savedFavorite = favoriteRepository.save(newFavorite);
+        Favorite savedFavorite;
+        try {
+            savedFavorite = favoriteRepository.save(newFavorite);
+        } catch (DataIntegrityViolationException e) {
+            throw integrityViolation(authUser, e);
+        }
+        favoriteCache.invalidate(authUser.studentId());
+        popularityService.favoritesAdded(List.of(room.getId()));
         return savedFavorite.getId();
     }
 
     /**
      * 즐겨찾기 목록 조회 로직
+     * - 사용자별 캐시에 없을 때만 조인 쿼리 한 번 (즐겨찾기 수와 상관없이)
+     * - 캐시에서 바로 답할 때는 트랜잭션(커넥션)을 열지 않는다.
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<FavoriteResponse> getFavorites() {
-        // ... (이전과 동일) ...
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String studentId = authentication.getName();
-        User user = userRepository.findByStudentId(studentId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-        List<Favorite> favorites = favoriteRepository.findAllByUser(user);
+        AuthUser authUser = AuthUser.current();
+        return favoriteCache.get(authUser.studentId(), () -> favoriteRepository.findResponsesByUserId(authUser.userId()));
+    }
+
+    /**
+     * 즐겨찾기 목록 + 그 시각(기본: 지금) 사용 현황
+     * - 목록은 getFavorites와 같은 캐시를 쓰고, 사용 현황은 스냅샷의 OccupancyIndex로 방마다 판정한다. (SQL 없음)
+     * - 모든 방을 같은 스냅샷 하나로 판정한다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<FavoriteAvailabilityResponse> getFavoritesWithAvailability(Integer dayOfWeek, LocalTime at) {
+        if (dayOfWeek != null && (dayOfWeek < 1 || dayOfWeek > 7)) {
+            throw new IllegalArgumentException("dayOfWeek는 1~7이어야 합니다.");
+        }
+        var now = LocalDateTime.now();
+        int dow = (dayOfWeek != null) ? dayOfWeek : now.getDayOfWeek().getValue(); // 1=월
+        LocalTime t = (at != null) ? at : now.toLocalTime();
+
+        var favorites = getFavorites();
+        var occupancy = snapshotHolder.current().occupancy();
         return favorites.stream()
-                .map(FavoriteResponse::new)
-                .collect(Collectors.toList());
+                .map(f -> availabilityOf(f, occupancy, dow, t))
+                .toList();
+    }
+
+    static FavoriteAvailabilityResponse availabilityOf(FavoriteResponse f, OccupancyIndex occupancy,
+                                                       int dow, LocalTime at) {
+        var block = occupancy.classAtOrAfter(f.roomId(), dow, at).orElse(null);
+        if (block == null || block.startNanos() > at.toNanoOfDay()) {          // 비어 있음
+            return FavoriteAvailabilityResponse.of(f, dow, true,
+                    (block != null) ? block.start() : null, null,
+                    (block != null) ? block.start() : null, (block != null) ? block.end() : null);
+        }
+        // 수업 중: 이 구간이 끝난 뒤의 다음 수업 (합쳐진 구간이라 끝나는 시각에는 비어 있다)
+        var next = (block.end() != null) ? occupancy.classAtOrAfter(f.roomId(), dow, block.end()).orElse(null) : null;
+        return FavoriteAvailabilityResponse.of(f, dow, false, null, block.end(),
+                (next != null) ? next.start() : null, (next != null) ? next.end() : null);
     }
 
     /**
@@ -67,11 +121,9 @@ public class FavoriteService {
      */
     @Transactional
     public void deleteFavoriteByRoomId(Integer roomId) {
-        // 1. 현재 인증된 사용자 정보 가져오기
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String studentId = authentication.getName();
-        User user = userRepository.findByStudentId(studentId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        // 1. 현재 인증된 사용자 (토큰의 user_id로 참조만, SELECT 없음)
+        AuthUser authUser = AuthUser.current();
+        User user = userRepository.getReferenceById(authUser.userId());
 
         // 2. 삭제할 강의실 정보 가져오기
         Room room = roomRepository.findById(roomId)
@@ -83,5 +135,101 @@ public class FavoriteService {
 
         // 4. 즐겨찾기 항목 삭제
         favoriteRepository.delete(favorite);
+        favoriteCache.invalidate(authUser.studentId());
+        popularityService.favoritesRemoved(List.of(room.getId()));
+    }
+
+    /**
+     * 즐겨찾기 일괄 추가 (오프라인 동기화용)
+     * - 방은 IN 쿼리 한 번, 이미 있는 즐겨찾기도 쿼리 한 번으로 확인한다.
+     * - 새 즐겨찾기는 JDBC 배치 INSERT 한 번으로 넣는다. (Favorite id가 IDENTITY라 Hibernate 배치가 안 된다)
+     * - 같은 사용자의 동기화가 동시에 와서 확인 뒤 다른 쪽이 먼저 넣었으면 409. 전체가 롤백되므로 다시 보내면 된다.
+     *   (rewriteBatchedStatements에서는 행별 결과를 알 수 없어 INSERT IGNORE로 added를 가려낼 수 없다)
+     */
+    @Transactional
+    public FavoriteBatchResponse addFavorites(List<Integer> roomIds) {
+        var requested = distinct(roomIds);
+        AuthUser authUser = AuthUser.current();
+        User user = userRepository.getReferenceById(authUser.userId());
+
+        var found = new HashSet<Integer>();
+        roomRepository.findAllById(requested).forEach(room -> found.add(room.getId()));
+        var existing = found.isEmpty() ? Set.<Integer>of()
+                : Set.copyOf(favoriteRepository.findRoomIdsByUserAndRoomIdIn(user, found));
+
+        var added = new ArrayList<Integer>();
+        var unchanged = new ArrayList<Integer>();
+        var notFound = new ArrayList<Integer>();
+        for (var roomId : requested) {
+            if (!found.contains(roomId)) notFound.add(roomId);
+            else if (existing.contains(roomId)) unchanged.add(roomId);
+            else added.add(roomId);
+        }
+
+        if (!added.isEmpty()) {
+            var now = Timestamp.valueOf(LocalDateTime.now());
+            try {
+                jdbcTemplate.batchUpdate("insert into favorites (user_id, room_id, created_at) values (?, ?, ?)",
+                        added, added.size(), (ps, roomId) -> {
+                            ps.setLong(1, authUser.userId());
+                            ps.setInt(2, roomId);
+                            ps.setTimestamp(3, now);
+                        });
+            } catch (DataIntegrityViolationException e) {
+                throw integrityViolation(authUser, e);
+            }
+            favoriteCache.invalidate(authUser.studentId());
+            popularityService.favoritesAdded(added);
+        }
+        return new FavoriteBatchResponse(added, unchanged, notFound);
+    }
+
+    /**
+     * 즐겨찾기 일괄 삭제 (오프라인 동기화용)
+     * - 지금 즐겨찾기인 방을 쿼리 한 번으로 확인하고, 벌크 DELETE 한 번으로 지운다.
+     */
+    @Transactional
+    public FavoriteBatchResponse deleteFavorites(List<Integer> roomIds) {
+        var requested = distinct(roomIds);
+        AuthUser authUser = AuthUser.current();
+        User user = userRepository.getReferenceById(authUser.userId());
+        if (requested.isEmpty()) return new FavoriteBatchResponse(List.of(), List.of(), List.of());
+
+        var existing = Set.copyOf(favoriteRepository.findRoomIdsByUserAndRoomIdIn(user, requested));
+        var removed = requested.stream().filter(existing::contains).toList();
+        var unchanged = requested.stream().filter(id -> !existing.contains(id)).toList();
+        if (!removed.isEmpty()) {
+            favoriteRepository.deleteByUserAndRoomIdIn(user, removed);
+            favoriteCache.invalidate(authUser.studentId());
+            popularityService.favoritesRemoved(removed);
+        }
+        return new FavoriteBatchResponse(removed, unchanged, List.of());
+    }
+
+    /**
+     * 사용자는 토큰의 user_id로 참조만 하므로, 토큰 발급 뒤 사용자가 지워졌으면 INSERT가 FK 위반으로 실패한다.
+     * 그 경우는 401(사용자를 찾을 수 없음)로, 동시 요청이 같은 즐겨찾기를 먼저 넣은 경우(유일 키 위반)는 409로,
+     * 다른 무결성 위반은 그대로 던진다.
+     * (실패한 persist가 남은 세션을 flush하지 않도록 JDBC로 확인한다)
+     */
+    private RuntimeException integrityViolation(AuthUser authUser, DataIntegrityViolationException e) {
+        Integer users = jdbcTemplate.queryForObject("select count(*) from users where user_id = ?", Integer.class, authUser.userId());
+        if (users == null || users == 0) {
+            return new ResponseStatusException(HttpStatus.UNAUTHORIZED, "사용자를 찾을 수 없습니다.", e);
+        }
+        if (e instanceof DuplicateKeyException) {
+            return new ResponseStatusException(HttpStatus.CONFLICT, "다른 요청이 같은 즐겨찾기를 추가했습니다. 다시 시도해 주세요.", e);
+        }
+        return e;
+    }
+
+    /** 요청 순서를 유지한 채 중복/null 제거 */
+    private static List<Integer> distinct(List<Integer> roomIds) {
+        if (roomIds == null) throw new IllegalArgumentException("roomIds가 필요합니다.");
+        var ids = roomIds.stream().filter(Objects::nonNull).distinct().toList();
+        if (ids.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("한 번에 최대 " + MAX_BATCH_SIZE + "개까지 처리할 수 있습니다.");
+        }
+        return ids;
     }
-}
\ No newline at end of file
+}
@@ -1,10 +1,16 @@
 package com.campuscompass.backend.map.controller;
 
+import com.campuscompass.backend.map.service.BuildingJsonCache;
 import com.campuscompass.backend.map.service.BuildingQueryService;
-import com.campuscompass.backend.map.dto.BuildingDetailResponse;
 import com.campuscompass.backend.map.dto.BuildingResponse;
+import com.campuscompass.backend.map.dto.NearbyBuildingResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -14,16 +20,76 @@ import java.util.List;
 public class BuildingController {
 
     private final BuildingQueryService buildingQueryService;
+    private final BuildingJsonCache buildingJsonCache;
 
-    /** GET /api/buildings : 전체 건물 목록 */
+    /**
+     * GET /api/buildings : 전체 건물 목록
+     * - If-None-Match가 현재 데이터 버전(과 인코딩)의 ETag와 같으면 본문 없이 304
+     * - 미리 직렬화해 둔 JSON 바이트를 그대로 쓴다. (Accept-Encoding: gzip이면 미리 압축해 둔 바이트, ETag도 따로)
+     */
     @GetMapping
-    public List<BuildingResponse> listBuildings() {
-        return buildingQueryService.listBuildings();
+    public ResponseEntity<byte[]> listBuildings(WebRequest request) {
+        return json(buildingJsonCache.buildingList(), request);
     }
 
-    /** GET /api/buildings/{buildingId} : 건물 상세(층/방 포함) */
+    /** GET /api/buildings/nearest?lat=&lng=&k= : 가까운 건물 k개 (거리 m 포함) */
+    @GetMapping("/nearest")
+    public List<NearbyBuildingResponse> nearestBuildings(
+            @RequestParam double lat,
+            @RequestParam double lng,
+            @RequestParam(required = false) Integer k
+    ) {
+        return buildingQueryService.nearestBuildings(lat, lng, k);
+    }
+
+    /** GET /api/buildings/within?minLat=&minLng=&maxLat=&maxLng= : 지도 영역 안 건물 */
+    @GetMapping("/within")
+    public List<BuildingResponse> buildingsWithin(
+            @RequestParam double minLat,
+            @RequestParam double minLng,
+            @RequestParam double maxLat,
+            @RequestParam double maxLng
+    ) {
+        return buildingQueryService.buildingsWithin(minLat, minLng, maxLat, maxLng);
+    }
+
+    /**
+     * GET /api/buildings/{buildingId} : 건물 상세(층/방 포함), ETag 지원, 미리 직렬화한 JSON
+     * - 없는 건물이면 If-None-Match와 상관없이 실패한다. (304를 주지 않는다)
+     */
     @GetMapping("/{buildingId}")
-    public BuildingDetailResponse getBuilding(@PathVariable Integer buildingId) {
-        return buildingQueryService.getBuilding(buildingId);
+    public ResponseEntity<byte[]> getBuilding(@PathVariable Integer buildingId, WebRequest request) {
+        return json(buildingJsonCache.building(buildingId), request);
+    }
+
+    /** 인코딩을 먼저 고르고, 그 인코딩의 ETag로 304 여부를 본다. */
+    private static ResponseEntity<byte[]> json(BuildingJsonCache.Payload payload, WebRequest request) {
+        boolean gzip = acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        if (request.checkNotModified(gzip ? payload.gzipEtag() : payload.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING).build();
+        }
+
+        var response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(payload.gzip());
+        }
+        return response.body(payload.json());
+    }
+
+    /** "gzip, deflate, br" → true, "gzip;q=0" → false */
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) return false;
+        for (var token : acceptEncoding.split(",")) {
+            var parts = token.trim().split(";");
+            if (!parts[0].trim().equalsIgnoreCase("gzip")) continue;
+            for (int i = 1; i < parts.length; i++) {
+                var param = parts[i].trim();
+                if (param.startsWith("q=") && param.substring(2).trim().matches("0(\\.0*)?")) return false;
+            }
+            return true;
+        }
+        return false;
     }
 }
\ No newline at end of file
@@ -0,0 +1,108 @@
+package com.campuscompass.backend.map.controller;
+
+import com.campuscompass.backend.map.service.OfflineBundleService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+
+@RestController
+@RequestMapping("/api/bundle")
+@RequiredArgsConstructor
+public class BundleController {
+
+    // Tomcat sendfile 요청 속성 (커넥터가 지원할 때만 쓴다)
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final OfflineBundleService offlineBundleService;
+
+    /**
+     * GET /api/bundle : 오프라인용 캠퍼스 전체 번들 (/api/sync 전체 응답과 같은 JSON, gzip 파일)
+     * - ETag/If-None-Match 지원, 데이터가 바뀌지 않았으면 304
+     * - Range: bytes=a-b (한 구간) 이어받기 → 206, 범위 밖이면 416
+     *   If-Range가 현재 ETag와 다르면 Range를 무시하고 전체를 보낸다.
+     * - 본문은 메모리 매핑한 파일에서 바로 쓴다. (Tomcat sendfile이 되면 커널에서 바로 복사)
+     */
+    @GetMapping
+    public void bundle(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        var bundle = offlineBundleService.bundle();
+        if (new ServletWebRequest(request, response).checkNotModified(bundle.etag())) return;
+
+        long size = bundle.size();
+        response.setContentType("application/gzip");
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"campus-bundle-" + bundle.dataVersion() + ".json.gz\"");
+
+        long start = 0, end = size;    // [start, end)
+        var range = request.getHeader(HttpHeaders.RANGE);
+        var ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (range != null && (ifRange == null || ifRange.equals(bundle.etag()))) {
+            long[] r = parseRange(range, size);
+            if (r == UNSATISFIABLE) {
+                response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+                return;
+            }
+            if (r != null) {
+                start = r[0];
+                end = r[1];
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + (end - 1) + "/" + size);
+            }
+        }
+        response.setContentLengthLong(end - start);
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, bundle.file().toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end);
+            return;
+        }
+        var channel = Channels.newChannel(response.getOutputStream());
+        var slice = bundle.buffer().slice((int) start, (int) (end - start));
+        while (slice.hasRemaining()) channel.write(slice);
+    }
+
+    private static final long[] UNSATISFIABLE = new long[0];
+
+    /**
+     * "bytes=a-b" / "bytes=a-" / "bytes=-n" → [start, end)
+     * - 형식이 틀렸거나 여러 구간이면 null (전체 응답)
+     * - 시작이 파일 끝 이후면 UNSATISFIABLE
+     */
+    private static long[] parseRange(String header, long size) {
+        if (!header.startsWith("bytes=")) return null;
+        var spec = header.substring("bytes=".length()).trim();
+        if (spec.contains(",")) return null;
+        int dash = spec.indexOf('-');
+        if (dash < 0) return null;
+        try {
+            var first = spec.substring(0, dash).trim();
+            var last = spec.substring(dash + 1).trim();
+            if (first.isEmpty()) {                     // 끝에서 n바이트
+                if (last.isEmpty()) return null;
+                long n = Long.parseLong(last);
+                if (n <= 0) return UNSATISFIABLE;
+                return new long[]{Math.max(0, size - n), size};
+            }
+            long start = Long.parseLong(first);
+            if (start >= size) return UNSATISFIABLE;
+            long end = last.isEmpty() ? size : Long.parseLong(last) + 1;
+            if (start < 0 || end <= start) return null;
+            return new long[]{start, Math.min(end, size)};
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
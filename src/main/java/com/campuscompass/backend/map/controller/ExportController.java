@@ -0,0 +1,37 @@
+package com.campuscompass.backend.map.controller;
+
+import com.campuscompass.backend.map.service.ExportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/** 분석 작업용 전체 데이터 내보내기 (로그인 필요) */
+@RestController
+@RequestMapping("/api/export")
+@RequiredArgsConstructor
+public class ExportController {
+
+    private final ExportService exportService;
+
+    /** GET /api/export/rooms : 전체 방 NDJSON (id순, 한 줄에 하나) */
+    @GetMapping("/rooms")
+    public ResponseEntity<StreamingResponseBody> exportRooms() {
+        return ndjson(exportService::exportRooms);
+    }
+
+    /** GET /api/export/schedules : 전체 시간표 NDJSON (id순, 한 줄에 하나) */
+    @GetMapping("/schedules")
+    public ResponseEntity<StreamingResponseBody> exportSchedules() {
+        return ndjson(exportService::exportSchedules);
+    }
+
+    private static ResponseEntity<StreamingResponseBody> ndjson(StreamingResponseBody body) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+}
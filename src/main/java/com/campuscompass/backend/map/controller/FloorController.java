@@ -2,12 +2,15 @@ package com.campuscompass.backend.map.controller;
 
 import com.campuscompass.backend.map.service.FloorQueryService;
 import com.campuscompass.backend.map.dto.AvailableRoomResponse;
+import com.campuscompass.backend.map.snapshot.CampusSnapshotHolder;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.time.LocalTime;
 import java.util.List;
+import java.util.NoSuchElementException;
 
 @RestController
 @RequestMapping("/api/floors")
@@ -15,18 +18,28 @@ import java.util.List;
 public class FloorController {
 
     private final FloorQueryService floorQueryService;
+    private final CampusSnapshotHolder snapshotHolder;
 
     /**
      * GET /api/floors/{floorId}/available-rooms
      * - 파라미터 미지정 시: 오늘(now) 기준, 지금~2시간
+     * - 요일/시작/끝을 모두 지정한 경우에만 ETag 지원 (지금 기준 조회는 시간이 지나면 결과가 바뀜)
+     * - 없는 층이면 If-None-Match와 상관없이 실패한다. (304를 주지 않는다)
      */
     @GetMapping("/{floorId}/available-rooms")
     public List<AvailableRoomResponse> getAvailableRooms(
             @PathVariable Integer floorId,
             @RequestParam(required = false) Integer dayOfWeek, // 1=월 ... 7=일
             @RequestParam(required = false) @DateTimeFormat(pattern = "HH:mm") LocalTime start,
-            @RequestParam(required = false) @DateTimeFormat(pattern = "HH:mm") LocalTime end
+            @RequestParam(required = false) @DateTimeFormat(pattern = "HH:mm") LocalTime end,
+            WebRequest request
     ) {
+        boolean fixedWindow = dayOfWeek != null && start != null && end != null;
+        if (fixedWindow) {
+            var snapshot = snapshotHolder.current();
+            if (snapshot.floor(floorId) == null) throw new NoSuchElementException("존재하지 않는 층입니다: " + floorId);
+            if (request.checkNotModified(snapshotHolder.etag(snapshot))) return null;
+        }
         return floorQueryService.getAvailableRooms(floorId, dayOfWeek, start, end);
     }
 }
\ No newline at end of file
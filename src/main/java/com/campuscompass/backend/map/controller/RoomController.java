@@ -0,0 +1,87 @@
+package com.campuscompass.backend.map.controller;
+
+import com.campuscompass.backend.map.dto.FreeRoomResponse;
+import com.campuscompass.backend.map.dto.FreeSlotResponse;
+import com.campuscompass.backend.map.service.RoomQueryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalTime;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/rooms")
+@RequiredArgsConstructor
+public class RoomController {
+
+    private final RoomQueryService roomQueryService;
+
+    /**
+     * GET /api/rooms/available : 캠퍼스 전체 빈 강의실
+     * - 파라미터 미지정 시: 오늘(now) 기준, 지금~2시간
+     * - features=빔프로젝터,화이트보드 : 모두 갖춘 강의실만
+     */
+    @GetMapping("/available")
+    public List<FreeRoomResponse> getFreeRooms(
+            @RequestParam(required = false) Integer dayOfWeek, // 1=월 ... 7=일
+            @RequestParam(required = false) @DateTimeFormat(pattern = "HH:mm") LocalTime start,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "HH:mm") LocalTime end,
+            @RequestParam(required = false) Integer buildingId,
+            @RequestParam(required = false) Integer minCapacity,
+            @RequestParam(required = false) List<String> features
+    ) {
+        return roomQueryService.getFreeRooms(dayOfWeek, start, end, buildingId, minCapacity, features);
+    }
+
+    /**
+     * GET /api/rooms/search : 강의실 찾기 (수용 인원이 작은 순)
+     * - minCapacity/maxCapacity, features=빔프로젝터,화이트보드 (모두 갖춘 방), buildingId
+     *   수용 인원 조건이 없으면 수용 인원이 등록되지 않은 방도 맨 뒤에 나온다.
+     * - dayOfWeek/start/end 중 하나라도 주면 그 시간에 비어 있는 방만
+     */
+    @GetMapping("/search")
+    public List<FreeRoomResponse> searchRooms(
+            @RequestParam(required = false) Integer minCapacity,
+            @RequestParam(required = false) Integer maxCapacity,
+            @RequestParam(required = false) List<String> features,
+            @RequestParam(required = false) Integer buildingId,
+            @RequestParam(required = false) Integer dayOfWeek,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "HH:mm") LocalTime start,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "HH:mm") LocalTime end,
+            @RequestParam(required = false) Integer limit
+    ) {
+        return roomQueryService.searchRooms(minCapacity, maxCapacity, features, buildingId, dayOfWeek, start, end, limit);
+    }
+
+    /** GET /api/rooms/{roomId}/free-until?dayOfWeek=&at=HH:mm : at(기본: 지금)부터 언제까지 비어 있는지 */
+    @GetMapping("/{roomId}/free-until")
+    public FreeSlotResponse freeUntil(
+            @PathVariable Integer roomId,
+            @RequestParam(required = false) Integer dayOfWeek,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "HH:mm") LocalTime at
+    ) {
+        return roomQueryService.freeUntil(roomId, dayOfWeek, at);
+    }
+
+    /** GET /api/rooms/{roomId}/next-free?dayOfWeek=&at=HH:mm&minutes= : 다음에 minutes분 이상 비는 시간 */
+    @GetMapping("/{roomId}/next-free")
+    public FreeSlotResponse nextFree(
+            @PathVariable Integer roomId,
+            @RequestParam(required = false) Integer dayOfWeek,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "HH:mm") LocalTime at,
+            @RequestParam(required = false) Integer minutes
+    ) {
+        return roomQueryService.nextFree(roomId, dayOfWeek, at, minutes);
+    }
+
+    /** GET /api/rooms/{roomId}/free-gaps?dayOfWeek=&minMinutes= : 그날의 빈 시간 목록 */
+    @GetMapping("/{roomId}/free-gaps")
+    public List<FreeSlotResponse> freeGaps(
+            @PathVariable Integer roomId,
+            @RequestParam(required = false) Integer dayOfWeek,
+            @RequestParam(required = false) Integer minMinutes
+    ) {
+        return roomQueryService.freeGaps(roomId, dayOfWeek, minMinutes);
+    }
+}
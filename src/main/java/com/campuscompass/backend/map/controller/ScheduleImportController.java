@@ -0,0 +1,35 @@
+package com.campuscompass.backend.map.controller;
+
+import com.campuscompass.backend.map.dto.ScheduleImportReport;
+import com.campuscompass.backend.map.service.ScheduleImportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+@RestController
+@RequestMapping("/api/admin/schedules")
+@RequiredArgsConstructor
+public class ScheduleImportController {
+
+    private final ScheduleImportService scheduleImportService;
+
+    /**
+     * POST /api/admin/schedules/import (multipart, file=시간표 CSV, replace=true면 기존 시간표 교체)
+     * - 문제가 없으면 200 + 결과, 있으면 아무것도 쓰지 않고 400 + 문제 목록
+     */
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ScheduleImportReport> importSchedules(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(defaultValue = "false") boolean replace
+    ) throws IOException {
+        var report = scheduleImportService.importCsv(
+                new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8), replace);
+        return report.applied() ? ResponseEntity.ok(report) : ResponseEntity.badRequest().body(report);
+    }
+}
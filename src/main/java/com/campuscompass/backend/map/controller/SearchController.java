@@ -3,6 +3,7 @@ package com.campuscompass.backend.map.controller;
 import com.campuscompass.backend.map.service.SearchQueryService;
 import com.campuscompass.backend.map.dto.SearchResultResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -12,11 +13,27 @@ import java.util.List;
 @RequiredArgsConstructor
 public class SearchController {
 
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final String PARTIAL_HEADER = "X-Search-Partial";
+
     private final SearchQueryService searchQueryService;
 
-    /** GET /api/search?query=... : 통합 검색(건물/강의실/편의시설) */
+    /**
+     * GET /api/search?query=... : 통합 검색(건물/강의실/편의시설)
+     * - limit : 한 페이지 결과 수 (기본 campus.search.default-limit)
+     * - cursor: 이전 응답의 X-Next-Cursor 헤더 값 (다음 페이지가 없으면 헤더 없음)
+     * - 일부 종류가 제한 시간을 넘겨 빠진 결과면 X-Search-Partial: true
+     */
     @GetMapping("/search")
-    public List<SearchResultResponse> search(@RequestParam String query) {
-        return searchQueryService.search(query);
+    public ResponseEntity<List<SearchResultResponse>> search(
+            @RequestParam String query,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor
+    ) {
+        var page = searchQueryService.search(query, limit, cursor);
+        var response = ResponseEntity.ok();
+        if (page.nextCursor() != null) response.header(NEXT_CURSOR_HEADER, page.nextCursor());
+        if (page.partial()) response.header(PARTIAL_HEADER, "true");
+        return response.body(page.results());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,24 @@
+package com.campuscompass.backend.map.controller;
+
+import com.campuscompass.backend.map.dto.SyncResponse;
+import com.campuscompass.backend.map.service.SyncService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/sync")
+@RequiredArgsConstructor
+public class SyncController {
+
+    private final SyncService syncService;
+
+    /**
+     * GET /api/sync?since=N : 데이터 버전 N 이후 바뀐 건물/층/방/시간표
+     * - since 생략 또는 너무 오래된 버전이면 전체 (full=true)
+     * - 응답의 version을 다음 요청의 since로 보낸다.
+     */
+    @GetMapping
+    public SyncResponse sync(@RequestParam(required = false) Long since) {
+        return syncService.sync(since);
+    }
+}
@@ -15,7 +15,8 @@ import java.util.List;
 public class Floor {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "floors_seq")
+    @SequenceGenerator(name = "floors_seq", sequenceName = "floors_seq", allocationSize = 50)
     @Column(name = "floor_id")
     private Integer id;
 
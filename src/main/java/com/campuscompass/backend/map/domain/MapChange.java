@@ -0,0 +1,50 @@
+package com.campuscompass.backend.map.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 지도 데이터(건물/층/방/시간표) 변경 기록.
+ * - version은 자동 증가 키라서 그대로 "데이터 버전"이 된다. (/api/sync?since=version)
+ * - RESET은 일괄 변경처럼 개별 행을 기록하지 않은 변경이다. (받는 쪽은 전체를 다시 받는다)
+ */
+@Entity
+@Table(name = "map_changes")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MapChange {
+
+    public enum EntityType { BUILDING, FLOOR, ROOM, SCHEDULE }
+
+    public enum Op { UPSERT, DELETE, RESET }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "version")
+    private Long version;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", length = 16)
+    private EntityType entityType; // RESET이면 null
+
+    @Column(name = "entity_id")
+    private Integer entityId;      // RESET이면 null
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 8)
+    private Op op;
+
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+
+    public MapChange(EntityType entityType, Integer entityId, Op op) {
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.op = op;
+        this.changedAt = LocalDateTime.now();
+    }
+}
@@ -14,7 +14,8 @@ import java.time.LocalTime;
 public class Schedule {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "schedules_seq")
+    @SequenceGenerator(name = "schedules_seq", sequenceName = "schedules_seq", allocationSize = 50)
     @Column(name = "schedule_id")
     private Integer id;
 
@@ -34,4 +35,12 @@ public class Schedule {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "room_id")
     private Room room;
+
+    public Schedule(Room room, Integer dayOfWeek, LocalTime startTime, LocalTime endTime, String courseName) {
+        this.room = room;
+        this.dayOfWeek = dayOfWeek;
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.courseName = courseName;
+    }
 }
\ No newline at end of file
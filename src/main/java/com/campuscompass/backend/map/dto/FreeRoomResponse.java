@@ -0,0 +1,13 @@
+package com.campuscompass.backend.map.dto;
+
+public record FreeRoomResponse(
+        Integer roomId,
+        String roomNumber,
+        String name,
+        Integer capacity,
+        String features,
+        Integer buildingId,
+        String buildingName,
+        Integer floorId,
+        Integer floorLevel
+) { }
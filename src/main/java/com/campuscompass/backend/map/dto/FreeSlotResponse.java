@@ -0,0 +1,17 @@
+package com.campuscompass.backend.map.dto;
+
+import java.time.LocalTime;
+
+/**
+ * 방 하나의 빈 시간
+ * - free=false : 조건에 맞는 빈 시간이 없음 (start/end는 null, minutes는 0)
+ * - end=null   : 하루 끝(24:00)까지 비어 있음
+ */
+public record FreeSlotResponse(
+        Integer roomId,
+        Integer dayOfWeek,
+        boolean free,
+        LocalTime start,
+        LocalTime end,
+        long minutes
+) { }
@@ -0,0 +1,9 @@
+package com.campuscompass.backend.map.dto;
+
+public record NearbyBuildingResponse(
+        Integer buildingId,
+        String name,
+        Double latitude,
+        Double longitude,
+        Double distanceMeters
+) { }
@@ -0,0 +1,23 @@
+package com.campuscompass.backend.map.dto;
+
+import java.util.List;
+
+/**
+ * 시간표 일괄 가져오기 결과
+ * - applied=false면 문제가 있어 아무것도 쓰지 않았다. (problems에 앞쪽 일부만, 전체 개수는 problemCount)
+ *
+ * @param rows     읽은 데이터 행 수 (헤더/빈 줄 제외)
+ * @param imported 새로 넣은 시간표 수
+ * @param deleted  replace=true일 때 지운 기존 시간표 수
+ */
+public record ScheduleImportReport(
+        int rows,
+        int imported,
+        int deleted,
+        boolean applied,
+        int problemCount,
+        List<Problem> problems
+) {
+    /** line: CSV 줄 번호 (1부터, 헤더 포함) */
+    public record Problem(long line, String message) { }
+}
@@ -0,0 +1,14 @@
+package com.campuscompass.backend.map.dto;
+
+import java.util.List;
+
+/**
+ * 통합 검색 한 페이지.
+ * - nextCursor가 null이면 마지막 페이지
+ * - partial이면 제한 시간 안에 끝나지 못한 종류가 빠진 결과
+ */
+public record SearchPage(
+        List<SearchResultResponse> results,
+        String nextCursor,
+        boolean partial
+) { }
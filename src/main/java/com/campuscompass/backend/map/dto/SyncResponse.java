@@ -0,0 +1,33 @@
+package com.campuscompass.backend.map.dto;
+
+import com.campuscompass.backend.map.snapshot.BuildingRow;
+import com.campuscompass.backend.map.snapshot.FloorRow;
+import com.campuscompass.backend.map.snapshot.RoomRow;
+import com.campuscompass.backend.map.snapshot.ScheduleRow;
+
+import java.util.List;
+
+/**
+ * /api/sync 응답
+ * - full=true  : 전체 데이터 (받는 쪽은 가지고 있던 것을 모두 버리고 교체)
+ * - full=false : since 이후 바뀐 행(upsert)과 지워진 id(deleted)만
+ * - version    : 다음 요청의 since로 쓸 값
+ */
+public record SyncResponse(
+        long version,
+        boolean full,
+        List<BuildingRow> buildings,
+        List<FloorRow> floors,
+        List<RoomRow> rooms,
+        List<ScheduleRow> schedules,
+        Deleted deleted
+) {
+    public record Deleted(
+            List<Integer> buildings,
+            List<Integer> floors,
+            List<Integer> rooms,
+            List<Integer> schedules
+    ) {
+        public static final Deleted NONE = new Deleted(List.of(), List.of(), List.of(), List.of());
+    }
+}
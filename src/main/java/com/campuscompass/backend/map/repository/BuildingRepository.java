@@ -3,6 +3,7 @@ package com.campuscompass.backend.map.repository;
 import com.campuscompass.backend.map.domain.Building;
 import com.campuscompass.backend.map.dto.BuildingDetailResponse;
 import com.campuscompass.backend.map.dto.BuildingResponse;
+import com.campuscompass.backend.map.snapshot.BuildingRow;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
@@ -27,4 +28,13 @@ public interface BuildingRepository extends JpaRepository<Building, Integer> {
         where b.id = :buildingId
     """)
     Optional<BuildingDetailResponse> findHeader(Integer buildingId);
+
+    /** 캠퍼스 스냅샷용 전체 건물 */
+    @Query("""
+        select new com.campuscompass.backend.map.snapshot.BuildingRow(
+            b.id, b.name, b.latitude, b.longitude, b.description
+        )
+        from Building b
+    """)
+    List<BuildingRow> findAllRows();
 }
\ No newline at end of file
@@ -0,0 +1,11 @@
+package com.campuscompass.backend.map.repository;
+
+/** 내보내기(스트리밍) 쿼리들이 같이 쓰는 힌트 값 */
+public final class ExportHints {
+
+    /** 내보내기 스트림이 DB에서 한 번에 가져오는 행 수 */
+    public static final String FETCH_SIZE = "500";
+
+    private ExportHints() {
+    }
+}
@@ -2,6 +2,7 @@ package com.campuscompass.backend.map.repository;
 
 import com.campuscompass.backend.map.domain.Floor;
 import com.campuscompass.backend.map.dto.FloorResponse;
+import com.campuscompass.backend.map.snapshot.FloorRow;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
@@ -17,4 +18,13 @@ public interface FloorRepository extends JpaRepository<Floor, Integer> {
         order by f.level asc
     """)
     List<FloorResponse> findFloorsOfBuilding(Integer buildingId);
+
+    /** 캠퍼스 스냅샷용 전체 층 */
+    @Query("""
+        select new com.campuscompass.backend.map.snapshot.FloorRow(
+            f.id, f.building.id, f.level, f.name
+        )
+        from Floor f
+    """)
+    List<FloorRow> findAllRows();
 }
\ No newline at end of file
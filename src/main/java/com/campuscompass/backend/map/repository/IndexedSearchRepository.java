@@ -0,0 +1,57 @@
+package com.campuscompass.backend.map.repository;
+
+import com.campuscompass.backend.map.dto.SearchResultResponse;
+import com.campuscompass.backend.map.snapshot.CampusSnapshotHolder;
+import com.campuscompass.backend.map.snapshot.SearchIndex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 캠퍼스 스냅샷의 n-gram 색인으로 검색한다. (LIKE '%q%' 쿼리 없음)
+ * - 결과와 정렬은 SearchRepositoryImpl(JPQL)과 같고, 색인 순서가 곧 결과 순서라서 limit개를 찾으면 바로 멈춘다.
+ * - campus.search.index.enabled=false 이면 JPQL 구현을 그대로 사용한다.
+ * - campus.search.hangul.enabled=true(기본)이면 초성("ㅈㄹㄱ")과 입력 중인 음절("지", "짛")도 찾는다.
+ */
+@Primary
+@Repository
+@ConditionalOnProperty(name = "campus.search.index.enabled", havingValue = "true", matchIfMissing = true)
+public class IndexedSearchRepository implements SearchRepository {
+
+    private final CampusSnapshotHolder snapshotHolder;
+    private final SearchIndex.Mode mode;
+
+    public IndexedSearchRepository(CampusSnapshotHolder snapshotHolder,
+                                   @Value("${campus.search.hangul.enabled:true}") boolean hangulEnabled) {
+        this.snapshotHolder = snapshotHolder;
+        this.mode = hangulEnabled ? SearchIndex.Mode.HANGUL : SearchIndex.Mode.PLAIN;
+    }
+
+    @Override
+    public boolean queriesDatabase() {
+        return false;
+    }
+
+    @Override
+    public List<SearchResultResponse> searchBuildings(String q, int limit) {
+        return snapshotHolder.current().searchIndex().searchBuildings(q, mode, limit);
+    }
+
+    @Override
+    public List<SearchResultResponse> searchRooms(String q, int limit) {
+        return snapshotHolder.current().searchIndex().searchRooms(q, mode, limit);
+    }
+
+    @Override
+    public List<SearchResultResponse> searchFacilities(String q, int limit) {
+        return snapshotHolder.current().searchIndex().searchFacilities(q, mode, limit);
+    }
+
+    @Override
+    public List<SearchResultResponse> searchFuzzy(String q, int maxDistance, int limit) {
+        return snapshotHolder.current().searchIndex().searchFuzzy(q, maxDistance, limit);
+    }
+}
@@ -0,0 +1,27 @@
+package com.campuscompass.backend.map.repository;
+
+import com.campuscompass.backend.map.domain.MapChange;
+import com.campuscompass.backend.map.snapshot.MapChangeRow;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface MapChangeRepository extends JpaRepository<MapChange, Long> {
+
+    /** 현재 데이터 버전 (변경 기록이 없으면 0) */
+    @Query("select coalesce(max(c.version), 0) from MapChange c")
+    long findHeadVersion();
+
+    /** version > after 인 변경 기록 (version 오름차순) */
+    @Query("""
+        select new com.campuscompass.backend.map.snapshot.MapChangeRow(
+            c.version, c.entityType, c.entityId, c.op
+        )
+        from MapChange c
+        where c.version > :after
+        order by c.version asc
+    """)
+    List<MapChangeRow> findRowsAfter(@Param("after") long after);
+}
@@ -3,13 +3,20 @@ package com.campuscompass.backend.map.repository;
 import com.campuscompass.backend.map.domain.Room;
 import com.campuscompass.backend.map.dto.AvailableRoomResponse;
 import com.campuscompass.backend.map.dto.RoomResponse;
+import com.campuscompass.backend.map.snapshot.RoomRow;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalTime;
 import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface RoomRepository extends JpaRepository<Room, Integer> {
 
@@ -26,6 +33,28 @@ public interface RoomRepository extends JpaRepository<Room, Integer> {
     """)
     List<RoomResponse> findRoomsInFloors(Collection<Integer> floorIds);
 
+    /** 캠퍼스 스냅샷용 전체 방 */
+    @Query("""
+        select new com.campuscompass.backend.map.snapshot.RoomRow(
+            r.id, r.floor.id, r.roomNumber, r.name, r.roomType,
+            r.capacity, r.features, r.operatingHours
+        )
+        from Room r
+    """)
+    List<RoomRow> findAllRows();
+
+    /** 내보내기용 전체 방 (id순, DB 커서로 ExportHints.FETCH_SIZE개씩 읽는다. 트랜잭션 안에서 닫아야 한다) */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = ExportHints.FETCH_SIZE))
+    @Query("""
+        select new com.campuscompass.backend.map.snapshot.RoomRow(
+            r.id, r.floor.id, r.roomNumber, r.name, r.roomType,
+            r.capacity, r.features, r.operatingHours
+        )
+        from Room r
+        order by r.id asc
+    """)
+    Stream<RoomRow> streamAllRows();
+
     /** 특정 층의 '비어있는 강의실' (시간 겹침 없음) */
     @Query("""
         select new com.campuscompass.backend.map.dto.AvailableRoomResponse(
@@ -60,4 +89,9 @@ public interface RoomRepository extends JpaRepository<Room, Integer> {
      * 이름이나 방 번호에 검색어(query)가 포함된 Room 목록을 찾는 메소드 (통합 검색용)
      */
     List<Room> findByNameContainingOrRoomNumberContaining(String name, String roomNumber);
-}
\ No newline at end of file
+
+    /** 시간표 가져오기용: 방 행을 id순으로 잠근다. (같은 방을 건드리는 가져오기를 차례로 세운다) */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select r from Room r where r.id in :ids order by r.id asc")
+    List<Room> lockAllByIdIn(@Param("ids") Collection<Integer> ids);
+}
@@ -1,16 +1,21 @@
 package com.campuscompass.backend.map.repository;
 
 import com.campuscompass.backend.map.domain.Schedule;
+import com.campuscompass.backend.map.snapshot.ScheduleRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface ScheduleRepository extends JpaRepository<Schedule, Integer> {
 
-
     @Query("SELECT s.room.id FROM Schedule s " +
             "WHERE s.dayOfWeek = :dayOfWeek " +
             "AND s.startTime < :endTime " +
@@ -19,4 +24,34 @@ public interface ScheduleRepository extends JpaRepository<Schedule, Integer> {
             @Param("dayOfWeek") int dayOfWeek,
             @Param("startTime") LocalTime startTime,
             @Param("endTime") LocalTime endTime);
+
+    /** 캠퍼스 스냅샷용 전체 시간표 */
+    @Query("""
+        select new com.campuscompass.backend.map.snapshot.ScheduleRow(
+            s.id, s.room.id, s.dayOfWeek, s.startTime, s.endTime, s.courseName
+        )
+        from Schedule s
+    """)
+    List<ScheduleRow> findAllRows();
+
+    /** 주어진 방들의 시간표 (가져오기 겹침 검사용) */
+    @Query("""
+        select new com.campuscompass.backend.map.snapshot.ScheduleRow(
+            s.id, s.room.id, s.dayOfWeek, s.startTime, s.endTime, s.courseName
+        )
+        from Schedule s
+        where s.room.id in :roomIds
+    """)
+    List<ScheduleRow> findRowsByRoomIdIn(@Param("roomIds") Collection<Integer> roomIds);
+
+    /** 내보내기용 전체 시간표 (id순, DB 커서로 ExportHints.FETCH_SIZE개씩 읽는다. 트랜잭션 안에서 닫아야 한다) */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = ExportHints.FETCH_SIZE))
+    @Query("""
+        select new com.campuscompass.backend.map.snapshot.ScheduleRow(
+            s.id, s.room.id, s.dayOfWeek, s.startTime, s.endTime, s.courseName
+        )
+        from Schedule s
+        order by s.id asc
+    """)
+    Stream<ScheduleRow> streamAllRows();
 }
\ No newline at end of file
@@ -4,8 +4,21 @@ import com.campuscompass.backend.map.dto.SearchResultResponse;
 
 import java.util.List;
 
+/**
+ * 종류별 검색. 결과는 표시 이름(대소문자 무시) 순으로 앞에서부터 최대 limit개.
+ */
 public interface SearchRepository {
-    List<SearchResultResponse> searchBuildings(String q);
-    List<SearchResultResponse> searchRooms(String q);
-    List<SearchResultResponse> searchFacilities(String q);
+    List<SearchResultResponse> searchBuildings(String q, int limit);
+    List<SearchResultResponse> searchRooms(String q, int limit);
+    List<SearchResultResponse> searchFacilities(String q, int limit);
+
+    /** 오타 허용 검색 (이름 편집 거리 maxDistance 이하, 최대 limit개). 지원하지 않는 구현은 빈 목록. */
+    default List<SearchResultResponse> searchFuzzy(String q, int maxDistance, int limit) {
+        return List.of();
+    }
+
+    /** 검색할 때 DB 쿼리를 보내는지. 보내지 않는 구현은 동시 실행 시 트랜잭션(커넥션)을 잡지 않는다. */
+    default boolean queriesDatabase() {
+        return true;
+    }
 }
\ No newline at end of file
@@ -18,7 +18,7 @@ public class SearchRepositoryImpl implements SearchRepository {
     }
 
     @Override
-    public List<SearchResultResponse> searchBuildings(String q) {
+    public List<SearchResultResponse> searchBuildings(String q, int limit) {
         return em.createQuery("""
             select new com.campuscompass.backend.map.dto.SearchResultResponse(
                 'BUILDING', b.id, b.name, null,
@@ -27,14 +27,15 @@ public class SearchRepositoryImpl implements SearchRepository {
             )
             from Building b
             where lower(b.name) like :q
-            order by lower(b.name) asc
+            order by lower(b.name) asc, b.id asc
         """, SearchResultResponse.class)
                 .setParameter("q", like(q))
+                .setMaxResults(limit)
                 .getResultList();
     }
 
     @Override
-    public List<SearchResultResponse> searchRooms(String q) {
+    public List<SearchResultResponse> searchRooms(String q, int limit) {
         return em.createQuery("""
             select new com.campuscompass.backend.map.dto.SearchResultResponse(
                 'ROOM', r.id,
@@ -46,16 +47,18 @@ public class SearchRepositoryImpl implements SearchRepository {
             from Room r
             where (lower(r.name) like :q or lower(coalesce(r.roomNumber, '')) like :q)
               and r.roomType = 'CLASSROOM'
-            order by 
+            order by
+              lower(coalesce(r.roomNumber, r.name)) asc,
               case when r.roomNumber is null then 1 else 0 end,
-              r.roomNumber asc, lower(r.name) asc
+              r.roomNumber asc, lower(r.name) asc, r.id asc
         """, SearchResultResponse.class)
                 .setParameter("q", like(q))
+                .setMaxResults(limit)
                 .getResultList();
     }
 
     @Override
-    public List<SearchResultResponse> searchFacilities(String q) {
+    public List<SearchResultResponse> searchFacilities(String q, int limit) {
         return em.createQuery("""
             select new com.campuscompass.backend.map.dto.SearchResultResponse(
                 'FACILITY', r.id,
@@ -67,9 +70,10 @@ public class SearchRepositoryImpl implements SearchRepository {
             from Room r
             where r.roomType = 'FACILITY'
               and (lower(r.name) like :q or lower(coalesce(r.features, '')) like :q)
-            order by lower(r.name) asc
+            order by lower(r.name) asc, r.id asc
         """, SearchResultResponse.class)
                 .setParameter("q", like(q))
+                .setMaxResults(limit)
                 .getResultList();
     }
 }
\ No newline at end of file
@@ -0,0 +1,94 @@
+package com.campuscompass.backend.map.service;
+
+import com.campuscompass.backend.map.snapshot.CampusSnapshot;
+import com.campuscompass.backend.map.snapshot.CampusSnapshotHolder;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 건물 목록 / 건물 상세 응답을 직렬화한 JSON 바이트와 gzip 바이트로 들고 있는 캐시.
+ * - 처음 요청될 때 한 번 만들고, 스냅샷 버전이 바뀌면 통째로 버린다.
+ * - 본문과 ETag를 같은 스냅샷에서 만들어 함께 돌려준다. (교체 중에도 새 ETag에 예전 본문이 붙지 않는다)
+ * - 컨트롤러는 이 바이트를 그대로 응답에 쓴다. (요청마다 Jackson 직렬화 / gzip 압축 없음)
+ */
+@Component
+@RequiredArgsConstructor
+public class BuildingJsonCache {
+
+    /**
+     * 같은 응답의 JSON(UTF-8) 바이트와 gzip 바이트, 그리고 각각의 강한 ETag
+     * (강한 검증자는 content-coding마다 달라야 하므로 gzip 쪽은 "<dataVersion>-gz")
+     */
+    public record Payload(String etag, String gzipEtag, byte[] json, byte[] gzip) { }
+
+    /** 스냅샷 하나의 캐시 (건물 id → 응답, LIST_KEY → 건물 목록) */
+    private record Entries(long version, CampusSnapshot snapshot, String etag, ConcurrentHashMap<Integer, Payload> payloads) { }
+
+    private static final Integer LIST_KEY = -1;
+
+    private final CampusSnapshotHolder snapshotHolder;
+    private final ObjectMapper objectMapper;
+
+    private volatile Entries entries = new Entries(-1L, null, null, new ConcurrentHashMap<>());
+
+    /** /api/buildings */
+    public Payload buildingList() {
+        var e = current();
+        return e.payloads().computeIfAbsent(LIST_KEY, k -> payload(e, e.snapshot().buildingList()));
+    }
+
+    /** /api/buildings/{id} (없는 건물이면 NoSuchElementException) */
+    public Payload building(Integer buildingId) {
+        var e = current();
+        var cached = e.payloads().get(buildingId);
+        if (cached != null) return cached;
+
+        // 없는 id로 캐시가 불어나지 않도록, 조회에 성공한 건물만 담는다.
+        var detail = e.snapshot().buildingDetail(buildingId)
+                .orElseThrow(() -> new NoSuchElementException("건물을 찾을 수 없습니다: " + buildingId));
+        var payload = payload(e, detail);
+        var previous = e.payloads().putIfAbsent(buildingId, payload);
+        return (previous != null) ? previous : payload;
+    }
+
+    private Entries current() {
+        var snapshot = snapshotHolder.current();
+        var e = entries;
+        if (e.version() == snapshot.version()) return e;
+        synchronized (this) {
+            if (entries.version() != snapshot.version()) {
+                entries = new Entries(snapshot.version(), snapshot, snapshotHolder.etag(snapshot), new ConcurrentHashMap<>());
+            }
+            return entries;
+        }
+    }
+
+    /** "\"7\"" → "\"7-gz\"" */
+    private static String gzipEtag(String etag) {
+        return etag.substring(0, etag.length() - 1) + "-gz\"";
+    }
+
+    private Payload payload(Entries entries, Object body) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(body);
+            var out = new ByteArrayOutputStream(json.length / 4 + 64);
+            try (var gzip = new GZIPOutputStream(out)) {
+                gzip.write(json);
+            }
+            return new Payload(entries.etag(), gzipEtag(entries.etag()), json, out.toByteArray());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("응답 직렬화에 실패했습니다.", e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -2,50 +2,80 @@ package com.campuscompass.backend.map.service;
 
 import com.campuscompass.backend.map.dto.BuildingDetailResponse;
 import com.campuscompass.backend.map.dto.BuildingResponse;
-import com.campuscompass.backend.map.dto.FloorResponse;
-import com.campuscompass.backend.map.dto.RoomResponse;
-import com.campuscompass.backend.map.repository.BuildingRepository;
-import com.campuscompass.backend.map.repository.FloorRepository;
-import com.campuscompass.backend.map.repository.RoomRepository;
-import lombok.RequiredArgsConstructor;
+import com.campuscompass.backend.map.dto.NearbyBuildingResponse;
+import com.campuscompass.backend.map.snapshot.CampusSnapshotHolder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
+/**
+ * 건물 조회는 메모리 스냅샷에서 바로 응답한다. (DB 왕복 없음)
+ * - 트랜잭션도 열지 않는다. 읽기 전용 트랜잭션이라도 커넥션을 잡기 때문.
+ */
 @Service
-@Transactional(readOnly = true)
-@RequiredArgsConstructor
 public class BuildingQueryService {
 
-    private final BuildingRepository buildingRepository;
-    private final FloorRepository floorRepository;
-    private final RoomRepository roomRepository;
+    private final CampusSnapshotHolder snapshotHolder;
+    private final int defaultNearestCount;
+    private final int maxNearestCount;
+
+    /**
+     * @param defaultNearestCount k 미지정 시 최근접 건물 수
+     * @param maxNearestCount     최근접 건물 수 상한
+     */
+    public BuildingQueryService(CampusSnapshotHolder snapshotHolder,
+                                @Value("${campus.buildings.nearest.default-k:5}") int defaultNearestCount,
+                                @Value("${campus.buildings.nearest.max-k:50}") int maxNearestCount) {
+        this.snapshotHolder = snapshotHolder;
+        this.defaultNearestCount = defaultNearestCount;
+        this.maxNearestCount = maxNearestCount;
+    }
 
     /** /api/buildings */
     public List<BuildingResponse> listBuildings() {
-        return buildingRepository.findAllForList();
+        return snapshotHolder.current().buildingList();
     }
 
     /** /api/buildings/{id} */
     public BuildingDetailResponse getBuilding(Integer buildingId) {
-        var header = buildingRepository.findHeader(buildingId)
+        return snapshotHolder.current().buildingDetail(buildingId)
                 .orElseThrow(() -> new NoSuchElementException("건물을 찾을 수 없습니다: " + buildingId));
+    }
 
-        var floors = floorRepository.findFloorsOfBuilding(buildingId);
-        if (floors.isEmpty()) return header.withFloors(List.of());
+    /** /api/buildings/nearest : 가까운 순 (거리 m) */
+    public List<NearbyBuildingResponse> nearestBuildings(double latitude, double longitude, Integer k) {
+        checkCoordinate(latitude, longitude);
+        int count = (k == null) ? defaultNearestCount : k;
+        if (count < 1) throw new IllegalArgumentException("k는 1 이상이어야 합니다.");
 
-        var floorIds = floors.stream().map(FloorResponse::floorId).toList();
-        var rooms = roomRepository.findRoomsInFloors(floorIds);
+        return snapshotHolder.current().spatialIndex()
+                .nearest(latitude, longitude, Math.min(count, maxNearestCount)).stream()
+                .map(n -> new NearbyBuildingResponse(
+                        n.building().id(), n.building().name(),
+                        n.building().latitude(), n.building().longitude(),
+                        n.distanceMeters()))
+                .toList();
+    }
 
-        var roomsByFloor = rooms.stream()
-                .collect(Collectors.groupingBy(RoomResponse::floorId));
+    /** /api/buildings/within : 영역 안 건물 (이름순) */
+    public List<BuildingResponse> buildingsWithin(double minLatitude, double minLongitude,
+                                                  double maxLatitude, double maxLongitude) {
+        checkCoordinate(minLatitude, minLongitude);
+        checkCoordinate(maxLatitude, maxLongitude);
+        if (minLatitude > maxLatitude || minLongitude > maxLongitude) {
+            throw new IllegalArgumentException("영역의 최솟값이 최댓값보다 큽니다.");
+        }
 
-        var floorsWithRooms = floors.stream()
-                .map(f -> f.withRooms(roomsByFloor.getOrDefault(f.floorId(), List.of())))
+        return snapshotHolder.current().spatialIndex()
+                .within(minLatitude, minLongitude, maxLatitude, maxLongitude).stream()
+                .map(b -> new BuildingResponse(b.id(), b.name(), b.latitude(), b.longitude()))
                 .toList();
+    }
 
-        return header.withFloors(floorsWithRooms);
+    private static void checkCoordinate(double latitude, double longitude) {
+        if (!(latitude >= -90 && latitude <= 90) || !(longitude >= -180 && longitude <= 180)) {
+            throw new IllegalArgumentException("잘못된 좌표입니다: " + latitude + ", " + longitude);
+        }
     }
-}
\ No newline at end of file
+}
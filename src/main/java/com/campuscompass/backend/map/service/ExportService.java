@@ -0,0 +1,78 @@
+package com.campuscompass.backend.map.service;
+
+import com.campuscompass.backend.map.repository.RoomRepository;
+import com.campuscompass.backend.map.repository.ScheduleRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * 분석용 전체 데이터 내보내기 (NDJSON: 한 줄에 JSON 객체 하나)
+ * - findAll로 엔티티를 모두 올리지 않고, DTO 프로젝션 스트림을 DB 커서로 조금씩 읽어 바로 쓴다.
+ *   프로젝션은 영속성 컨텍스트에 쌓이지 않으므로 테이블 크기와 상관없이 메모리 사용량이 일정하다.
+ * - campus.export.flush-every 행마다 출력을 flush한다.
+ * - 응답 스트림에 쓰는 동안 커서가 열려 있어야 하므로 읽기 전용 트랜잭션 하나 안에서 끝까지 쓴다.
+ */
+@Service
+public class ExportService {
+
+    private final RoomRepository roomRepository;
+    private final ScheduleRepository scheduleRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTx;
+    private final int flushEvery;
+
+    public ExportService(RoomRepository roomRepository,
+                         ScheduleRepository scheduleRepository,
+                         ObjectMapper objectMapper,
+                         PlatformTransactionManager transactionManager,
+                         @Value("${campus.export.flush-every:1000}") int flushEvery) {
+        if (flushEvery < 1) throw new IllegalArgumentException("campus.export.flush-every는 1 이상이어야 합니다.");
+        this.roomRepository = roomRepository;
+        this.scheduleRepository = scheduleRepository;
+        this.objectMapper = objectMapper;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.flushEvery = flushEvery;
+    }
+
+    /** 전체 방 (id순) → 쓴 행 수 */
+    public long exportRooms(OutputStream out) {
+        return export(roomRepository::streamAllRows, out);
+    }
+
+    /** 전체 시간표 (id순) → 쓴 행 수 */
+    public long exportSchedules(OutputStream out) {
+        return export(scheduleRepository::streamAllRows, out);
+    }
+
+    private <T> long export(Supplier<Stream<T>> query, OutputStream out) {
+        Long written = readOnlyTx.execute(status -> {
+            try (var rows = query.get();
+                 var generator = objectMapper.getFactory().createGenerator(out)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.setRootValueSeparator(null);   // 값 사이 기본 공백 대신 줄바꿈만
+                long count = 0;
+                for (var it = rows.iterator(); it.hasNext(); ) {
+                    objectMapper.writeValue(generator, it.next());
+                    generator.writeRaw('\n');
+                    if (++count % flushEvery == 0) generator.flush();
+                }
+                generator.flush();
+                return count;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return written == null ? 0 : written;
+    }
+}
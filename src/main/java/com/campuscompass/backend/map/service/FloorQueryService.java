@@ -1,30 +1,32 @@
 package com.campuscompass.backend.map.service;
 
 import com.campuscompass.backend.map.dto.AvailableRoomResponse;
-import com.campuscompass.backend.map.repository.FloorRepository;
-import com.campuscompass.backend.map.repository.RoomRepository;
+import com.campuscompass.backend.map.snapshot.CampusSnapshotHolder;
+import com.campuscompass.backend.map.snapshot.OccupancyIndex;
+import com.campuscompass.backend.map.snapshot.RoomRow;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.List;
 import java.util.NoSuchElementException;
 
+/**
+ * 빈 강의실 조회는 스냅샷의 사용 현황 인덱스(OccupancyIndex)로 판정한다. (SQL 없음)
+ */
 @Service
-@Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class FloorQueryService {
 
-    private final FloorRepository floorRepository;
-    private final RoomRepository roomRepository;
+    private final CampusSnapshotHolder snapshotHolder;
 
     public List<AvailableRoomResponse> getAvailableRooms(Integer floorId,
                                                     Integer dayOfWeek,
                                                     LocalTime start,
                                                     LocalTime end) {
-        if (!floorRepository.existsById(floorId)) {
+        var snapshot = snapshotHolder.current();
+        if (snapshot.floor(floorId) == null) {
             throw new NoSuchElementException("존재하지 않는 층입니다: " + floorId);
         }
 
@@ -34,6 +36,13 @@ public class FloorQueryService {
         LocalTime e = (end != null) ? end : s.plusHours(2);
         if (!e.isAfter(s)) throw new IllegalArgumentException("end는 start 이후여야 합니다.");
 
-        return roomRepository.findAvailableClassrooms(floorId, dow, s, e);
+        var occupancy = snapshot.occupancy();
+        var window = OccupancyIndex.window(s, e);
+
+        return snapshot.roomsOfFloor(floorId).stream()
+                .filter(RoomRow::isClassroom)
+                .filter(r -> occupancy.isFree(r.id(), dow, window))
+                .map(r -> new AvailableRoomResponse(r.id(), r.roomNumber(), r.name(), r.capacity(), r.features()))
+                .toList();
     }
-}
\ No newline at end of file
+}
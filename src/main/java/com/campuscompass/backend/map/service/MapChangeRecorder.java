@@ -0,0 +1,56 @@
+package com.campuscompass.backend.map.service;
+
+import com.campuscompass.backend.map.domain.MapChange;
+import com.campuscompass.backend.map.repository.MapChangeRepository;
+import com.campuscompass.backend.map.snapshot.CampusSnapshotHolder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 지도 데이터를 바꾸는 쪽이 호출하는 변경 기록기.
+ * - 변경과 같은 트랜잭션에서 map_changes에 한 줄 남긴다. (version = 새 데이터 버전)
+ * - 트랜잭션이 커밋되면 캠퍼스 스냅샷을 한 번만 다시 읽는다. (여러 건을 기록해도 한 번)
+ */
+@Component
+@RequiredArgsConstructor
+public class MapChangeRecorder {
+
+    private final MapChangeRepository mapChangeRepository;
+    private final CampusSnapshotHolder snapshotHolder;
+
+    @Transactional
+    public void upserted(MapChange.EntityType type, Integer id) {
+        record(new MapChange(type, id, MapChange.Op.UPSERT));
+    }
+
+    @Transactional
+    public void deleted(MapChange.EntityType type, Integer id) {
+        record(new MapChange(type, id, MapChange.Op.DELETE));
+    }
+
+    /** 행 단위로 기록하지 않은 일괄 변경 (동기화하는 쪽은 전체를 다시 받는다) */
+    @Transactional
+    public void reset() {
+        record(new MapChange(null, null, MapChange.Op.RESET));
+    }
+
+    private void record(MapChange change) {
+        mapChangeRepository.save(change);
+        reloadAfterCommit();
+    }
+
+    private void reloadAfterCommit() {
+        if (TransactionSynchronizationManager.hasResource(this)) return;   // 이미 등록됨
+        TransactionSynchronizationManager.bindResource(this, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(MapChangeRecorder.this);
+                if (status == STATUS_COMMITTED) snapshotHolder.reload();
+            }
+        });
+    }
+}
@@ -0,0 +1,159 @@
+package com.campuscompass.backend.map.service;
+
+import com.campuscompass.backend.map.snapshot.CampusSnapshot;
+import com.campuscompass.backend.map.snapshot.CampusSnapshotHolder;
+import com.campuscompass.backend.map.snapshot.CampusSnapshotReloadedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 오프라인 모드용 캠퍼스 전체 번들 (건물/층/방/주간 시간표).
+ * - 내용은 /api/sync 전체 응답과 같은 JSON을 gzip으로 압축한 파일이다. (version부터 증분 동기화를 이어 갈 수 있다)
+ * - 스냅샷이 바뀌면 백그라운드 스레드에서 새로 만들고, 파일은 읽기 전용으로 메모리 매핑해 둔다.
+ *   새 번들이 준비될 때까지는 이전 번들(자기 ETag와 함께)을 보낸다. (요청 스레드는 기동 직후 한 번만 만든다)
+ * - 파일 이름은 데이터 해시로 정한다. (campus-bundle-<dataHash>.json.gz, 다시 읽었는데 행이 그대로면 파일도 그대로 쓴다)
+ * - 받는 중인 요청이 있을 수 있으므로 바로 전 파일까지는 남겨 두고 그 이전 것만 지운다.
+ *   이전 프로세스가 남긴 campus-bundle-* 파일은 처음 만들 때 모두 지운다. (campus.bundle.dir은 인스턴스마다 따로)
+ */
+@Slf4j
+@Service
+public class OfflineBundleService {
+
+    /**
+     * 만들어 둔 번들
+     *
+     * @param buffer 파일 전체를 매핑한 버퍼 (읽을 때는 slice로 나눠 쓴다)
+     */
+    public record Bundle(long version, long dataVersion, String etag, Path file, MappedByteBuffer buffer) {
+        public long size() {
+            return buffer.capacity();
+        }
+    }
+
+    private static final String FILE_PREFIX = "campus-bundle-";
+
+    private final CampusSnapshotHolder snapshotHolder;
+    private final ObjectMapper objectMapper;
+    private final Path directory;
+
+    private volatile Bundle current;
+    private Bundle previous;
+    private final ExecutorService rebuilder = Executors.newSingleThreadExecutor(r -> {
+        var t = new Thread(r, "offline-bundle-rebuild");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public OfflineBundleService(CampusSnapshotHolder snapshotHolder,
+                                ObjectMapper objectMapper,
+                                @Value("${campus.bundle.dir:${java.io.tmpdir}/campus-compass-bundle}") Path directory) {
+        this.snapshotHolder = snapshotHolder;
+        this.objectMapper = objectMapper;
+        this.directory = directory;
+    }
+
+    /** 지금 보낼 번들 (새 스냅샷의 번들을 만드는 중이면 이전 번들) */
+    public Bundle bundle() {
+        var b = current;
+        if (b != null) return b;
+
+        // 아직 한 번도 만들지 않았음 (기동 직후)
+        synchronized (this) {
+            b = current;
+            return (b != null) ? b : install(snapshotHolder.current());
+        }
+    }
+
+    /** 스냅샷이 바뀌면 새 번들을 백그라운드에서 만든다. (그사이 더 새 스냅샷이 나왔으면 건너뛴다) */
+    @EventListener
+    public void onSnapshotReloaded(CampusSnapshotReloadedEvent event) {
+        var snapshot = event.snapshot();
+        rebuilder.execute(() -> {
+            if (snapshotHolder.current().version() > snapshot.version()) return;
+            try {
+                install(snapshot);
+            } catch (RuntimeException e) {
+                log.error("오프라인 번들을 만들지 못했습니다: version={}", snapshot.version(), e);
+            }
+        });
+    }
+
+    private synchronized Bundle install(CampusSnapshot snapshot) {
+        var b = current;
+        if (b != null && b.version() >= snapshot.version()) return b;
+
+        var etag = snapshotHolder.etag(snapshot);
+        if (b != null && b.etag().equals(etag)) {
+            // 행이 그대로면 같은 파일을 새 버전으로만 다시 건다
+            return current = new Bundle(snapshot.version(), snapshot.changeLog().head(), etag, b.file(), b.buffer());
+        }
+        if (b == null) deleteStaleFiles();
+
+        var next = write(snapshot, etag);
+        if (previous != null && !previous.file().equals(next.file())) delete(previous.file());   // 예전 데이터로 돌아온 경우 같은 이름
+        previous = current;
+        current = next;
+        log.info("오프라인 번들 생성: version={}, dataVersion={}, bytes={}, file={}",
+                next.version(), next.dataVersion(), next.size(), next.file());
+        return next;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        rebuilder.shutdownNow();
+    }
+
+    /** 다 쓴 뒤에 제 이름으로 옮기므로, 같은 이름의 파일은 항상 완성된 번들이다. */
+    private Bundle write(CampusSnapshot snapshot, String etag) {
+        try {
+            Files.createDirectories(directory);
+            var file = directory.resolve(FILE_PREFIX + snapshot.dataHash() + ".json.gz");
+            var temp = Files.createTempFile(directory, FILE_PREFIX, ".tmp");
+            try (var out = new GZIPOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)), 64 * 1024)) {
+                objectMapper.writeValue(out, SyncService.full(snapshot));
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                var buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                return new Bundle(snapshot.version(), snapshot.changeLog().head(), etag, file, buffer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("오프라인 번들을 만들지 못했습니다.", e);
+        }
+    }
+
+    /** 이전 프로세스가 남긴 번들과 쓰다 만 임시 파일 */
+    private void deleteStaleFiles() {
+        if (!Files.isDirectory(directory)) return;
+        try (var stale = Files.newDirectoryStream(directory, FILE_PREFIX + "*")) {
+            for (var file : stale) delete(file);
+        } catch (IOException e) {
+            log.warn("남은 오프라인 번들을 지우지 못했습니다: {}", directory, e);
+        }
+    }
+
+    private static void delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("이전 오프라인 번들을 지우지 못했습니다: {}", file, e);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.campuscompass.backend.map.service;
+
+import com.campuscompass.backend.map.dto.FreeRoomResponse;
+import com.campuscompass.backend.map.dto.FreeSlotResponse;
+import com.campuscompass.backend.map.snapshot.CampusSnapshot;
+import com.campuscompass.backend.map.snapshot.CampusSnapshotHolder;
+import com.campuscompass.backend.map.snapshot.OccupancyIndex;
+import com.campuscompass.backend.map.snapshot.RoomRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+@Service
+@RequiredArgsConstructor
+public class RoomQueryService {
+
+    private final CampusSnapshotHolder snapshotHolder;
+
+    /**
+     * 캠퍼스 전체 빈 강의실 (건물 이름 → 층 → 방 순)
+     * - 요일/시각 미지정 시: 오늘(now) 기준, 지금~2시간
+     */
+    public List<FreeRoomResponse> getFreeRooms(Integer dayOfWeek,
+                                               LocalTime start,
+                                               LocalTime end,
+                                               Integer buildingId,
+                                               Integer minCapacity,
+                                               List<String> features) {
+        var snapshot = snapshotHolder.current();
+        if (buildingId != null && snapshot.building(buildingId) == null) {
+            throw new NoSuchElementException("건물을 찾을 수 없습니다: " + buildingId);
+        }
+
+        var now = LocalDateTime.now();
+        int dow = (dayOfWeek != null) ? dayOfWeek : now.getDayOfWeek().getValue(); // 1=월
+        LocalTime s = (start != null) ? start : now.toLocalTime();
+        LocalTime e = (end != null) ? end : s.plusHours(2);
+        if (!e.isAfter(s)) throw new IllegalArgumentException("end는 start 이후여야 합니다.");
+
+        return snapshot.freeRooms()
+                .findFree(dow, OccupancyIndex.window(s, e), buildingId, minCapacity, features)
+                .stream()
+                .map(r -> toFreeRoomResponse(snapshot, r))
+                .toList();
+    }
+
+    /**
+     * 강의실 찾기: 수용 인원이 작은 순 (조건을 만족하는 가장 작은 방부터, 수용 인원 조건이 없으면 인원 미등록 방은 맨 뒤)
+     * - 요일/시각을 하나도 주지 않으면 시간 조건 없이, 하나라도 주면 빈 강의실 조회와 같은 기본값(오늘, 지금~2시간)
+     */
+    public List<FreeRoomResponse> searchRooms(Integer minCapacity,
+                                              Integer maxCapacity,
+                                              List<String> features,
+                                              Integer buildingId,
+                                              Integer dayOfWeek,
+                                              LocalTime start,
+                                              LocalTime end,
+                                              Integer limit) {
+        var snapshot = snapshotHolder.current();
+        if (buildingId != null && snapshot.building(buildingId) == null) {
+            throw new NoSuchElementException("건물을 찾을 수 없습니다: " + buildingId);
+        }
+        if (minCapacity != null && maxCapacity != null && maxCapacity < minCapacity) {
+            throw new IllegalArgumentException("maxCapacity는 minCapacity 이상이어야 합니다.");
+        }
+        if (limit != null && limit < 1) throw new IllegalArgumentException("limit은 1 이상이어야 합니다.");
+
+        int dow = 0;
+        OccupancyIndex.Window window = null;
+        if (dayOfWeek != null || start != null || end != null) {
+            var now = LocalDateTime.now();
+            dow = dayOfWeek(dayOfWeek, now);
+            LocalTime s = (start != null) ? start : now.toLocalTime();
+            LocalTime e = (end != null) ? end : s.plusHours(2);
+            if (!e.isAfter(s)) throw new IllegalArgumentException("end는 start 이후여야 합니다.");
+            window = OccupancyIndex.window(s, e);
+        }
+
+        return snapshot.freeRooms()
+                .findByCapacity(dow, window, buildingId, minCapacity, maxCapacity, features,
+                        (limit != null) ? limit : Integer.MAX_VALUE)
+                .stream()
+                .map(r -> toFreeRoomResponse(snapshot, r))
+                .toList();
+    }
+
+    private static FreeRoomResponse toFreeRoomResponse(CampusSnapshot snapshot, RoomRow r) {
+        var floor = snapshot.floor(r.floorId());
+        var building = snapshot.building(floor.buildingId());
+        return new FreeRoomResponse(r.id(), r.roomNumber(), r.name(), r.capacity(), r.features(),
+                building.id(), building.name(), floor.id(), floor.level());
+    }
+
+    /** at(기본: 지금)부터 언제까지 비어 있는지. at에 수업 중이면 free=false */
+    public FreeSlotResponse freeUntil(Integer roomId, Integer dayOfWeek, LocalTime at) {
+        var now = LocalDateTime.now();
+        int dow = dayOfWeek(dayOfWeek, now);
+        var slot = occupancyOf(roomId).freeAt(roomId, dow, (at != null) ? at : now.toLocalTime());
+        return toResponse(roomId, dow, slot);
+    }
+
+    /** at(기본: 지금) 이후 처음으로 minutes분(기본 0: 길이 무관) 이상 비는 시간. 그날 안에 없으면 free=false */
+    public FreeSlotResponse nextFree(Integer roomId, Integer dayOfWeek, LocalTime at, Integer minutes) {
+        var now = LocalDateTime.now();
+        int dow = dayOfWeek(dayOfWeek, now);
+        var slot = occupancyOf(roomId).nextFree(roomId, dow, (at != null) ? at : now.toLocalTime(), minLength(minutes));
+        return toResponse(roomId, dow, slot);
+    }
+
+    /** 그날(기본: 오늘)의 빈 시간 중 minMinutes분 이상인 것 (시작 시각 순) */
+    public List<FreeSlotResponse> freeGaps(Integer roomId, Integer dayOfWeek, Integer minMinutes) {
+        int dow = dayOfWeek(dayOfWeek, LocalDateTime.now());
+        return occupancyOf(roomId).freeSlots(roomId, dow, minLength(minMinutes)).stream()
+                .map(slot -> toResponse(roomId, dow, Optional.of(slot)))
+                .toList();
+    }
+
+    private OccupancyIndex occupancyOf(Integer roomId) {
+        var snapshot = snapshotHolder.current();
+        if (snapshot.room(roomId) == null) throw new NoSuchElementException("방을 찾을 수 없습니다: " + roomId);
+        return snapshot.occupancy();
+    }
+
+    private static int dayOfWeek(Integer dayOfWeek, LocalDateTime now) {
+        if (dayOfWeek == null) return now.getDayOfWeek().getValue(); // 1=월
+        if (dayOfWeek < 1 || dayOfWeek > 7) throw new IllegalArgumentException("dayOfWeek는 1~7이어야 합니다.");
+        return dayOfWeek;
+    }
+
+    private static Duration minLength(Integer minutes) {
+        if (minutes == null) return Duration.ZERO;
+        if (minutes < 0) throw new IllegalArgumentException("minutes는 0 이상이어야 합니다.");
+        return Duration.ofMinutes(minutes);
+    }
+
+    private static FreeSlotResponse toResponse(Integer roomId, int dayOfWeek, Optional<OccupancyIndex.FreeSlot> slot) {
+        return slot.map(s -> new FreeSlotResponse(roomId, dayOfWeek, true, s.start(), s.end(), s.length().toMinutes()))
+                .orElseGet(() -> new FreeSlotResponse(roomId, dayOfWeek, false, null, null, 0));
+    }
+}
@@ -0,0 +1,54 @@
+package com.campuscompass.backend.map.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 명령행 시간표 가져오기. 가져온 뒤 종료한다. (성공 0, 문제가 있으면 1)
+ * java -jar app.jar --campus.import.schedules=timetable.csv [--campus.import.replace=true]
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty("campus.import.schedules")
+public class ScheduleImportRunner implements ApplicationRunner {
+
+    private final ScheduleImportService scheduleImportService;
+    private final ConfigurableApplicationContext context;
+    private final Path file;
+    private final boolean replace;
+
+    public ScheduleImportRunner(ScheduleImportService scheduleImportService,
+                                ConfigurableApplicationContext context,
+                                @Value("${campus.import.schedules}") Path file,
+                                @Value("${campus.import.replace:false}") boolean replace) {
+        this.scheduleImportService = scheduleImportService;
+        this.context = context;
+        this.file = file;
+        this.replace = replace;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        try (var reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            var report = scheduleImportService.importCsv(reader, replace);
+            if (report.applied()) {
+                log.info("시간표 가져오기 완료: {} (imported={}, deleted={})", file, report.imported(), report.deleted());
+            } else {
+                log.error("시간표 가져오기 실패: {} (문제 {}건, 아무것도 쓰지 않음)", file, report.problemCount());
+                report.problems().forEach(p -> log.error("  {}행: {}", p.line(), p.message()));
+            }
+            int code = report.applied() ? 0 : 1;
+            System.exit(SpringApplication.exit(context, () -> code));
+        }
+    }
+}
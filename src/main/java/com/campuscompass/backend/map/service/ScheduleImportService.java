@@ -0,0 +1,349 @@
+package com.campuscompass.backend.map.service;
+
+import com.campuscompass.backend.map.domain.Room;
+import com.campuscompass.backend.map.domain.Schedule;
+import com.campuscompass.backend.map.dto.ScheduleImportReport;
+import com.campuscompass.backend.map.dto.ScheduleImportReport.Problem;
+import com.campuscompass.backend.map.repository.RoomRepository;
+import com.campuscompass.backend.map.repository.ScheduleRepository;
+import com.campuscompass.backend.map.snapshot.CampusSnapshot;
+import com.campuscompass.backend.map.snapshot.CampusSnapshotHolder;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 학기 시간표 일괄 가져오기 (CSV, 엑셀에서 "CSV UTF-8"로 저장한 파일)
+ * - 헤더로 열을 찾는다. 방은 room_id 또는 건물+강의실(방 번호나 이름)로 지정한다.
+ *   room_id | building(건물), room(강의실) / day_of_week(요일) / start_time(시작) / end_time(종료) / course_name(과목)
+ *   요일은 1~7 또는 월~일, 시각은 HH:mm
+ * - 한 줄씩 읽으면서 캠퍼스 스냅샷의 방 목록으로 방 참조를 확인한다.
+ * - 방·요일·시작 시각으로 정렬한 뒤 한 번 훑어 같은 방의 겹치는 시간표를 찾는다.
+ *   (replace=false면 이미 있는 시간표와 겹치는 것도 찾는다. 이 검사는 쓰기 트랜잭션 안에서
+ *   파일에 나온 방 행을 잠그고 그 방들의 시간표를 DB에서 다시 읽어 한다)
+ * - 문제가 하나라도 있으면 아무것도 쓰지 않는다.
+ * - 쓰기는 트랜잭션 하나에서 persist하고 campus.import.batch-size개마다 flush/clear한다.
+ *   시간표 id가 pooled 시퀀스라 Hibernate가 INSERT를 hibernate.jdbc.batch_size개씩 묶어 보낸다.
+ *   끝에 변경 기록(RESET)을 남긴다.
+ *   빈 강의실 표 같은 파생 구조는 커밋 뒤 스냅샷을 한 번 다시 읽으면서 새로 만들어진다.
+ */
+@Slf4j
+@Service
+public class ScheduleImportService {
+
+    private static final String DAYS = "월화수목금토일";
+
+    /** 가져올 시간표 한 줄 */
+    record Entry(long line, int roomId, int dayOfWeek, LocalTime start, LocalTime end, String courseName) { }
+
+    private final CampusSnapshotHolder snapshotHolder;
+    private final RoomRepository roomRepository;
+    private final ScheduleRepository scheduleRepository;
+    private final EntityManager entityManager;
+    private final MapChangeRecorder mapChangeRecorder;
+    private final TransactionTemplate tx;
+    private final int batchSize;
+    private final int maxProblems;
+
+    public ScheduleImportService(CampusSnapshotHolder snapshotHolder,
+                                 RoomRepository roomRepository,
+                                 ScheduleRepository scheduleRepository,
+                                 EntityManager entityManager,
+                                 MapChangeRecorder mapChangeRecorder,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${campus.import.batch-size:1000}") int batchSize,
+                                 @Value("${campus.import.max-problems:100}") int maxProblems) {
+        if (batchSize < 1) throw new IllegalArgumentException("campus.import.batch-size는 1 이상이어야 합니다.");
+        this.snapshotHolder = snapshotHolder;
+        this.roomRepository = roomRepository;
+        this.scheduleRepository = scheduleRepository;
+        this.entityManager = entityManager;
+        this.mapChangeRecorder = mapChangeRecorder;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxProblems = maxProblems;
+    }
+
+    /**
+     * @param replace true면 기존 시간표를 모두 지우고 파일 내용으로 바꾼다. (학기 교체)
+     */
+    public ScheduleImportReport importCsv(Reader csv, boolean replace) {
+        var problems = new Problems(maxProblems);
+        var entries = parse(csv, snapshotHolder.current(), problems);
+        if (problems.count > 0) return rejected(entries, problems);
+
+        // 기존 시간표와의 겹침은 쓰기 트랜잭션 안에서, 파일에 나온 방들을 잠근 뒤 DB에서 다시 읽어 검사한다.
+        // (스냅샷은 오래됐을 수 있고, 같은 방을 건드리는 다른 가져오기가 동시에 커밋할 수 있다)
+        var report = Objects.requireNonNull(tx.execute(status -> {
+            var roomIds = entries.stream().map(Entry::roomId).collect(Collectors.toCollection(TreeSet::new));
+            var locked = roomIds.isEmpty() ? Set.<Integer>of()
+                    : roomRepository.lockAllByIdIn(roomIds).stream().map(Room::getId).collect(Collectors.toSet());
+            for (var e : entries) {
+                if (!locked.contains(e.roomId())) problems.add(e.line(), "방을 찾을 수 없습니다: " + e.roomId());
+            }
+            findOverlaps(entries, replace ? List.of() : existing(roomIds), problems);
+            if (problems.count > 0) {
+                status.setRollbackOnly();
+                return rejected(entries, problems);
+            }
+
+            int removed = replace ? entityManager.createQuery("delete from Schedule").executeUpdate() : 0;
+            int pending = 0;
+            for (var e : entries) {
+                var room = entityManager.getReference(Room.class, e.roomId());
+                entityManager.persist(new Schedule(room, e.dayOfWeek(), e.start(), e.end(), e.courseName()));
+                if (++pending == batchSize) {
+                    entityManager.flush();
+                    entityManager.clear();
+                    pending = 0;
+                }
+            }
+            entityManager.flush();
+            entityManager.clear();
+            mapChangeRecorder.reset();   // 커밋 뒤 스냅샷을 한 번만 다시 읽는다
+            return new ScheduleImportReport(entries.size(), entries.size(), removed, true, 0, List.of());
+        }));
+        if (report.applied()) log.info("시간표 가져오기: imported={}, deleted={}", report.imported(), report.deleted());
+        return report;
+    }
+
+    private static ScheduleImportReport rejected(List<Entry> entries, Problems problems) {
+        return new ScheduleImportReport(entries.size() + problems.rejectedRows, 0, 0, false,
+                problems.count, problems.list);
+    }
+
+    // ---------- 읽기 / 검증 ----------
+
+    private List<Entry> parse(Reader csv, CampusSnapshot snapshot, Problems problems) {
+        var rooms = new RoomLookup(snapshot);
+        var entries = new ArrayList<Entry>();
+        try (var reader = new BufferedReader(csv)) {
+            var header = reader.readLine();
+            if (header == null) {
+                problems.add(1, "빈 파일입니다.");
+                return entries;
+            }
+            var columns = Columns.of(splitCsvLine(header.replace("\uFEFF", "")));
+            if (columns.missing() != null) {
+                problems.add(1, columns.missing());
+                return entries;
+            }
+
+            long lineNo = 1;
+            for (var line = reader.readLine(); line != null; line = reader.readLine()) {
+                lineNo++;
+                if (line.isBlank()) continue;
+                var entry = parseRow(lineNo, splitCsvLine(line), columns, rooms, problems);
+                if (entry != null) entries.add(entry);
+                else problems.rejectedRows++;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("시간표 파일을 읽지 못했습니다.", e);
+        }
+        return entries;
+    }
+
+    private static Entry parseRow(long line, List<String> f, Columns c, RoomLookup rooms, Problems problems) {
+        Integer roomId = (c.roomId >= 0)
+                ? rooms.byId(field(f, c.roomId))
+                : rooms.byName(field(f, c.building), field(f, c.room));
+        if (roomId == null) {
+            problems.add(line, "방을 찾을 수 없습니다: " + (c.roomId >= 0
+                    ? field(f, c.roomId) : field(f, c.building) + " " + field(f, c.room)));
+            return null;
+        }
+        int day = dayOfWeek(field(f, c.day));
+        if (day < 0) {
+            problems.add(line, "요일이 올바르지 않습니다: " + field(f, c.day));
+            return null;
+        }
+        LocalTime start, end;
+        try {
+            start = LocalTime.parse(field(f, c.start));
+            end = LocalTime.parse(field(f, c.end));
+        } catch (DateTimeParseException e) {
+            problems.add(line, "시각 형식이 올바르지 않습니다 (HH:mm): " + field(f, c.start) + "~" + field(f, c.end));
+            return null;
+        }
+        if (!start.isBefore(end)) {
+            problems.add(line, "시작 시각이 종료 시각보다 빨라야 합니다: " + start + "~" + end);
+            return null;
+        }
+        var course = (c.course >= 0) ? field(f, c.course) : "";
+        return new Entry(line, roomId, day, start, end, course.isEmpty() ? null : course);
+    }
+
+    /**
+     * 방·요일별로 정렬해 한 번 훑으면서, 지금까지 가장 늦게 끝나는 시간표보다 먼저 시작하면 겹침.
+     * 기존 시간표(line=0)끼리 겹치는 것은 보고하지 않는다.
+     */
+    static void findOverlaps(List<Entry> imported, List<Entry> existing, Problems problems) {
+        var all = new ArrayList<Entry>(imported.size() + existing.size());
+        all.addAll(existing);
+        all.addAll(imported);
+        all.sort(Comparator.comparingInt(Entry::roomId)
+                .thenComparingInt(Entry::dayOfWeek)
+                .thenComparing(Entry::start)
+                .thenComparingLong(Entry::line));
+
+        Entry latest = null;   // 같은 방·요일에서 지금까지 가장 늦게 끝나는 시간표
+        for (var e : all) {
+            if (latest != null && latest.roomId() == e.roomId() && latest.dayOfWeek() == e.dayOfWeek()) {
+                if (e.start().isBefore(latest.end()) && (e.line() > 0 || latest.line() > 0)) {
+                    long line = (e.line() > 0) ? e.line() : latest.line();
+                    problems.add(line, "같은 방 시간표가 겹칩니다: " + describe(latest) + " / " + describe(e));
+                }
+                if (e.end().isAfter(latest.end())) latest = e;
+            } else {
+                latest = e;
+            }
+        }
+    }
+
+    private static String describe(Entry e) {
+        var where = (e.line() > 0) ? e.line() + "행" : "기존";
+        return where + " " + DAYS.charAt(e.dayOfWeek() - 1) + " " + e.start() + "~" + e.end()
+                + (e.courseName() != null ? " " + e.courseName() : "");
+    }
+
+    private List<Entry> existing(Collection<Integer> roomIds) {
+        if (roomIds.isEmpty()) return List.of();
+        return scheduleRepository.findRowsByRoomIdIn(roomIds).stream()
+                .map(s -> new Entry(0, s.roomId(), s.dayOfWeek(), s.startTime(), s.endTime(), s.courseName()))
+                .toList();
+    }
+
+    /** "1"~"7" 또는 "월", "월요일" → 1~7, 아니면 -1 */
+    static int dayOfWeek(String value) {
+        if (value.length() == 1 && value.charAt(0) >= '1' && value.charAt(0) <= '7') return value.charAt(0) - '0';
+        if (value.length() == 1 || (value.length() == 3 && value.endsWith("요일"))) {
+            int i = DAYS.indexOf(value.charAt(0));
+            if (i >= 0) return i + 1;
+        }
+        return -1;
+    }
+
+    private static String field(List<String> fields, int index) {
+        return index < fields.size() ? fields.get(index) : "";
+    }
+
+    /** CSV 한 줄 → 필드 (큰따옴표로 감싼 필드와 "" 이스케이프 지원, 필드 안 줄바꿈은 지원하지 않음) */
+    static List<String> splitCsvLine(String line) {
+        var fields = new ArrayList<String>();
+        var sb = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char ch = line.charAt(i);
+            if (quoted) {
+                if (ch == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    sb.append('"');
+                    i++;
+                } else if (ch == '"') {
+                    quoted = false;
+                } else {
+                    sb.append(ch);
+                }
+            } else if (ch == '"') {
+                quoted = true;
+            } else if (ch == ',') {
+                fields.add(sb.toString().strip());
+                sb.setLength(0);
+            } else {
+                sb.append(ch);
+            }
+        }
+        fields.add(sb.toString().strip());
+        return fields;
+    }
+
+    /** 헤더 이름 → 열 번호 (없으면 -1) */
+    record Columns(int roomId, int building, int room, int day, int start, int end, int course) {
+
+        static Columns of(List<String> header) {
+            return new Columns(
+                    indexOf(header, "room_id"),
+                    indexOf(header, "building", "건물"),
+                    indexOf(header, "room", "강의실"),
+                    indexOf(header, "day_of_week", "day", "요일"),
+                    indexOf(header, "start_time", "start", "시작"),
+                    indexOf(header, "end_time", "end", "종료"),
+                    indexOf(header, "course_name", "course", "과목"));
+        }
+
+        /** 빠진 필수 열 안내 (다 있으면 null) */
+        String missing() {
+            if (roomId < 0 && (building < 0 || room < 0)) return "room_id 열 또는 building, room 열이 필요합니다.";
+            if (day < 0 || start < 0 || end < 0) return "day_of_week, start_time, end_time 열이 필요합니다.";
+            return null;
+        }
+
+        private static int indexOf(List<String> header, String... names) {
+            for (int i = 0; i < header.size(); i++) {
+                for (var name : names) {
+                    if (header.get(i).equalsIgnoreCase(name)) return i;
+                }
+            }
+            return -1;
+        }
+    }
+
+    /** 스냅샷 방 목록으로 만든 방 참조 조회표 */
+    private static final class RoomLookup {
+        private final CampusSnapshot snapshot;
+        private final Map<String, Integer> byName = new HashMap<>();
+
+        RoomLookup(CampusSnapshot snapshot) {
+            this.snapshot = snapshot;
+            for (var room : snapshot.rooms()) {
+                var building = snapshot.building(snapshot.floor(room.floorId()).buildingId());
+                if (room.roomNumber() != null) byName.putIfAbsent(key(building.name(), room.roomNumber()), room.id());
+                byName.putIfAbsent(key(building.name(), room.name()), room.id());
+            }
+        }
+
+        Integer byId(String value) {
+            try {
+                var id = Integer.valueOf(value);
+                return snapshot.room(id) != null ? id : null;
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+
+        Integer byName(String building, String room) {
+            return byName.get(key(building, room));
+        }
+
+        private static String key(String building, String room) {
+            return SearchResultCache.normalize(building) + '\u0000' + SearchResultCache.normalize(room);
+        }
+    }
+
+    /** 문제 목록 (앞쪽 max개만 보관) */
+    static final class Problems {
+        private final int max;
+        final List<Problem> list = new ArrayList<>();
+        int count;
+        private int rejectedRows;
+
+        Problems(int max) {
+            this.max = max;
+        }
+
+        void add(long line, String message) {
+            if (count++ < max) list.add(new Problem(line, message));
+        }
+    }
+}
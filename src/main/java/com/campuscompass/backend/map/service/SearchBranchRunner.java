@@ -0,0 +1,176 @@
+package com.campuscompass.backend.map.service;
+
+import com.campuscompass.backend.map.dto.SearchResultResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 통합 검색의 종류별 검색(건물/강의실/편의시설)을 실행하고 종류별 지연 시간을 기록한다.
+ * - campus.search.execution=sequential(기본): 요청 스레드에서 차례로 실행
+ * - campus.search.execution=concurrent: 고정 크기 스레드 풀에서 동시에 실행
+ *   DB를 치는 종류(transactional)는 자기 읽기 전용 트랜잭션에서 돌고, campus.search.branch-timeout-ms 안에 끝나지 않으면
+ *   그 종류는 빈 목록으로 두고 나머지 결과만 돌려준다. (partial)
+ *   스레드와 대기열이 모두 차서 받지 못한 종류도 빈 목록으로 둔다. (요청 스레드에서 대신 실행하지 않음)
+ *   트랜잭션 제한 시간(초 단위로 올림)이 JDBC 쿼리 제한 시간이 되므로, 시간을 넘긴 쿼리는 DB에서도 멈춘다.
+ *   스냅샷 색인처럼 DB를 치지 않는 종류는 트랜잭션 없이 돌아 풀 커넥션을 잡지 않는다.
+ * - 지연 시간: campus.search.branch 타이머 (tag: branch, outcome=ok|error|timeout|rejected)
+ *   ok/error는 작업 스레드에서 그 종류의 쿼리 시간만, timeout/rejected는 요청 쪽에서 기다린 시간을 잰다.
+ */
+@Slf4j
+@Component
+public class SearchBranchRunner {
+
+    public enum Execution { SEQUENTIAL, CONCURRENT }
+
+    /** 종류 하나의 검색. transactional이면 concurrent에서 읽기 전용 트랜잭션을 연다. */
+    public record Branch(String name, boolean transactional, Supplier<List<SearchResultResponse>> query) { }
+
+    /** 종류별 결과 (branches와 같은 순서). partial이면 시간 안에 끝나지 못한 종류가 있다. */
+    public record Outcome(List<List<SearchResultResponse>> results, boolean partial) { }
+
+    private static final String TIMER = "campus.search.branch";
+
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate readOnlyTx;
+    private final Execution execution;
+    private final long timeoutNanos;
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * @param threads   동시 실행 스레드 수
+     * @param queueSize 스레드가 모두 바쁠 때 대기열 크기 (넘치면 그 종류는 빈 결과)
+     * @param timeoutMs 종류별 제한 시간 (concurrent일 때만)
+     */
+    public SearchBranchRunner(MeterRegistry meterRegistry,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${campus.search.execution:sequential}") Execution execution,
+                              @Value("${campus.search.threads:8}") int threads,
+                              @Value("${campus.search.queue-size:64}") int queueSize,
+                              @Value("${campus.search.branch-timeout-ms:500}") long timeoutMs) {
+        this.meterRegistry = meterRegistry;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.readOnlyTx.setTimeout((int) Math.max(1, (timeoutMs + 999) / 1000));   // 초 단위
+        this.execution = execution;
+        this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        this.executor = (execution == Execution.CONCURRENT) ? newExecutor(threads, queueSize) : null;
+    }
+
+    public Outcome run(List<Branch> branches) {
+        return (executor == null) ? runSequential(branches) : runConcurrent(branches);
+    }
+
+    private Outcome runSequential(List<Branch> branches) {
+        var results = new ArrayList<List<SearchResultResponse>>(branches.size());
+        for (var branch : branches) {
+            long start = System.nanoTime();
+            try {
+                results.add(branch.query().get());
+                record(branch, "ok", start);
+            } catch (RuntimeException e) {
+                record(branch, "error", start);
+                throw e;
+            }
+        }
+        return new Outcome(results, false);
+    }
+
+    private Outcome runConcurrent(List<Branch> branches) {
+        long start = System.nanoTime();
+        var futures = new ArrayList<Future<List<SearchResultResponse>>>(branches.size());
+        for (var branch : branches) {
+            try {
+                futures.add(executor.submit(() -> timed(branch)));
+            } catch (RejectedExecutionException e) {
+                futures.add(null);
+            }
+        }
+
+        var results = new ArrayList<List<SearchResultResponse>>(branches.size());
+        boolean partial = false;
+        for (int i = 0; i < branches.size(); i++) {
+            var branch = branches.get(i);
+            var future = futures.get(i);
+            if (future == null) {
+                record(branch, "rejected", start);
+                log.warn("검색 스레드 포화, 부분 결과 반환: branch={}", branch.name());
+                results.add(List.of());
+                partial = true;
+                continue;
+            }
+            try {
+                // 모든 종류가 같은 시각에 출발했으므로 남은 시간만 기다린다.
+                long remaining = timeoutNanos - (System.nanoTime() - start);
+                results.add(future.get(Math.max(remaining, 0), TimeUnit.NANOSECONDS));
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                record(branch, "timeout", start);
+                log.warn("검색 시간 초과, 부분 결과 반환: branch={}", branch.name());
+                results.add(List.of());
+                partial = true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.stream().filter(Objects::nonNull).forEach(f -> f.cancel(true));
+                throw new IllegalStateException("검색이 중단되었습니다.", e);
+            } catch (ExecutionException e) {
+                futures.stream().filter(Objects::nonNull).forEach(f -> f.cancel(true));
+                if (e.getCause() instanceof RuntimeException re) throw re;
+                throw new IllegalStateException("검색 중 오류가 발생했습니다.", e.getCause());
+            }
+        }
+        return new Outcome(results, partial);
+    }
+
+    /** 작업 스레드에서: 종류 하나를 (필요하면 읽기 전용 트랜잭션에서) 실행하고 그 시간만 기록한다. */
+    private List<SearchResultResponse> timed(Branch branch) {
+        long start = System.nanoTime();
+        try {
+            var result = branch.transactional()
+                    ? readOnlyTx.execute(status -> branch.query().get())
+                    : branch.query().get();
+            record(branch, "ok", start);
+            return result;
+        } catch (RuntimeException e) {
+            record(branch, "error", start);
+            throw e;
+        }
+    }
+
+    private void record(Branch branch, String outcome, long startNanos) {
+        Timer.builder(TIMER)
+                .description("통합 검색 종류별 지연 시간")
+                .tag("branch", branch.name())
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static ThreadPoolExecutor newExecutor(int threads, int queueSize) {
+        var sequence = new AtomicInteger();
+        ThreadFactory factory = r -> {
+            var t = new Thread(r, "search-branch-" + sequence.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize), factory, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (executor != null) executor.shutdownNow();
+    }
+}
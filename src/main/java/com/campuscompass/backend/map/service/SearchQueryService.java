@@ -1,36 +1,159 @@
 package com.campuscompass.backend.map.service;
 
+import com.campuscompass.backend.map.dto.SearchPage;
 import com.campuscompass.backend.map.dto.SearchResultResponse;
 import com.campuscompass.backend.map.repository.SearchRepository;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
-import java.util.stream.Stream;
+import java.util.PriorityQueue;
 
 @Service
-@Transactional(readOnly = true)
-@RequiredArgsConstructor
 public class SearchQueryService {
 
+    /** 종류 → 표시 이름(대소문자 무시) 순. 종류별 검색 결과도 이미 이 순서로 나온다. */
+    private static final Comparator<SearchResultResponse> RESULT_ORDER =
+            Comparator.comparing(SearchResultResponse::type)
+                    .thenComparing(SearchResultResponse::displayName, Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER));
+
     private final SearchRepository searchRepository;
+    private final SearchBranchRunner branchRunner;
+    private final SearchResultCache cache;
+    private final int fuzzyMaxDistance;
+    private final int fuzzyMinHits;
+    private final int defaultLimit;
+    private final int maxLimit;
+    private final int maxOffset;
+
+    /**
+     * @param fuzzyMaxDistance 오타 허용 편집 거리 (0이면 오타 허용 검색 안 함)
+     * @param fuzzyMinHits     일반 검색 결과가 이 개수보다 적을 때만 오타 허용 검색을 덧붙인다
+     * @param defaultLimit     limit 미지정 시 한 페이지 결과 수
+     * @param maxLimit         한 페이지 최대 결과 수 (더 크게 요청하면 이 값으로 줄인다)
+     * @param maxOffset        cursor로 넘어갈 수 있는 최대 시작 위치 (이보다 뒤의 페이지는 주지 않는다)
+     */
+    public SearchQueryService(SearchRepository searchRepository,
+                              SearchBranchRunner branchRunner,
+                              SearchResultCache cache,
+                              @Value("${campus.search.fuzzy.max-distance:1}") int fuzzyMaxDistance,
+                              @Value("${campus.search.fuzzy.min-hits:1}") int fuzzyMinHits,
+                              @Value("${campus.search.default-limit:20}") int defaultLimit,
+                              @Value("${campus.search.max-limit:100}") int maxLimit,
+                              @Value("${campus.search.max-offset:1000}") int maxOffset) {
+        this.searchRepository = searchRepository;
+        this.branchRunner = branchRunner;
+        this.cache = cache;
+        this.fuzzyMaxDistance = fuzzyMaxDistance;
+        this.fuzzyMinHits = fuzzyMinHits;
+        this.defaultLimit = defaultLimit;
+        this.maxLimit = maxLimit;
+        this.maxOffset = maxOffset;
+    }
+
+    /**
+     * /api/search?query=&limit=&cursor=
+     * - 종류별로 offset + limit + 1개만 가져와서 힙으로 병합한다. (전체를 모아 정렬하지 않음)
+     * - 한 개 더 가져온 것이 있으면 다음 페이지 cursor를 만든다.
+     * - 오타 허용 검색은 첫 페이지에서만 덧붙인다.
+     * - 시간 안에 끝나지 못한 종류가 있으면(partial) 다음 페이지 위치가 어긋나므로 cursor를 주지 않는다.
+     * - 시작 위치가 campus.search.max-offset을 넘는 cursor는 만들지도 받지도 않는다. (가져올 개수와 캐시 키가 끝없이 커지지 않도록)
+     * - 검색어는 정규화(앞뒤 공백 제거, NFC, 소문자)해서 검색하고, 같은 요청은 캐시에서 돌려준다.
+     */
+    public SearchPage search(String query, Integer limit, String cursor) {
+        if (query == null || query.isBlank()) return new SearchPage(List.of(), null, false);
+
+        var normalized = SearchResultCache.normalize(query);
+        int size = resolveLimit(limit);
+        int offset = decodeCursor(cursor);
+        return cache.get(new SearchResultCache.Key(normalized, size, offset),
+                () -> searchPage(normalized, size, offset));
+    }
+
+    private SearchPage searchPage(String query, int size, int offset) {
+        int fetch = offset + size + 1;
+
+        boolean db = searchRepository.queriesDatabase();
+        var outcome = branchRunner.run(List.of(
+                new SearchBranchRunner.Branch("buildings", db, () -> searchRepository.searchBuildings(query, fetch)),
+                new SearchBranchRunner.Branch("rooms", db, () -> searchRepository.searchRooms(query, fetch)),
+                new SearchBranchRunner.Branch("facilities", db, () -> searchRepository.searchFacilities(query, fetch))
+        ));
+        var merged = mergeTopK(outcome.results(), fetch);
 
-    /** /api/search?query= */
-    public List<SearchResultResponse> search(String query) {
-        if (query == null || query.isBlank()) return List.of();
+        boolean hasNext = merged.size() > offset + size && !outcome.partial() && offset + size <= maxOffset;
+        var results = (merged.size() <= offset)
+                ? List.<SearchResultResponse>of()
+                : merged.subList(offset, Math.min(merged.size(), offset + size));
+        String nextCursor = hasNext ? encodeCursor(offset + size) : null;
+
+        if (offset > 0 || outcome.partial() || results.size() >= fuzzyMinHits || fuzzyMaxDistance <= 0) {
+            return new SearchPage(List.copyOf(results), nextCursor, outcome.partial());
+        }
+        return new SearchPage(withFuzzyMatches(query, results, size), nextCursor, false);
+    }
 
-        var buildings  = searchRepository.searchBuildings(query);
-        var rooms      = searchRepository.searchRooms(query);
-        var facilities = searchRepository.searchFacilities(query);
+    /** 일반 검색 결과 뒤에 오타 허용 검색 결과(중복 제외)를 limit개까지 덧붙인다. */
+    private List<SearchResultResponse> withFuzzyMatches(String query, List<SearchResultResponse> results, int limit) {
+        if (results.size() >= limit) return List.copyOf(results);
+        var fuzzy = searchRepository.searchFuzzy(query, fuzzyMaxDistance, limit);
+        if (fuzzy.isEmpty()) return List.copyOf(results);
+
+        var merged = new ArrayList<>(results);
+        var seen = new HashSet<>(results);
+        for (var result : fuzzy) {
+            if (merged.size() >= limit) break;
+            if (seen.add(result)) merged.add(result);
+        }
+        return merged;
+    }
+
+    /**
+     * 정렬된 목록 여러 개를 앞에서부터 k개만 병합한다.
+     * 힙에는 목록마다 맨 앞 원소 하나씩만 들어가므로 크기는 목록 개수를 넘지 않는다.
+     */
+    static List<SearchResultResponse> mergeTopK(List<List<SearchResultResponse>> sorted, int k) {
+        var next = new int[sorted.size()];
+        var heap = new PriorityQueue<Integer>(Math.max(sorted.size(), 1),
+                (a, b) -> RESULT_ORDER.compare(sorted.get(a).get(next[a]), sorted.get(b).get(next[b])));
+        for (int i = 0; i < sorted.size(); i++) {
+            if (!sorted.get(i).isEmpty()) heap.add(i);
+        }
+
+        var out = new ArrayList<SearchResultResponse>(Math.min(k, 64));
+        while (out.size() < k && !heap.isEmpty()) {
+            int i = heap.poll();
+            out.add(sorted.get(i).get(next[i]++));
+            if (next[i] < sorted.get(i).size()) heap.add(i);
+        }
+        return out;
+    }
+
+    private int resolveLimit(Integer limit) {
+        if (limit == null) return defaultLimit;
+        if (limit < 1) throw new IllegalArgumentException("limit은 1 이상이어야 합니다.");
+        return Math.min(limit, maxLimit);
+    }
+
+    /** cursor는 다음 페이지 시작 위치를 감춘 값 (형식은 바뀔 수 있다) */
+    private static String encodeCursor(int offset) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(Integer.toString(offset).getBytes(StandardCharsets.UTF_8));
+    }
 
-        return Stream.of(buildings, rooms, facilities)
-                .flatMap(List::stream)
-                .sorted(
-                        Comparator.comparing(SearchResultResponse::type)
-                                .thenComparing(SearchResultResponse::displayName, String.CASE_INSENSITIVE_ORDER)
-                )
-                .toList();
+    private int decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) return 0;
+        try {
+            int offset = Integer.parseInt(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+            if (offset < 0 || offset > maxOffset) throw new IllegalArgumentException("잘못된 cursor 입니다: " + cursor);
+            return offset;
+        } catch (IllegalArgumentException e) {   // Base64 오류, NumberFormatException 포함
+            throw new IllegalArgumentException("잘못된 cursor 입니다: " + cursor, e);
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,156 @@
+package com.campuscompass.backend.map.service;
+
+import com.campuscompass.backend.map.dto.SearchPage;
+import com.campuscompass.backend.map.snapshot.CampusSnapshotHolder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 통합 검색 결과 캐시 (LRU + TTL).
+ * - 키: 정규화한 검색어(앞뒤 공백 제거, NFC, 소문자) + limit + 페이지 시작 위치
+ * - 캠퍼스 스냅샷 버전이 바뀌면(건물/강의실 데이터 변경) 통째로 비운다.
+ * - 부분 결과(partial)는 담지 않는다.
+ * - 메트릭: campus.search.cache.requests (result=hit|miss),
+ *          campus.search.cache.evictions (cause=size|expired|invalidated), campus.search.cache.size
+ */
+@Component
+public class SearchResultCache {
+
+    public record Key(String query, int limit, int offset) { }
+
+    private record Entry(SearchPage page, long expiresAtNanos) { }
+
+    private final LongSupplier snapshotVersion;
+    private final LongSupplier nanoTime;
+    private final boolean enabled;
+    private final int maxEntries;
+    private final long ttlNanos;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter sizeEvictions;
+    private final Counter expiredEvictions;
+    private final Counter invalidatedEvictions;
+
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);   // 접근 순서
+    private long version = -1L;
+
+    /**
+     * @param maxEntries 최대 항목 수 (넘치면 가장 오래 안 쓴 것부터 버린다)
+     * @param ttl        항목 유효 시간
+     */
+    @Autowired
+    public SearchResultCache(CampusSnapshotHolder snapshotHolder,
+                             MeterRegistry meterRegistry,
+                             @Value("${campus.search.cache.enabled:true}") boolean enabled,
+                             @Value("${campus.search.cache.max-entries:1000}") int maxEntries,
+                             @Value("${campus.search.cache.ttl:10m}") Duration ttl) {
+        this(() -> snapshotHolder.current().version(), System::nanoTime, meterRegistry, enabled, maxEntries, ttl);
+    }
+
+    /** 테스트용: 스냅샷 버전과 시계를 바꿔 끼운다. */
+    SearchResultCache(LongSupplier snapshotVersion,
+                      LongSupplier nanoTime,
+                      MeterRegistry meterRegistry,
+                      boolean enabled,
+                      int maxEntries,
+                      Duration ttl) {
+        this.snapshotVersion = snapshotVersion;
+        this.nanoTime = nanoTime;
+        this.enabled = enabled && maxEntries > 0;
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttl.toNanos();
+
+        this.hits = requests(meterRegistry, "hit");
+        this.misses = requests(meterRegistry, "miss");
+        this.sizeEvictions = evictions(meterRegistry, "size");
+        this.expiredEvictions = evictions(meterRegistry, "expired");
+        this.invalidatedEvictions = evictions(meterRegistry, "invalidated");
+        Gauge.builder("campus.search.cache.size", this, SearchResultCache::size)
+                .description("통합 검색 캐시 항목 수")
+                .register(meterRegistry);
+    }
+
+    /** "  진리관 " → "진리관" (NFC, 소문자) */
+    public static String normalize(String query) {
+        return Normalizer.normalize(query.strip(), Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+    }
+
+    /** 캐시에 있으면 그 결과, 없으면 loader로 만들어 담는다. */
+    public SearchPage get(Key key, Supplier<SearchPage> loader) {
+        if (!enabled) return loader.get();
+
+        long snapshotVersion = this.snapshotVersion.getAsLong();
+        synchronized (this) {
+            invalidateIfStale(snapshotVersion);
+            var entry = entries.get(key);
+            if (entry != null) {
+                if (entry.expiresAtNanos() - nanoTime.getAsLong() > 0) {
+                    hits.increment();
+                    return entry.page();
+                }
+                entries.remove(key);
+                expiredEvictions.increment();
+            }
+        }
+
+        misses.increment();
+        var page = loader.get();
+        if (page.partial()) return page;
+
+        synchronized (this) {
+            // 계산하는 사이 스냅샷이 바뀌었으면 이전 데이터로 만든 결과일 수 있으므로 담지 않는다.
+            if (version == snapshotVersion && this.snapshotVersion.getAsLong() == snapshotVersion) {
+                entries.put(key, new Entry(page, nanoTime.getAsLong() + ttlNanos));
+                evictOverflow();
+            }
+        }
+        return page;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private void invalidateIfStale(long snapshotVersion) {
+        if (version == snapshotVersion) return;
+        invalidatedEvictions.increment(entries.size());
+        entries.clear();
+        version = snapshotVersion;
+    }
+
+    private void evictOverflow() {
+        var it = entries.entrySet().iterator();
+        while (entries.size() > maxEntries && it.hasNext()) {
+            it.next();
+            it.remove();
+            sizeEvictions.increment();
+        }
+    }
+
+    private static Counter requests(MeterRegistry registry, String result) {
+        return Counter.builder("campus.search.cache.requests")
+                .description("통합 검색 캐시 조회 수")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    private static Counter evictions(MeterRegistry registry, String cause) {
+        return Counter.builder("campus.search.cache.evictions")
+                .description("통합 검색 캐시에서 버린 항목 수")
+                .tag("cause", cause)
+                .register(registry);
+    }
+}
@@ -0,0 +1,83 @@
+package com.campuscompass.backend.map.service;
+
+import com.campuscompass.backend.map.domain.MapChange;
+import com.campuscompass.backend.map.dto.SyncResponse;
+import com.campuscompass.backend.map.snapshot.CampusSnapshot;
+import com.campuscompass.backend.map.snapshot.CampusSnapshotHolder;
+import com.campuscompass.backend.map.snapshot.ScheduleRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.function.IntFunction;
+
+/**
+ * 지도 데이터 증분 동기화.
+ * - 스냅샷에 올려 둔 최근 변경 기록과 현재 행만으로 응답한다. (SQL 없음)
+ * - since가 없거나, 보관 범위보다 오래됐거나, 그 사이에 RESET이 있으면 전체를 준다.
+ */
+@Service
+@RequiredArgsConstructor
+public class SyncService {
+
+    private final CampusSnapshotHolder snapshotHolder;
+
+    /** /api/sync?since= */
+    public SyncResponse sync(Long since) {
+        var snapshot = snapshotHolder.current();
+        var changeLog = snapshot.changeLog();
+        if (since == null || !changeLog.covers(since)) return full(snapshot);
+
+        var changes = changeLog.after(since);
+        // 같은 행이 여러 번 바뀌었으면 마지막 변경만 본다.
+        var latest = new EnumMap<MapChange.EntityType, Map<Integer, MapChange.Op>>(MapChange.EntityType.class);
+        for (var type : MapChange.EntityType.values()) latest.put(type, new TreeMap<>());
+        for (var change : changes) {
+            if (change.op() == MapChange.Op.RESET) return full(snapshot);
+            if (change.entityType() == null || change.entityId() == null) continue;
+            latest.get(change.entityType()).put(change.entityId(), change.op());
+        }
+
+        var buildings = new Delta<>(latest.get(MapChange.EntityType.BUILDING), snapshot::building);
+        var floors = new Delta<>(latest.get(MapChange.EntityType.FLOOR), snapshot::floor);
+        var rooms = new Delta<>(latest.get(MapChange.EntityType.ROOM), snapshot::room);
+        var schedules = new Delta<>(latest.get(MapChange.EntityType.SCHEDULE), schedulesById(snapshot, latest));
+
+        return new SyncResponse(changeLog.head(), false,
+                buildings.upserts, floors.upserts, rooms.upserts, schedules.upserts,
+                new SyncResponse.Deleted(buildings.deletes, floors.deletes, rooms.deletes, schedules.deletes));
+    }
+
+    /** 스냅샷 전체 (오프라인 번들도 같은 형식) */
+    static SyncResponse full(CampusSnapshot snapshot) {
+        return new SyncResponse(snapshot.changeLog().head(), true,
+                snapshot.buildings(), snapshot.floors(), snapshot.rooms(), snapshot.schedules(),
+                SyncResponse.Deleted.NONE);
+    }
+
+    /** 스냅샷은 시간표를 id로 찾지 않으므로, 바뀐 시간표만 골라 둔다. */
+    private static IntFunction<ScheduleRow> schedulesById(CampusSnapshot snapshot,
+                                                          Map<MapChange.EntityType, Map<Integer, MapChange.Op>> latest) {
+        var wanted = latest.get(MapChange.EntityType.SCHEDULE);
+        if (wanted.isEmpty()) return id -> null;
+        var byId = new HashMap<Integer, ScheduleRow>();
+        for (var s : snapshot.schedules()) {
+            if (wanted.containsKey(s.id())) byId.put(s.id(), s);
+        }
+        return byId::get;
+    }
+
+    /** 종류 하나의 변경: UPSERT인데 지금 행이 없으면(그 뒤 지워짐) 삭제로 본다. */
+    private static final class Delta<T> {
+        private final List<T> upserts = new ArrayList<>();
+        private final List<Integer> deletes = new ArrayList<>();
+
+        private Delta(Map<Integer, MapChange.Op> ops, IntFunction<T> current) {
+            ops.forEach((id, op) -> {
+                T row = (op == MapChange.Op.UPSERT) ? current.apply(id) : null;
+                if (row != null) upserts.add(row);
+                else deletes.add(id);
+            });
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.campuscompass.backend.map.snapshot;
+
+import java.util.*;
+
+/**
+ * 편집 거리(Levenshtein) 기준 BK-tree.
+ * - 자식은 "부모와의 거리"별로 매달아 두고, 검색할 때는 삼각 부등식으로
+ *   [d - k, d + k] 거리의 자식만 내려간다. (전체를 훑지 않음)
+ * - 같은 문자열은 한 노드에 값만 모아 둔다.
+ */
+final class BkTree<T> {
+
+    private Node<T> root;
+    private int size;
+
+    void add(String term, T value) {
+        if (root == null) {
+            root = new Node<>(term);
+            root.values.add(value);
+            size++;
+            return;
+        }
+        var node = root;
+        while (true) {
+            int d = distance(term, node.term);
+            if (d == 0) {
+                node.values.add(value);
+                return;
+            }
+            var child = node.children.get(d);
+            if (child == null) {
+                child = new Node<>(term);
+                child.values.add(value);
+                node.children.put(d, child);
+                size++;
+                return;
+            }
+            node = child;
+        }
+    }
+
+    /** 거리 maxDistance 이하인 항목 */
+    List<Match<T>> search(String query, int maxDistance) {
+        if (root == null) return List.of();
+
+        var matches = new ArrayList<Match<T>>();
+        var stack = new ArrayDeque<Node<T>>();
+        stack.push(root);
+        while (!stack.isEmpty()) {
+            var node = stack.pop();
+            int d = distance(query, node.term);
+            if (d <= maxDistance) matches.add(new Match<>(node.term, d, node.values));
+
+            for (var e : node.children.entrySet()) {
+                if (e.getKey() >= d - maxDistance && e.getKey() <= d + maxDistance) stack.push(e.getValue());
+            }
+        }
+        return matches;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /** Levenshtein 거리 (두 행만 사용) */
+    static int distance(String a, String b) {
+        if (a.equals(b)) return 0;
+        if (a.isEmpty()) return b.length();
+        if (b.isEmpty()) return a.length();
+
+        var prev = new int[b.length() + 1];
+        var cur = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) prev[j] = j;
+        for (int i = 1; i <= a.length(); i++) {
+            cur[0] = i;
+            char ca = a.charAt(i - 1);
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = (ca == b.charAt(j - 1)) ? 0 : 1;
+                cur[j] = Math.min(Math.min(cur[j - 1] + 1, prev[j] + 1), prev[j - 1] + cost);
+            }
+            var tmp = prev;
+            prev = cur;
+            cur = tmp;
+        }
+        return prev[b.length()];
+    }
+
+    record Match<T>(String term, int distance, List<T> values) { }
+
+    private static final class Node<T> {
+        private final String term;
+        private final List<T> values = new ArrayList<>(1);
+        private final Map<Integer, Node<T>> children = new HashMap<>(4);
+
+        private Node(String term) {
+            this.term = term;
+        }
+    }
+}
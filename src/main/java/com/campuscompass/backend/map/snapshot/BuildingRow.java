@@ -0,0 +1,9 @@
+package com.campuscompass.backend.map.snapshot;
+
+public record BuildingRow(
+        Integer id,
+        String name,
+        Double latitude,
+        Double longitude,
+        String description
+) { }
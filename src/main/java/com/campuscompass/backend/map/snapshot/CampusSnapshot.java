@@ -0,0 +1,308 @@
+package com.campuscompass.backend.map.snapshot;
+
+import com.campuscompass.backend.map.dto.BuildingDetailResponse;
+import com.campuscompass.backend.map.dto.BuildingResponse;
+import com.campuscompass.backend.map.dto.FloorResponse;
+import com.campuscompass.backend.map.dto.RoomResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+/**
+ * 건물/층/방/시간표 전체를 메모리에 올려 둔 읽기 전용 스냅샷.
+ * - 각 행은 id를 인덱스로 하는 평면 배열에 보관 (없는 id는 null)
+ * - 생성 이후에는 절대 변경되지 않으며, 데이터가 바뀌면 새 스냅샷으로 통째로 교체된다.
+ */
+public final class CampusSnapshot {
+
+    /** 방 정렬: 방 번호 없는 것은 뒤로, 방 번호 오름차순, 이름(소문자) 오름차순 (RoomRepository 쿼리와 동일) */
+    public static final Comparator<RoomRow> ROOM_ORDER = Comparator
+            .comparing((RoomRow r) -> r.roomNumber() == null ? 1 : 0)
+            .thenComparing(RoomRow::roomNumber, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(r -> lower(r.name()), Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private static final Comparator<FloorRow> FLOOR_ORDER = Comparator
+            .comparing(FloorRow::level)
+            .thenComparing(FloorRow::id);
+
+    private static final Comparator<BuildingRow> BUILDING_ORDER = Comparator
+            .comparing((BuildingRow b) -> lower(b.name()))
+            .thenComparing(BuildingRow::id);
+
+    private final long version;
+    private final ChangeLog changeLog;
+
+    private final BuildingRow[] buildings;
+    private final FloorRow[] floors;
+    private final RoomRow[] rooms;
+    private final List<ScheduleRow> schedules;
+
+    /** 층 id → 해당 층의 방 (ROOM_ORDER 정렬) */
+    private final RoomRow[][] roomsByFloor;
+    /** 건물 id → 해당 건물의 층 (level 오름차순) */
+    private final FloorRow[][] floorsByBuilding;
+
+    /** 응답 객체는 미리 만들어 두고 그대로 반환한다. */
+    private final List<BuildingResponse> buildingList;
+    private final BuildingDetailResponse[] buildingDetails;
+
+    private final OccupancyIndex occupancy;
+    private final FreeRoomTable freeRooms;
+    private final SearchIndex searchIndex;
+    private final SpatialIndex spatialIndex;
+
+    private CampusSnapshot(long version,
+                           ChangeLog changeLog,
+                           BuildingRow[] buildings,
+                           FloorRow[] floors,
+                           RoomRow[] rooms,
+                           List<ScheduleRow> schedules,
+                           RoomRow[][] roomsByFloor,
+                           FloorRow[][] floorsByBuilding,
+                           List<BuildingResponse> buildingList,
+                           BuildingDetailResponse[] buildingDetails,
+                           OccupancyIndex occupancy,
+                           FreeRoomTable freeRooms,
+                           SearchIndex searchIndex,
+                           SpatialIndex spatialIndex) {
+        this.version = version;
+        this.changeLog = changeLog;
+        this.buildings = buildings;
+        this.floors = floors;
+        this.rooms = rooms;
+        this.schedules = schedules;
+        this.roomsByFloor = roomsByFloor;
+        this.floorsByBuilding = floorsByBuilding;
+        this.buildingList = buildingList;
+        this.buildingDetails = buildingDetails;
+        this.occupancy = occupancy;
+        this.freeRooms = freeRooms;
+        this.searchIndex = searchIndex;
+        this.spatialIndex = spatialIndex;
+    }
+
+    /**
+     * @param version   스냅샷 교체 번호 (캐시 무효화용, 교체할 때마다 증가)
+     * @param changeLog 읽은 시점의 데이터 버전과 최근 변경 기록 (/api/sync)
+     */
+    public static CampusSnapshot of(long version,
+                                    ChangeLog changeLog,
+                                    Collection<BuildingRow> buildingRows,
+                                    Collection<FloorRow> floorRows,
+                                    Collection<RoomRow> roomRows,
+                                    Collection<ScheduleRow> scheduleRows) {
+        var buildings = new BuildingRow[maxId(buildingRows, BuildingRow::id) + 1];
+        for (var b : buildingRows) buildings[b.id()] = b;
+
+        var floors = new FloorRow[maxId(floorRows, FloorRow::id) + 1];
+        for (var f : floorRows) floors[f.id()] = f;
+
+        var rooms = new RoomRow[maxId(roomRows, RoomRow::id) + 1];
+        for (var r : roomRows) rooms[r.id()] = r;
+
+        var roomsByFloor = group(roomRows, RoomRow::floorId, floors.length, ROOM_ORDER, RoomRow[]::new, RoomRow[][]::new);
+        var floorsByBuilding = group(floorRows, FloorRow::buildingId, buildings.length, FLOOR_ORDER, FloorRow[]::new, FloorRow[][]::new);
+
+        var sortedBuildings = buildingRows.stream().sorted(BUILDING_ORDER).toList();
+        var buildingList = sortedBuildings.stream()
+                .map(b -> new BuildingResponse(b.id(), b.name(), b.latitude(), b.longitude()))
+                .toList();
+
+        var buildingDetails = new BuildingDetailResponse[buildings.length];
+        for (var b : buildingRows) {
+            var floorResponses = Arrays.stream(floorsByBuilding[b.id()])
+                    .map(f -> new FloorResponse(f.id(), f.level(), f.name(), Arrays.stream(roomsByFloor[f.id()])
+                            .map(CampusSnapshot::toRoomResponse)
+                            .toList()))
+                    .toList();
+            buildingDetails[b.id()] = new BuildingDetailResponse(
+                    b.id(), b.name(), b.latitude(), b.longitude(), b.description(), floorResponses);
+        }
+
+        var schedules = scheduleRows.stream()
+                .sorted(Comparator.comparing(ScheduleRow::id))
+                .toList();
+
+        var occupancy = OccupancyIndex.build(schedules);
+
+        // 캠퍼스 전체 빈 강의실 표: 건물 이름 → 층 → 방 순서
+        var classroomsByBuilding = new LinkedHashMap<Integer, List<RoomRow>>();
+        for (var b : sortedBuildings) {
+            var classrooms = Arrays.stream(floorsByBuilding[b.id()])
+                    .flatMap(f -> Arrays.stream(roomsByFloor[f.id()]))
+                    .filter(RoomRow::isClassroom)
+                    .toList();
+            classroomsByBuilding.put(b.id(), classrooms);
+        }
+        var freeRooms = FreeRoomTable.build(classroomsByBuilding, buildings.length, occupancy);
+
+        return new CampusSnapshot(version, changeLog, buildings, floors, rooms, schedules,
+                roomsByFloor, floorsByBuilding, buildingList, buildingDetails,
+                occupancy, freeRooms,
+                SearchIndex.build(sortedBuildings, roomRows, floors, buildings),
+                SpatialIndex.build(sortedBuildings));
+    }
+
+    public long version() {
+        return version;
+    }
+
+    /** 데이터 버전(변경 기록 head)과 최근 변경 기록 */
+    public ChangeLog changeLog() {
+        return changeLog;
+    }
+
+    /** /api/buildings 응답 (이름순) */
+    public List<BuildingResponse> buildingList() {
+        return buildingList;
+    }
+
+    /** /api/buildings/{id} 응답 (층/방 포함) */
+    public Optional<BuildingDetailResponse> buildingDetail(Integer buildingId) {
+        return Optional.ofNullable(at(buildingDetails, buildingId));
+    }
+
+    public BuildingRow building(Integer buildingId) {
+        return at(buildings, buildingId);
+    }
+
+    public FloorRow floor(Integer floorId) {
+        return at(floors, floorId);
+    }
+
+    public RoomRow room(Integer roomId) {
+        return at(rooms, roomId);
+    }
+
+    /** id 오름차순 전체 건물 */
+    public List<BuildingRow> buildings() {
+        return present(buildings);
+    }
+
+    /** id 오름차순 전체 층 */
+    public List<FloorRow> floors() {
+        return present(floors);
+    }
+
+    /** id 오름차순 전체 방 */
+    public List<RoomRow> rooms() {
+        return present(rooms);
+    }
+
+    /** id 오름차순 전체 시간표 */
+    public List<ScheduleRow> schedules() {
+        return schedules;
+    }
+
+    /** 방 × 요일 사용 현황 */
+    public OccupancyIndex occupancy() {
+        return occupancy;
+    }
+
+    /** 요일 × 슬롯별 빈 강의실 표 */
+    public FreeRoomTable freeRooms() {
+        return freeRooms;
+    }
+
+    /** 통합 검색 색인 */
+    public SearchIndex searchIndex() {
+        return searchIndex;
+    }
+
+    /** 건물 위치 격자 인덱스 */
+    public SpatialIndex spatialIndex() {
+        return spatialIndex;
+    }
+
+    /** 층에 속한 방 (ROOM_ORDER 정렬) */
+    public List<RoomRow> roomsOfFloor(Integer floorId) {
+        var arr = at(roomsByFloor, floorId);
+        return (arr == null) ? List.of() : Collections.unmodifiableList(Arrays.asList(arr));
+    }
+
+    /** 건물에 속한 층 (level 오름차순) */
+    public List<FloorRow> floorsOfBuilding(Integer buildingId) {
+        var arr = at(floorsByBuilding, buildingId);
+        return (arr == null) ? List.of() : Collections.unmodifiableList(Arrays.asList(arr));
+    }
+
+    private static <T> T at(T[] arr, Integer id) {
+        return (id == null || id < 0 || id >= arr.length) ? null : arr[id];
+    }
+
+    private static <T> List<T> present(T[] arr) {
+        return Arrays.stream(arr).filter(Objects::nonNull).toList();
+    }
+
+    private static <T> int maxId(Collection<T> rows, Function<T, Integer> id) {
+        int max = -1;
+        for (var row : rows) max = Math.max(max, id.apply(row));
+        return max;
+    }
+
+    private static <T> T[][] group(Collection<T> rows,
+                                   Function<T, Integer> parentId,
+                                   int parentCount,
+                                   Comparator<T> order,
+                                   IntFunction<T[]> newArray,
+                                   IntFunction<T[][]> newArray2) {
+        var buckets = new ArrayList<List<T>>(parentCount);
+        for (int i = 0; i < parentCount; i++) buckets.add(null);
+        for (var row : rows) {
+            Integer parent = parentId.apply(row);
+            if (parent == null || parent < 0 || parent >= parentCount) continue; // 부모가 없는 고아 행은 제외
+            var bucket = buckets.get(parent);
+            if (bucket == null) buckets.set(parent, bucket = new ArrayList<>());
+            bucket.add(row);
+        }
+
+        T[][] grouped = newArray2.apply(parentCount);
+        T[] empty = newArray.apply(0);
+        for (int i = 0; i < parentCount; i++) {
+            var bucket = buckets.get(i);
+            if (bucket == null) {
+                grouped[i] = empty;
+            } else {
+                bucket.sort(order);
+                grouped[i] = bucket.toArray(empty);
+            }
+        }
+        return grouped;
+    }
+
+    private static RoomResponse toRoomResponse(RoomRow r) {
+        return new RoomResponse(r.id(), r.roomNumber(), r.name(), r.roomType(),
+                r.capacity(), r.features(), r.operatingHours(), r.floorId());
+    }
+
+    static String lower(String s) {
+        return (s == null) ? null : s.toLowerCase(Locale.ROOT);
+    }
+
+    /** 행 내용의 해시 (처음 부를 때 한 번 계산) */
+    private volatile String dataHash;
+
+    /**
+     * 건물/층/방/시간표 행 전체(id 순)의 SHA-256 앞 16자리.
+     * 행이 같으면 재기동해도, 다른 인스턴스에서도 같은 값이므로 ETag에 쓴다.
+     */
+    public String dataHash() {
+        var h = dataHash;
+        if (h != null) return h;
+        try {
+            var digest = MessageDigest.getInstance("SHA-256");
+            for (var rows : List.of(buildings(), floors(), rooms(), schedules())) {
+                for (var row : rows) digest.update((row + "\n").getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+            }
+            h = HexFormat.of().formatHex(digest.digest(), 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        return dataHash = h;
+    }
+}
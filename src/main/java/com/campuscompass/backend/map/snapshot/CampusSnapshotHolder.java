@@ -0,0 +1,70 @@
+package com.campuscompass.backend.map.snapshot;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 현재 캠퍼스 스냅샷을 들고 있는 곳.
+ * - 애플리케이션 기동 시 한 번 만들고, reload() 때마다 새 스냅샷을 만들어 원자적으로 교체한다.
+ * - 읽는 쪽은 current()로 받은 스냅샷 하나만 끝까지 사용하면 된다. (락 없음)
+ * - 교체할 때마다 CampusSnapshotReloadedEvent를 발행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CampusSnapshotHolder {
+
+    private final CampusSnapshotLoader loader;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AtomicReference<CampusSnapshot> current = new AtomicReference<>();
+
+    private long lastVersion = 0L;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        if (current.get() == null) reload();
+    }
+
+    public CampusSnapshot current() {
+        var snapshot = current.get();
+        if (snapshot != null) return snapshot;
+
+        // 기동 이벤트보다 요청이 먼저 들어온 경우
+        synchronized (this) {
+            snapshot = current.get();
+            return (snapshot != null) ? snapshot : reload();
+        }
+    }
+
+    /**
+     * 현재 데이터의 강한 ETag ("<dataHash>").
+     * 기동마다 다시 세는 스냅샷 version이 아니라 행 내용의 해시로 만드므로,
+     * 데이터가 바뀔 때만 달라지고 재기동해도, 다른 인스턴스에서도 같다.
+     */
+    public String etag() {
+        return etag(current());
+    }
+
+    /** 이미 받아 둔 스냅샷의 ETag */
+    public String etag(CampusSnapshot snapshot) {
+        return "\"" + snapshot.dataHash() + "\"";
+    }
+
+    /** DB에서 다시 읽어 새 스냅샷으로 교체하고 알린다. */
+    public synchronized CampusSnapshot reload() {
+        var next = loader.load(++lastVersion);
+        next.dataHash();   // 첫 요청이 해시를 계산하지 않도록 미리
+        current.set(next);
+        log.info("캠퍼스 스냅샷 교체: version={}, dataVersion={}, buildings={}, floors={}, rooms={}",
+                next.version(), next.changeLog().head(),
+                next.buildings().size(), next.floors().size(), next.rooms().size());
+        eventPublisher.publishEvent(new CampusSnapshotReloadedEvent(next));
+        return next;
+    }
+}
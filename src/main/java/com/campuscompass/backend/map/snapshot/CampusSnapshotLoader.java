@@ -0,0 +1,64 @@
+package com.campuscompass.backend.map.snapshot;
+
+import com.campuscompass.backend.map.repository.BuildingRepository;
+import com.campuscompass.backend.map.repository.FloorRepository;
+import com.campuscompass.backend.map.repository.MapChangeRepository;
+import com.campuscompass.backend.map.repository.RoomRepository;
+import com.campuscompass.backend.map.repository.ScheduleRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * DB에서 건물/층/방/시간표 전체와 최근 변경 기록을 한 번에 읽어 스냅샷을 만든다.
+ * (하나의 읽기 전용 트랜잭션 안에서 읽어야 서로 어긋나지 않는다)
+ */
+@Component
+@Transactional(readOnly = true)
+public class CampusSnapshotLoader {
+
+    private final BuildingRepository buildingRepository;
+    private final FloorRepository floorRepository;
+    private final RoomRepository roomRepository;
+    private final ScheduleRepository scheduleRepository;
+    private final MapChangeRepository mapChangeRepository;
+    private final int retainedChanges;
+
+    /**
+     * @param retainedChanges 스냅샷에 올려 둘 최근 변경 기록 수 (이보다 오래된 버전은 /api/sync에서 전체 응답)
+     */
+    public CampusSnapshotLoader(BuildingRepository buildingRepository,
+                                FloorRepository floorRepository,
+                                RoomRepository roomRepository,
+                                ScheduleRepository scheduleRepository,
+                                MapChangeRepository mapChangeRepository,
+                                @Value("${campus.sync.retained-changes:10000}") int retainedChanges) {
+        this.buildingRepository = buildingRepository;
+        this.floorRepository = floorRepository;
+        this.roomRepository = roomRepository;
+        this.scheduleRepository = scheduleRepository;
+        this.mapChangeRepository = mapChangeRepository;
+        this.retainedChanges = retainedChanges;
+    }
+
+    public CampusSnapshot load(long version) {
+        return CampusSnapshot.of(
+                version,
+                loadChangeLog(),
+                buildingRepository.findAllRows(),
+                floorRepository.findAllRows(),
+                roomRepository.findAllRows(),
+                scheduleRepository.findAllRows()
+        );
+    }
+
+    private ChangeLog loadChangeLog() {
+        long head = mapChangeRepository.findHeadVersion();
+        long from = Math.max(0L, head - retainedChanges);
+        // head를 읽은 뒤 커밋된 변경은 다음 스냅샷 몫
+        var changes = mapChangeRepository.findRowsAfter(from).stream()
+                .filter(c -> c.version() <= head)
+                .toList();
+        return new ChangeLog(head, from, changes);
+    }
+}
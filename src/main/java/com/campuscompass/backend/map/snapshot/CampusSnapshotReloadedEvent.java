@@ -0,0 +1,7 @@
+package com.campuscompass.backend.map.snapshot;
+
+/**
+ * 새 캠퍼스 스냅샷으로 교체되었음 (CampusSnapshotHolder.reload 직후, 교체한 스레드에서 발행).
+ * 스냅샷에서 무거운 것(길찾기 그래프 등)을 만드는 쪽은 이 이벤트를 받아 미리 만들어 둔다.
+ */
+public record CampusSnapshotReloadedEvent(CampusSnapshot snapshot) { }
@@ -0,0 +1,28 @@
+package com.campuscompass.backend.map.snapshot;
+
+import java.util.List;
+
+/**
+ * 스냅샷에 함께 올려 두는 최근 변경 기록.
+ * - head : 스냅샷을 읽은 시점의 데이터 버전
+ * - from : 이 버전 이후의 변경은 모두 들고 있다. (since < from 이면 전체를 다시 받아야 한다)
+ */
+public record ChangeLog(long head, long from, List<MapChangeRow> changes) {
+
+    public static final ChangeLog EMPTY = new ChangeLog(0L, 0L, List.of());
+
+    /** version > since 인 변경 (since가 [from, head] 안에 있어야 한다) */
+    public List<MapChangeRow> after(long since) {
+        int lo = 0, hi = changes.size();
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (changes.get(mid).version() <= since) lo = mid + 1;
+            else hi = mid;
+        }
+        return changes.subList(lo, changes.size());
+    }
+
+    public boolean covers(long since) {
+        return since >= from && since <= head;
+    }
+}
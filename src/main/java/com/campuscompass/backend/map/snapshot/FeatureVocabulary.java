@@ -0,0 +1,83 @@
+package com.campuscompass.backend.map.snapshot;
+
+import java.util.*;
+
+/**
+ * 강의실 특징 어휘. ("빔프로젝터, 화이트보드" 같은 자유 입력 목록을 토큰 번호로)
+ * - 스냅샷을 만들 때 모든 방의 특징 토큰에 0부터 번호를 붙인다. (토큰은 공백 제거, 소문자)
+ * - 특징 집합은 토큰 번호 비트를 켠 long 배열(words개)로 나타낸다. 포함 여부는 (room & wanted) == wanted
+ */
+public final class FeatureVocabulary {
+
+    private final Map<String, Integer> ids;
+    private final int words;
+
+    private FeatureVocabulary(Map<String, Integer> ids) {
+        this.ids = ids;
+        this.words = Math.max(1, (ids.size() + 63) / 64);
+    }
+
+    static FeatureVocabulary build(Collection<RoomRow> rooms) {
+        var ids = new HashMap<String, Integer>();
+        for (var room : rooms) {
+            for (var token : tokens(room.features())) ids.putIfAbsent(token, ids.size());
+        }
+        return new FeatureVocabulary(Map.copyOf(ids));
+    }
+
+    /** 마스크 하나의 long 개수 */
+    public int words() {
+        return words;
+    }
+
+    public int size() {
+        return ids.size();
+    }
+
+    /** 방의 특징 문자열 → 마스크 (어휘에 없는 토큰은 무시) */
+    long[] maskOf(String features) {
+        var mask = new long[words];
+        for (var token : tokens(features)) {
+            var id = ids.get(token);
+            if (id != null) mask[id >>> 6] |= 1L << (id & 63);
+        }
+        return mask;
+    }
+
+    /** 요구 특징 → 마스크. 어휘에 없는 특징이 있으면 어느 방도 갖추지 못하므로 null */
+    long[] requiredMask(Collection<String> required) {
+        var mask = new long[words];
+        if (required == null) return mask;
+        for (var raw : required) {
+            var token = normalize(raw);
+            if (token.isEmpty()) continue;
+            var id = ids.get(token);
+            if (id == null) return null;
+            mask[id >>> 6] |= 1L << (id & 63);
+        }
+        return mask;
+    }
+
+    /** masks[offset..offset+words) 가 wanted를 모두 포함하는지 */
+    boolean containsAll(long[] masks, int offset, long[] wanted) {
+        for (int w = 0; w < words; w++) {
+            if ((masks[offset + w] & wanted[w]) != wanted[w]) return false;
+        }
+        return true;
+    }
+
+    /** "빔프로젝터, 화이트보드" → [빔프로젝터, 화이트보드] */
+    private static List<String> tokens(String features) {
+        if (features == null || features.isBlank()) return List.of();
+        var tokens = new ArrayList<String>();
+        for (var raw : features.split(",")) {
+            var token = normalize(raw);
+            if (!token.isEmpty()) tokens.add(token);
+        }
+        return tokens;
+    }
+
+    private static String normalize(String token) {
+        return (token == null) ? "" : token.strip().toLowerCase(Locale.ROOT);
+    }
+}
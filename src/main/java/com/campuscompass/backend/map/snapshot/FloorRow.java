@@ -0,0 +1,8 @@
+package com.campuscompass.backend.map.snapshot;
+
+public record FloorRow(
+        Integer id,
+        Integer buildingId,
+        Integer level,
+        String name
+) { }
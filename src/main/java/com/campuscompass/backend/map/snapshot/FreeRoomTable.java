@@ -0,0 +1,229 @@
+package com.campuscompass.backend.map.snapshot;
+
+import java.util.*;
+import java.util.stream.IntStream;
+
+/**
+ * 요일 × 5분 슬롯마다 "그 슬롯 동안 비어 있는 강의실" 비트셋을 미리 계산해 둔 표.
+ * - 강의실은 (건물 이름, 층, 방) 순으로 번호(ordinal)를 매겨 두므로, 비트 순서가 곧 응답 순서이고
+ *   건물 필터는 ordinal 구간 하나로 끝난다.
+ * - 조회 구간의 슬롯 비트셋을 AND 하면 캠퍼스 전체 빈 강의실이 한 번에 나온다.
+ *   경계에 일부만 걸친 슬롯에서 수업이 있는 강의실만 OccupancyIndex로 정확히 다시 확인한다.
+ * - 특징은 FeatureVocabulary 비트 마스크로, 수용 인원은 수용 인원순 ordinal 배열의 이분 탐색으로 거른다.
+ */
+public final class FreeRoomTable {
+
+    private static final int DAYS = OccupancyIndex.DAYS;
+    private static final int SLOTS = OccupancyIndex.SLOTS_PER_DAY;
+
+    private final RoomRow[] classrooms;        // ordinal → 강의실
+    private final int[] buildingFrom;          // 건물 id → ordinal 시작 (포함)
+    private final int[] buildingTo;            // 건물 id → ordinal 끝 (미포함)
+    private final FeatureVocabulary vocabulary;
+    private final long[] featureMasks;         // [ordinal * vocabulary.words() + w]
+    private final int[] byCapacity;            // 수용 인원 오름차순 ordinal (같으면 ordinal순, 수용 인원 없는 방 제외)
+    private final int[] sortedCapacities;      // byCapacity와 같은 순서의 수용 인원
+    private final int[] unknownCapacity;       // 수용 인원 없는 방 ordinal (오름차순)
+    private final int words;
+    private final long[] free;                 // [((day * SLOTS) + slot) * words + w]
+    private final OccupancyIndex occupancy;
+
+    private FreeRoomTable(RoomRow[] classrooms, int[] buildingFrom, int[] buildingTo,
+                          FeatureVocabulary vocabulary, long[] featureMasks,
+                          int[] byCapacity, int[] sortedCapacities, int[] unknownCapacity,
+                          int words, long[] free, OccupancyIndex occupancy) {
+        this.classrooms = classrooms;
+        this.buildingFrom = buildingFrom;
+        this.buildingTo = buildingTo;
+        this.vocabulary = vocabulary;
+        this.featureMasks = featureMasks;
+        this.byCapacity = byCapacity;
+        this.sortedCapacities = sortedCapacities;
+        this.unknownCapacity = unknownCapacity;
+        this.words = words;
+        this.free = free;
+        this.occupancy = occupancy;
+    }
+
+    /**
+     * @param classroomsByBuilding 건물 id → 응답 순서로 정렬된 강의실 (건물도 응답 순서대로 순회되어야 한다)
+     */
+    static FreeRoomTable build(LinkedHashMap<Integer, List<RoomRow>> classroomsByBuilding,
+                               int buildingCapacity,
+                               OccupancyIndex occupancy) {
+        var ordered = new ArrayList<RoomRow>();
+        var buildingFrom = new int[buildingCapacity];
+        var buildingTo = new int[buildingCapacity];
+        classroomsByBuilding.forEach((buildingId, rooms) -> {
+            buildingFrom[buildingId] = ordered.size();
+            ordered.addAll(rooms);
+            buildingTo[buildingId] = ordered.size();
+        });
+
+        var classrooms = ordered.toArray(RoomRow[]::new);
+        int words = (classrooms.length + 63) / 64;
+        var free = new long[DAYS * SLOTS * words];
+        for (int day = 0; day < DAYS; day++) {
+            for (int i = 0; i < classrooms.length; i++) {
+                int roomId = classrooms[i].id();
+                for (int slot = 0; slot < SLOTS; slot++) {
+                    long busy = occupancy.slotWord(roomId, day + 1, slot >>> 6) & (1L << (slot & 63));
+                    if (busy == 0) free[(day * SLOTS + slot) * words + (i >>> 6)] |= 1L << (i & 63);
+                }
+            }
+        }
+
+        var vocabulary = FeatureVocabulary.build(ordered);
+        int featureWords = vocabulary.words();
+        var featureMasks = new long[classrooms.length * featureWords];
+        for (int i = 0; i < classrooms.length; i++) {
+            System.arraycopy(vocabulary.maskOf(classrooms[i].features()), 0, featureMasks, i * featureWords, featureWords);
+        }
+
+        var byCapacity = IntStream.range(0, classrooms.length)
+                .filter(i -> classrooms[i].capacity() != null)
+                .boxed()
+                .sorted(Comparator.<Integer>comparingInt(i -> classrooms[i].capacity()).thenComparingInt(i -> i))
+                .mapToInt(Integer::intValue)
+                .toArray();
+        var sortedCapacities = Arrays.stream(byCapacity).map(i -> classrooms[i].capacity()).toArray();
+        var unknownCapacity = IntStream.range(0, classrooms.length)
+                .filter(i -> classrooms[i].capacity() == null)
+                .toArray();
+
+        return new FreeRoomTable(classrooms, buildingFrom, buildingTo, vocabulary, featureMasks,
+                byCapacity, sortedCapacities, unknownCapacity, words, free, occupancy);
+    }
+
+    /**
+     * 조건에 맞는 빈 강의실 (건물 이름, 층, 방 순)
+     *
+     * @param buildingId       null이면 전체 건물
+     * @param minCapacity      null이면 제한 없음
+     * @param requiredFeatures 모두 갖춘 강의실만 (비어 있으면 제한 없음)
+     */
+    public List<RoomRow> findFree(int dayOfWeek,
+                                  OccupancyIndex.Window window,
+                                  Integer buildingId,
+                                  Integer minCapacity,
+                                  Collection<String> requiredFeatures) {
+        int from = 0, to = classrooms.length;
+        if (buildingId != null) {
+            if (buildingId < 0 || buildingId >= buildingFrom.length) return List.of();
+            from = buildingFrom[buildingId];
+            to = buildingTo[buildingId];
+        }
+        if (from >= to) return List.of();
+        var wanted = vocabulary.requiredMask(requiredFeatures);
+        if (wanted == null) return List.of();
+
+        var freeBits = new FreeBits(dayOfWeek, window);
+        var result = new ArrayList<RoomRow>();
+        for (int i = from; i < to; i++) {
+            if (!freeBits.isFree(i)) continue;
+
+            var room = classrooms[i];
+            if (minCapacity != null && (room.capacity() == null || room.capacity() < minCapacity)) continue;
+            if (!vocabulary.containsAll(featureMasks, i * vocabulary.words(), wanted)) continue;
+            result.add(room);
+        }
+        return result;
+    }
+
+    /**
+     * 수용 인원 조건에 맞는 강의실을 수용 인원이 작은 순으로 (같으면 건물 이름, 층, 방 순)
+     * - 수용 인원순 배열에서 minCapacity 이상인 첫 위치를 이분 탐색으로 찾고 거기서부터 훑는다.
+     * - 건물은 ordinal 구간, 특징은 마스크 AND, 시간은 빈 강의실 비트셋으로 거른다.
+     * - 수용 인원 조건이 하나도 없으면 수용 인원이 없는 방도 맨 뒤에 (건물 이름, 층, 방 순) 붙인다.
+     *
+     * @param window      null이면 시간 조건 없음
+     * @param maxCapacity null이면 제한 없음
+     * @param limit       최대 개수
+     */
+    public List<RoomRow> findByCapacity(int dayOfWeek,
+                                        OccupancyIndex.Window window,
+                                        Integer buildingId,
+                                        Integer minCapacity,
+                                        Integer maxCapacity,
+                                        Collection<String> requiredFeatures,
+                                        int limit) {
+        int from = 0, to = classrooms.length;
+        if (buildingId != null) {
+            if (buildingId < 0 || buildingId >= buildingFrom.length) return List.of();
+            from = buildingFrom[buildingId];
+            to = buildingTo[buildingId];
+        }
+        if (from >= to || limit <= 0) return List.of();
+        var wanted = vocabulary.requiredMask(requiredFeatures);
+        if (wanted == null) return List.of();
+
+        var freeBits = (window != null) ? new FreeBits(dayOfWeek, window) : null;
+        int featureWords = vocabulary.words();
+        var result = new ArrayList<RoomRow>();
+        for (int p = lowerBound(minCapacity != null ? minCapacity : Integer.MIN_VALUE); p < byCapacity.length; p++) {
+            if (maxCapacity != null && sortedCapacities[p] > maxCapacity) break;
+            int i = byCapacity[p];
+            if (i < from || i >= to) continue;
+            if (!vocabulary.containsAll(featureMasks, i * featureWords, wanted)) continue;
+            if (freeBits != null && !freeBits.isFree(i)) continue;
+            result.add(classrooms[i]);
+            if (result.size() == limit) return result;
+        }
+        if (minCapacity != null || maxCapacity != null) return result;
+
+        for (int i : unknownCapacity) {
+            if (i < from || i >= to) continue;
+            if (!vocabulary.containsAll(featureMasks, i * featureWords, wanted)) continue;
+            if (freeBits != null && !freeBits.isFree(i)) continue;
+            result.add(classrooms[i]);
+            if (result.size() == limit) break;
+        }
+        return result;
+    }
+
+    /** 수용 인원이 capacity 이상인 첫 위치 (byCapacity 기준) */
+    private int lowerBound(int capacity) {
+        int lo = 0, hi = sortedCapacities.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (sortedCapacities[mid] >= capacity) hi = mid;
+            else lo = mid + 1;
+        }
+        return lo;
+    }
+
+    /** 조회 구간 동안 빈 강의실: 확실히 빈 것(definite) + 경계 슬롯만 다시 확인할 것(uncertain) */
+    private final class FreeBits {
+        private final int dayOfWeek;
+        private final OccupancyIndex.Window window;
+        private final long[] definite = new long[words];
+        private final long[] uncertain = new long[words];
+
+        FreeBits(int dayOfWeek, OccupancyIndex.Window window) {
+            this.dayOfWeek = dayOfWeek;
+            this.window = window;
+            Arrays.fill(definite, -1L);
+            if (dayOfWeek >= 1 && dayOfWeek <= DAYS) {
+                int day = dayOfWeek - 1;
+                for (int slot = Math.max(window.firstFullSlot, 0); slot <= window.lastFullSlot; slot++) {
+                    and(definite, day, slot);
+                }
+                System.arraycopy(definite, 0, uncertain, 0, words);
+                if (window.lowEdgeSlot >= 0) and(definite, day, window.lowEdgeSlot);
+                if (window.highEdgeSlot >= 0 && window.highEdgeSlot < SLOTS) and(definite, day, window.highEdgeSlot);
+                for (int w = 0; w < words; w++) uncertain[w] &= ~definite[w];
+            }
+        }
+
+        boolean isFree(int ordinal) {
+            long bit = 1L << (ordinal & 63);
+            return (definite[ordinal >>> 6] & bit) != 0
+                    || ((uncertain[ordinal >>> 6] & bit) != 0 && occupancy.isFree(classrooms[ordinal].id(), dayOfWeek, window));
+        }
+    }
+
+    private void and(long[] acc, int day, int slot) {
+        int base = (day * SLOTS + slot) * words;
+        for (int w = 0; w < words; w++) acc[w] &= free[base + w];
+    }
+}
@@ -0,0 +1,180 @@
+package com.campuscompass.backend.map.snapshot;
+
+/**
+ * 한글 음절을 자모로 분해하는 유틸리티 (검색 색인용).
+ *
+ * 자모 형태(jamo): 음절을 초성/중성/종성 조합형 자모(U+1100 블록)로 풀어 쓴다.
+ * - 겹모음, 겹받침도 홑자모로 풀어서 "고"가 "관"의 앞부분과, "닭"이 "달ㄱ"과 같아지게 한다.
+ * - 초성/중성/종성은 서로 다른 코드 영역이므로 "받침 ㄴ"과 "초성 ㄴ"은 구분된다.
+ *
+ * 초성 형태(choseong): 음절마다 초성만 호환 자모(ㄱ~ㅎ)로 남기고 공백은 뺀다. ("진리관" → "ㅈㄹㄱ")
+ */
+public final class HangulJamo {
+
+    private static final char SYLLABLE_FIRST = '가';
+    private static final char SYLLABLE_LAST = '힣';
+    private static final int JUNG_COUNT = 21;
+    private static final int JONG_COUNT = 28;
+
+    private static final char L_BASE = 'ᄀ';   // 초성 ᄀ
+    private static final char V_BASE = 'ᅡ';   // 중성 ᅡ
+    private static final char T_BASE = 'ᆧ';   // 종성 (index 0 = 없음)
+
+    /** 초성 index → 호환 자모 */
+    private static final char[] CHO_COMPAT = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    /** 중성 index → 홑모음 index 1~2개 (겹모음 분해) */
+    private static final int[][] JUNG_PARTS = {
+            {0}, {1}, {2}, {3}, {4}, {5}, {6}, {7}, {8},
+            {8, 0}, {8, 1}, {8, 20},         // ㅘ ㅙ ㅚ
+            {12}, {13},
+            {13, 4}, {13, 5}, {13, 20},      // ㅝ ㅞ ㅟ
+            {17}, {18},
+            {18, 20},                        // ㅢ
+            {20}
+    };
+
+    /** 종성 index → 홑받침 index 1~2개 (겹받침 분해) */
+    private static final int[][] JONG_PARTS = {
+            {},
+            {1}, {2}, {1, 19}, {4}, {4, 22}, {4, 27}, {7}, {8},
+            {8, 1}, {8, 16}, {8, 17}, {8, 19}, {8, 25}, {8, 26}, {8, 27},   // ㄺ ㄻ ㄼ ㄽ ㄾ ㄿ ㅀ
+            {16}, {17}, {17, 19}, {19}, {20}, {21}, {22}, {23}, {24}, {25}, {26}, {27}
+    };
+
+    /** 홑받침 index → 같은 소리의 초성 index (다음 음절 초성으로 옮길 때) */
+    private static final int[] JONG_TO_CHO = new int[JONG_COUNT];
+
+    /** 호환 자모 (U+3131~U+3163) → 조합형 문자열 */
+    private static final String[] COMPAT_TO_JAMO = new String['ㅣ' - 'ㄱ' + 1];
+
+    static {
+        java.util.Arrays.fill(JONG_TO_CHO, -1);
+        int[][] pairs = {
+                {1, 0}, {2, 1}, {4, 2}, {7, 3}, {8, 5}, {16, 6}, {17, 7}, {19, 9}, {20, 10},
+                {21, 11}, {22, 12}, {23, 14}, {24, 15}, {25, 16}, {26, 17}, {27, 18}
+        };
+        for (var p : pairs) JONG_TO_CHO[p[0]] = p[1];
+
+        // 자음: 초성으로 쓰일 수 있는 것은 초성, 겹받침 전용(ㄳ 등)은 종성으로
+        for (int cho = 0; cho < CHO_COMPAT.length; cho++) {
+            COMPAT_TO_JAMO[CHO_COMPAT[cho] - 'ㄱ'] = String.valueOf((char) (L_BASE + cho));
+        }
+        char[] jongOnly = {'ㄳ', 'ㄵ', 'ㄶ', 'ㄺ', 'ㄻ', 'ㄼ', 'ㄽ', 'ㄾ', 'ㄿ', 'ㅀ', 'ㅄ'};
+        int[] jongOnlyIndex = {3, 5, 6, 9, 10, 11, 12, 13, 14, 15, 18};
+        for (int i = 0; i < jongOnly.length; i++) {
+            var sb = new StringBuilder();
+            appendJong(sb, jongOnlyIndex[i]);
+            COMPAT_TO_JAMO[jongOnly[i] - 'ㄱ'] = sb.toString();
+        }
+        // 모음: ㅏ(U+314F) ~ ㅣ(U+3163)
+        for (int jung = 0; jung < JUNG_COUNT; jung++) {
+            var sb = new StringBuilder();
+            for (int part : JUNG_PARTS[jung]) sb.append((char) (V_BASE + part));
+            COMPAT_TO_JAMO['ㅏ' + jung - 'ㄱ'] = sb.toString();
+        }
+    }
+
+    private HangulJamo() { }
+
+    /** 완성형 음절이나 호환 자모가 하나라도 있는지 */
+    public static boolean containsHangul(String s) {
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (isSyllable(c) || isCompatJamo(c)) return true;
+        }
+        return false;
+    }
+
+    /** 공백을 빼고 모두 초성용 자음(ㄱ~ㅎ)이면 초성 검색어로 본다. ("ㅈㄹㄱ") */
+    public static boolean isChoseongQuery(String s) {
+        boolean any = false;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (Character.isWhitespace(c)) continue;
+            if (!isCompatJamo(c) || !(COMPAT_TO_JAMO[c - 'ㄱ'].length() == 1 && isChoseong(COMPAT_TO_JAMO[c - 'ㄱ'].charAt(0)))) {
+                return false;
+            }
+            any = true;
+        }
+        return any;
+    }
+
+    /** "진리관" → "진리고ᅡᆫ" (한글 외 문자는 그대로) */
+    public static String toJamo(String s) {
+        var sb = new StringBuilder(s.length() * 3);
+        for (int i = 0; i < s.length(); i++) {
+            appendJamo(sb, s.charAt(i));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 입력 중인 검색어의 마지막 받침을 다음 음절 초성으로 옮긴 형태.
+     * "짛"을 치는 중이라면 사용자는 "지혜…"를 찾는 것일 수 있다. → "지ᄒ"
+     * 마지막 글자가 받침 있는 음절이 아니면 null.
+     */
+    public static String toJamoWithTrailingChoseong(String s) {
+        if (s.isEmpty()) return null;
+        char last = s.charAt(s.length() - 1);
+        if (!isSyllable(last)) return null;
+        int jong = (last - SYLLABLE_FIRST) % JONG_COUNT;
+        if (jong == 0) return null;
+
+        var jamo = toJamo(s);
+        var parts = JONG_PARTS[jong];
+        int movedCho = JONG_TO_CHO[parts[parts.length - 1]];
+        if (movedCho < 0) return null;
+        return jamo.substring(0, jamo.length() - 1) + (char) (L_BASE + movedCho);
+    }
+
+    /** "학생 카페" → "ㅎㅅㅋㅍ" (한글 외 문자는 그대로, 공백 제거) */
+    public static String toChoseong(String s) {
+        var sb = new StringBuilder(s.length());
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (Character.isWhitespace(c)) continue;
+            if (isSyllable(c)) {
+                sb.append(CHO_COMPAT[(c - SYLLABLE_FIRST) / (JUNG_COUNT * JONG_COUNT)]);
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    private static void appendJamo(StringBuilder sb, char c) {
+        if (isSyllable(c)) {
+            int index = c - SYLLABLE_FIRST;
+            int cho = index / (JUNG_COUNT * JONG_COUNT);
+            int jung = (index % (JUNG_COUNT * JONG_COUNT)) / JONG_COUNT;
+            int jong = index % JONG_COUNT;
+            sb.append((char) (L_BASE + cho));
+            for (int part : JUNG_PARTS[jung]) sb.append((char) (V_BASE + part));
+            appendJong(sb, jong);
+        } else if (isCompatJamo(c)) {
+            sb.append(COMPAT_TO_JAMO[c - 'ㄱ']);
+        } else {
+            sb.append(c);
+        }
+    }
+
+    private static void appendJong(StringBuilder sb, int jong) {
+        for (int part : JONG_PARTS[jong]) sb.append((char) (T_BASE + part));
+    }
+
+    private static boolean isSyllable(char c) {
+        return c >= SYLLABLE_FIRST && c <= SYLLABLE_LAST;
+    }
+
+    private static boolean isCompatJamo(char c) {
+        return c >= 'ㄱ' && c <= 'ㅣ';
+    }
+
+    private static boolean isChoseong(char c) {
+        return c >= L_BASE && c < L_BASE + CHO_COMPAT.length;
+    }
+}
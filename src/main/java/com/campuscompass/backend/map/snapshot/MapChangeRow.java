@@ -0,0 +1,10 @@
+package com.campuscompass.backend.map.snapshot;
+
+import com.campuscompass.backend.map.domain.MapChange;
+
+public record MapChangeRow(
+        Long version,
+        MapChange.EntityType entityType,
+        Integer entityId,
+        MapChange.Op op
+) { }
@@ -0,0 +1,367 @@
+package com.campuscompass.backend.map.snapshot;
+
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.*;
+
+/**
+ * 방 × 요일별 사용 현황 인덱스.
+ * - 하루를 5분 단위 슬롯(288개)으로 나눠, 수업이 조금이라도 걸친 슬롯을 비트로 표시 (방·요일마다 long 5개)
+ * - 같은 방·요일의 수업 시간은 겹치는 것끼리 합쳐서 시작 시각 순으로 보관
+ *
+ * 조회 구간에 완전히 포함되는 슬롯은 비트 AND 한 번으로 판정하고,
+ * 구간 경계에 걸친 슬롯(최대 2개)만 실제 시각으로 다시 확인한다.
+ * 따라서 5분 단위가 아닌 시각도 기존 JPQL(startTime < end and endTime > start)과 결과가 같다.
+ *
+ * 빈 시간(합쳐진 수업 구간 사이의 틈, 방·요일마다 구간 수 + 1개)의 길이로 희소 테이블(구간 최댓값)을 만들어 두어
+ * "언제까지 비어 있나"는 이분 탐색 한 번, "다음에 N분 이상 비는 때"는 이분 탐색 + 희소 테이블 점프로 O(log n)에 답한다.
+ */
+public final class OccupancyIndex {
+
+    public static final int DAYS = 7;
+    public static final long SLOT_NANOS = 5L * 60 * 1_000_000_000L;
+    public static final int SLOTS_PER_DAY = 24 * 60 / 5;
+    static final int WORDS = (SLOTS_PER_DAY + 63) / 64;
+
+    /** 하루 끝 (24:00, 미포함 경계) */
+    static final long DAY_NANOS = 24L * 60 * 60 * 1_000_000_000L;
+
+    private static final OccupancyIndex EMPTY = new OccupancyIndex(0, new long[0], new int[1], new long[0], new long[0]);
+
+    private final int roomCapacity;        // room id 상한 (배열 크기)
+    private final long[] bits;             // [(roomId * DAYS + day) * WORDS + word]
+    private final int[] intervalOffsets;   // [(roomId * DAYS + day)] → starts/ends 시작 위치 (CSR)
+    private final long[] starts;           // 합쳐진 수업 구간 시작 (nanoOfDay)
+    private final long[] ends;             // 합쳐진 수업 구간 끝 (nanoOfDay, 미포함)
+    private final long[][] gapMax;         // [k][g] = 빈 시간 g..g+2^k-1 중 가장 긴 길이 (g = intervalOffsets[key] + key + i)
+
+    private OccupancyIndex(int roomCapacity, long[] bits, int[] intervalOffsets, long[] starts, long[] ends) {
+        this.roomCapacity = roomCapacity;
+        this.bits = bits;
+        this.intervalOffsets = intervalOffsets;
+        this.starts = starts;
+        this.ends = ends;
+        this.gapMax = buildGapTable(intervalOffsets, starts, ends);
+    }
+
+    /** 방·요일별 빈 시간 길이를 이어 붙이고, 방·요일 하나 안에서 쓸 만큼의 단계까지 희소 테이블을 만든다. */
+    private static long[][] buildGapTable(int[] offsets, long[] starts, long[] ends) {
+        int keys = offsets.length - 1;
+        var lengths = new long[starts.length + keys];
+        int maxGaps = 1;
+        for (int key = 0; key < keys; key++) {
+            int lo = offsets[key], hi = offsets[key + 1];
+            int g = lo + key;
+            long prevEnd = 0;
+            for (int i = lo; i < hi; i++) {
+                lengths[g++] = starts[i] - prevEnd;
+                prevEnd = ends[i];
+            }
+            lengths[g] = DAY_NANOS - prevEnd;
+            maxGaps = Math.max(maxGaps, hi - lo + 1);
+        }
+
+        int levels = 32 - Integer.numberOfLeadingZeros(maxGaps);   // 2^(levels-1) <= maxGaps
+        var table = new long[levels][];
+        table[0] = lengths;
+        for (int k = 1; k < levels; k++) {
+            int half = 1 << (k - 1);
+            var prev = table[k - 1];
+            var cur = new long[lengths.length];
+            for (int g = 0; g + half < lengths.length; g++) cur[g] = Math.max(prev[g], prev[g + half]);
+            table[k] = cur;
+        }
+        return table;
+    }
+
+    public static OccupancyIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 시간표로 인덱스를 만든다.
+     * 요일이 1~7이 아니거나, 방이 없거나, 끝 시각이 시작 시각 이후가 아닌 행은 건너뛴다.
+     */
+    public static OccupancyIndex build(Collection<ScheduleRow> schedules) {
+        int maxRoomId = -1;
+        for (var s : schedules) {
+            if (isValid(s)) maxRoomId = Math.max(maxRoomId, s.roomId());
+        }
+        if (maxRoomId < 0) return EMPTY;
+
+        int roomCapacity = maxRoomId + 1;
+        int keys = roomCapacity * DAYS;
+
+        // 1) 방·요일별로 [start, end) 모으기
+        @SuppressWarnings("unchecked")
+        List<long[]>[] buckets = new List[keys];
+        for (var s : schedules) {
+            if (!isValid(s)) continue;
+            int key = s.roomId() * DAYS + (s.dayOfWeek() - 1);
+            if (buckets[key] == null) buckets[key] = new ArrayList<>();
+            long end = s.endTime().equals(LocalTime.MAX) ? DAY_NANOS : s.endTime().toNanoOfDay();   // 23:59:59.999… = 24:00
+            buckets[key].add(new long[]{s.startTime().toNanoOfDay(), end});
+        }
+
+        // 2) 정렬 후 겹치는(맞닿는) 구간 합치기 + 슬롯 비트 채우기
+        var bits = new long[keys * WORDS];
+        var offsets = new int[keys + 1];
+        var mergedStarts = new long[schedules.size()];
+        var mergedEnds = new long[schedules.size()];
+        int n = 0;
+        for (int key = 0; key < keys; key++) {
+            offsets[key] = n;
+            var bucket = buckets[key];
+            if (bucket == null) continue;
+
+            bucket.sort(Comparator.comparingLong(iv -> iv[0]));
+            long curStart = bucket.get(0)[0], curEnd = bucket.get(0)[1];
+            for (int i = 1; i < bucket.size(); i++) {
+                var iv = bucket.get(i);
+                if (iv[0] <= curEnd) {
+                    curEnd = Math.max(curEnd, iv[1]);
+                } else {
+                    mergedStarts[n] = curStart;
+                    mergedEnds[n++] = curEnd;
+                    curStart = iv[0];
+                    curEnd = iv[1];
+                }
+            }
+            mergedStarts[n] = curStart;
+            mergedEnds[n++] = curEnd;
+
+            for (int i = offsets[key]; i < n; i++) {
+                setRange(bits, key * WORDS, (int) (mergedStarts[i] / SLOT_NANOS), (int) ((mergedEnds[i] - 1) / SLOT_NANOS));
+            }
+        }
+        offsets[keys] = n;
+
+        return new OccupancyIndex(roomCapacity, bits, offsets,
+                Arrays.copyOf(mergedStarts, n), Arrays.copyOf(mergedEnds, n));
+    }
+
+    /** 조회 구간을 비트 마스크로 미리 계산한다. (여러 방에 같은 구간으로 물어볼 때 재사용) */
+    public static Window window(LocalTime start, LocalTime end) {
+        long s = start.toNanoOfDay();
+        long e = end.toNanoOfDay();
+        if (e <= s) throw new IllegalArgumentException("end는 start 이후여야 합니다.");
+
+        var interior = new long[WORDS];
+        var boundary = new long[WORDS];
+
+        // 구간 안에 완전히 들어가는 슬롯
+        int firstFull = (int) ((s + SLOT_NANOS - 1) / SLOT_NANOS);
+        int lastFull = (int) (e / SLOT_NANOS) - 1;
+        if (firstFull <= lastFull) setRange(interior, 0, firstFull, lastFull);
+
+        // 구간 경계에 일부만 걸친 슬롯
+        int lowEdge = (s % SLOT_NANOS != 0) ? (int) (s / SLOT_NANOS) : -1;
+        int highEdge = (e % SLOT_NANOS != 0) ? (int) (e / SLOT_NANOS) : -1;
+        if (lowEdge >= 0) setRange(boundary, 0, lowEdge, lowEdge);
+        if (highEdge >= 0) setRange(boundary, 0, highEdge, highEdge);
+
+        return new Window(s, e, interior, boundary, firstFull, lastFull, lowEdge, highEdge);
+    }
+
+    /** 해당 방이 그 요일, 구간 동안 비어 있는지 */
+    public boolean isFree(int roomId, int dayOfWeek, Window window) {
+        int key = key(roomId, dayOfWeek);
+        if (key < 0 || intervalOffsets[key] == intervalOffsets[key + 1]) return true;
+
+        int base = key * WORDS;
+        boolean touchesBoundary = false;
+        for (int w = 0; w < WORDS; w++) {
+            long word = bits[base + w];
+            if ((word & window.interior[w]) != 0) return false;
+            if ((word & window.boundary[w]) != 0) touchesBoundary = true;
+        }
+        return !touchesBoundary || !overlapsExactly(key, window.start, window.end);
+    }
+
+    public boolean isFree(int roomId, int dayOfWeek, LocalTime start, LocalTime end) {
+        return isFree(roomId, dayOfWeek, window(start, end));
+    }
+
+    /** start < e && end > s 인 구간이 있는지 (이분 탐색) */
+    private boolean overlapsExactly(int key, long s, long e) {
+        int lo = intervalOffsets[key], hi = intervalOffsets[key + 1];
+        // end > s 인 첫 구간 (합쳐진 구간은 end도 오름차순)
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (ends[mid] > s) hi = mid;
+            else lo = mid + 1;
+        }
+        return lo < intervalOffsets[key + 1] && starts[lo] < e;
+    }
+
+    /** at 시각부터 이어지는 빈 시간 (at에 수업 중이면 empty) */
+    public Optional<FreeSlot> freeAt(int roomId, int dayOfWeek, LocalTime at) {
+        int key = key(roomId, dayOfWeek);
+        long t = at.toNanoOfDay();
+        if (key < 0) return Optional.of(new FreeSlot(t, DAY_NANOS));
+
+        int lo = intervalOffsets[key], hi = intervalOffsets[key + 1];
+        int i = firstEndingAfter(lo, hi, t);
+        if (i < hi && starts[i] <= t) return Optional.empty();
+        return Optional.of(new FreeSlot(t, (i < hi) ? starts[i] : DAY_NANOS));
+    }
+
+    /** at 이후(at 포함) 처음으로 minLength 이상 이어지는 빈 시간 (그날 안에 없으면 empty) */
+    public Optional<FreeSlot> nextFree(int roomId, int dayOfWeek, LocalTime at, Duration minLength) {
+        int key = key(roomId, dayOfWeek);
+        long t = at.toNanoOfDay();
+        long need = Math.max(minLength.toNanos(), 1);
+        if (key < 0) return (DAY_NANOS - t >= need) ? Optional.of(new FreeSlot(t, DAY_NANOS)) : Optional.empty();
+
+        int lo = intervalOffsets[key], hi = intervalOffsets[key + 1];
+        int i = firstEndingAfter(lo, hi, t);
+        boolean busy = i < hi && starts[i] <= t;
+        if (!busy) {                                           // at이 들어 있는 빈 시간은 at부터 센다
+            long end = (i < hi) ? starts[i] : DAY_NANOS;
+            if (end - t >= need) return Optional.of(new FreeSlot(t, end));
+        }
+
+        // 수업 i가 끝난 뒤의 빈 시간부터
+        int g = firstGapAtLeast(lo + key, hi - lo + 1, i - lo + 1, need);
+        return (g < 0) ? Optional.empty() : Optional.of(gap(lo, hi, g));
+    }
+
+    /**
+     * at 시각에 진행 중이거나, 없으면 at 뒤에 처음 시작하는 수업 구간 (그날 안에 없으면 empty).
+     * 맞닿거나 겹치는 수업은 한 구간으로 합쳐져 있다.
+     */
+    public Optional<ClassBlock> classAtOrAfter(int roomId, int dayOfWeek, LocalTime at) {
+        int key = key(roomId, dayOfWeek);
+        if (key < 0) return Optional.empty();
+
+        int hi = intervalOffsets[key + 1];
+        int i = firstEndingAfter(intervalOffsets[key], hi, at.toNanoOfDay());
+        return (i < hi) ? Optional.of(new ClassBlock(starts[i], ends[i])) : Optional.empty();
+    }
+
+    /** 그날의 빈 시간 중 minLength 이상인 것 (시작 시각 순) */
+    public List<FreeSlot> freeSlots(int roomId, int dayOfWeek, Duration minLength) {
+        int key = key(roomId, dayOfWeek);
+        long need = Math.max(minLength.toNanos(), 1);
+        if (key < 0) return (DAY_NANOS >= need) ? List.of(new FreeSlot(0, DAY_NANOS)) : List.of();
+
+        int lo = intervalOffsets[key], hi = intervalOffsets[key + 1];
+        var result = new ArrayList<FreeSlot>();
+        for (int g = 0; g <= hi - lo; g++) {
+            if (gapMax[0][lo + key + g] >= need) result.add(gap(lo, hi, g));
+        }
+        return result;
+    }
+
+    /** end > t 인 첫 구간 번호 (없으면 hi) */
+    private int firstEndingAfter(int lo, int hi, long t) {
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (ends[mid] > t) hi = mid;
+            else lo = mid + 1;
+        }
+        return lo;
+    }
+
+    /** 빈 시간 from..count-1 중 길이가 need 이상인 첫 번호 (없으면 -1). 희소 테이블로 큰 칸부터 건너뛴다. */
+    private int firstGapAtLeast(int base, int count, int from, long need) {
+        int g = from;
+        for (int k = gapMax.length - 1; k >= 0; k--) {
+            if (g + (1 << k) <= count && gapMax[k][base + g] < need) g += 1 << k;
+        }
+        return (g < count) ? g : -1;
+    }
+
+    /** 방·요일의 g번째 빈 시간 (구간 lo..hi-1 사이) */
+    private FreeSlot gap(int lo, int hi, int g) {
+        long start = (g == 0) ? 0 : ends[lo + g - 1];
+        long end = (lo + g < hi) ? starts[lo + g] : DAY_NANOS;
+        return new FreeSlot(start, end);
+    }
+
+    /** 방·요일의 슬롯 비트 한 word (수업이 걸친 슬롯이면 1) */
+    long slotWord(int roomId, int dayOfWeek, int word) {
+        int key = key(roomId, dayOfWeek);
+        return (key < 0) ? 0L : bits[key * WORDS + word];
+    }
+
+    private int key(int roomId, int dayOfWeek) {
+        if (roomId < 0 || roomId >= roomCapacity || dayOfWeek < 1 || dayOfWeek > DAYS) return -1;
+        return roomId * DAYS + (dayOfWeek - 1);
+    }
+
+    private static boolean isValid(ScheduleRow s) {
+        return s.roomId() != null && s.roomId() >= 0
+                && s.dayOfWeek() != null && s.dayOfWeek() >= 1 && s.dayOfWeek() <= DAYS
+                && s.startTime() != null && s.endTime() != null
+                && s.endTime().isAfter(s.startTime());
+    }
+
+    /** base 위치부터 슬롯 from..to(포함) 비트를 켠다. */
+    private static void setRange(long[] words, int base, int from, int to) {
+        for (int w = from >>> 6; w <= to >>> 6; w++) {
+            long mask = -1L;
+            if (w == from >>> 6) mask &= -1L << (from & 63);
+            if (w == to >>> 6) mask &= -1L >>> (63 - (to & 63));
+            words[base + w] |= mask;
+        }
+    }
+
+    /**
+     * 빈 시간 [start, end) (nanoOfDay). end가 DAY_NANOS면 하루 끝(24:00)까지.
+     */
+    public record FreeSlot(long startNanos, long endNanos) {
+
+        public LocalTime start() {
+            return LocalTime.ofNanoOfDay(startNanos);
+        }
+
+        /** 하루 끝까지 비어 있으면 null */
+        public LocalTime end() {
+            return (endNanos >= DAY_NANOS) ? null : LocalTime.ofNanoOfDay(endNanos);
+        }
+
+        public Duration length() {
+            return Duration.ofNanos(endNanos - startNanos);
+        }
+    }
+
+    /**
+     * 수업 구간 [start, end) (nanoOfDay). end가 DAY_NANOS면 하루 끝(24:00)까지.
+     */
+    public record ClassBlock(long startNanos, long endNanos) {
+
+        public LocalTime start() {
+            return LocalTime.ofNanoOfDay(startNanos);
+        }
+
+        /** 하루 끝까지 이어지면 null */
+        public LocalTime end() {
+            return (endNanos >= DAY_NANOS) ? null : LocalTime.ofNanoOfDay(endNanos);
+        }
+    }
+
+    /** 미리 계산된 조회 구간 */
+    public static final class Window {
+        private final long start;
+        private final long end;
+        private final long[] interior;
+        private final long[] boundary;
+        final int firstFullSlot;   // 완전히 포함되는 슬롯 범위 (first > last 이면 없음)
+        final int lastFullSlot;
+        final int lowEdgeSlot;     // 일부만 걸친 슬롯 (-1 이면 없음)
+        final int highEdgeSlot;
+
+        private Window(long start, long end, long[] interior, long[] boundary,
+                       int firstFullSlot, int lastFullSlot, int lowEdgeSlot, int highEdgeSlot) {
+            this.start = start;
+            this.end = end;
+            this.interior = interior;
+            this.boundary = boundary;
+            this.firstFullSlot = firstFullSlot;
+            this.lastFullSlot = lastFullSlot;
+            this.lowEdgeSlot = lowEdgeSlot;
+            this.highEdgeSlot = highEdgeSlot;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.campuscompass.backend.map.snapshot;
+
+public record RoomRow(
+        Integer id,
+        Integer floorId,
+        String roomNumber,
+        String name,
+        String roomType,
+        Integer capacity,
+        String features,
+        String operatingHours
+) {
+    public boolean isClassroom() {
+        return "CLASSROOM".equals(roomType);
+    }
+
+    public boolean isFacility() {
+        return "FACILITY".equals(roomType);
+    }
+}
@@ -0,0 +1,12 @@
+package com.campuscompass.backend.map.snapshot;
+
+import java.time.LocalTime;
+
+public record ScheduleRow(
+        Integer id,
+        Integer roomId,
+        Integer dayOfWeek,
+        LocalTime startTime,
+        LocalTime endTime,
+        String courseName
+) { }
@@ -0,0 +1,347 @@
+package com.campuscompass.backend.map.snapshot;
+
+import com.campuscompass.backend.map.dto.SearchResultResponse;
+
+import java.util.*;
+
+/**
+ * 통합 검색용 n-gram 역색인 (건물 / 강의실 / 편의시설).
+ * - 검색 대상 문자열을 소문자로 만든 뒤 글자 1개(unigram)와 2개(bigram) 단위로 색인한다.
+ * - 검색어가 1글자면 unigram 목록, 2글자 이상이면 bigram 목록들의 교집합으로 후보를 줄이고
+ *   후보만 실제 포함 여부(contains)를 확인한다.
+ * - 문서 번호는 최종 검색 결과 순서(표시 이름, 대소문자 무시)대로 매기므로, 앞에서부터 limit개만 확인하면 된다.
+ * - 한글은 자모/초성으로 풀어 쓴 형태도 색인 시점에 만들어 따로 색인한다. (Mode.HANGUL)
+ * - 오타 허용 검색용으로 건물/방 이름을 BK-tree에도 넣어 둔다.
+ */
+public final class SearchIndex {
+
+    /** 통합 검색 결과 정렬(SearchQueryService)과 같은 표시 이름 순서 */
+    private static final Comparator<String> DISPLAY_ORDER = Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER);
+
+    private final TypeIndex buildings;
+    private final TypeIndex rooms;
+    private final TypeIndex facilities;
+    private final BkTree<SearchResultResponse> names;
+
+    private SearchIndex(TypeIndex buildings, TypeIndex rooms, TypeIndex facilities, BkTree<SearchResultResponse> names) {
+        this.buildings = buildings;
+        this.rooms = rooms;
+        this.facilities = facilities;
+        this.names = names;
+    }
+
+    static SearchIndex build(List<BuildingRow> sortedBuildings,
+                             Collection<RoomRow> roomRows,
+                             FloorRow[] floors,
+                             BuildingRow[] buildings) {
+        var names = new BkTree<SearchResultResponse>();
+
+        // 건물: 이름 순 (대소문자 무시)
+        var buildingIndex = new TypeIndex.Builder();
+        var byName = sortedBuildings.stream()
+                .sorted(Comparator.comparing(BuildingRow::name, DISPLAY_ORDER))   // 안정 정렬: 같으면 lower(name) 순 유지
+                .toList();
+        for (var b : byName) {
+            var result = new SearchResultResponse(
+                    "BUILDING", b.id(), b.name(), null,
+                    b.latitude(), b.longitude(),
+                    b.id(), null
+            );
+            buildingIndex.add(result, b.name());
+            names.add(normalize(b.name()), result);
+        }
+
+        // 강의실: 표시 이름(방 번호, 없으면 이름) 순, 같으면 방 번호 없는 것은 뒤로, 방 번호, lower(name) 순
+        var roomIndex = new TypeIndex.Builder();
+        roomRows.stream()
+                .filter(RoomRow::isClassroom)
+                .sorted(Comparator.comparing((RoomRow r) -> (r.roomNumber() != null) ? r.roomNumber() : r.name(),
+                                DISPLAY_ORDER)
+                        .thenComparing(CampusSnapshot.ROOM_ORDER)
+                        .thenComparing(RoomRow::id))
+                .forEach(r -> {
+                    var building = buildingOf(r, floors, buildings);
+                    if (building == null) return; // 쿼리의 r.floor.building 내부 조인과 동일
+                    var result = new SearchResultResponse(
+                            "ROOM", r.id(),
+                            (r.roomNumber() != null) ? r.roomNumber() : r.name(),
+                            r.name(),
+                            building.latitude(), building.longitude(),
+                            building.id(), r.floorId()
+                    );
+                    roomIndex.add(result, r.name(), (r.roomNumber() != null) ? r.roomNumber() : "");
+                    names.add(normalize(r.name()), result);
+                });
+
+        // 편의시설: 이름 순 (대소문자 무시)
+        var facilityIndex = new TypeIndex.Builder();
+        roomRows.stream()
+                .filter(RoomRow::isFacility)
+                .sorted(Comparator.comparing(RoomRow::name, DISPLAY_ORDER)
+                        .thenComparing((RoomRow r) -> CampusSnapshot.lower(r.name()))
+                        .thenComparing(RoomRow::id))
+                .forEach(r -> {
+                    var building = buildingOf(r, floors, buildings);
+                    if (building == null) return;
+                    var result = new SearchResultResponse(
+                            "FACILITY", r.id(),
+                            r.name(),
+                            null,
+                            building.latitude(), building.longitude(),
+                            building.id(), r.floorId()
+                    );
+                    facilityIndex.add(result, r.name(), (r.features() != null) ? r.features() : "");
+                    names.add(normalize(r.name()), result);
+                });
+
+        return new SearchIndex(buildingIndex.build(), roomIndex.build(), facilityIndex.build(), names);
+    }
+
+    public List<SearchResultResponse> searchBuildings(String q, Mode mode, int limit) {
+        return buildings.search(Query.of(q, mode), limit);
+    }
+
+    public List<SearchResultResponse> searchRooms(String q, Mode mode, int limit) {
+        return rooms.search(Query.of(q, mode), limit);
+    }
+
+    public List<SearchResultResponse> searchFacilities(String q, Mode mode, int limit) {
+        return facilities.search(Query.of(q, mode), limit);
+    }
+
+    /**
+     * 오타 허용 검색: 건물/방 이름과의 편집 거리가 maxDistance 이하인 것 (거리 → 종류 → 표시 이름 순, 최대 limit개)
+     * 검색어가 maxDistance 글자 이하면 아무 이름이나 걸리므로 빈 목록.
+     */
+    public List<SearchResultResponse> searchFuzzy(String q, int maxDistance, int limit) {
+        var query = normalize(q).strip();
+        if (maxDistance <= 0 || query.length() <= maxDistance) return List.of();
+
+        var scored = new ArrayList<Map.Entry<Integer, SearchResultResponse>>();
+        for (var match : names.search(query, maxDistance)) {
+            for (var result : match.values()) scored.add(Map.entry(match.distance(), result));
+        }
+        return scored.stream()
+                .sorted(Map.Entry.<Integer, SearchResultResponse>comparingByKey()
+                        .thenComparing(e -> e.getValue().type())
+                        .thenComparing(e -> e.getValue().displayName(), String.CASE_INSENSITIVE_ORDER))
+                .map(Map.Entry::getValue)
+                .limit(limit)
+                .toList();
+    }
+
+    static String normalize(String q) {
+        return q.toLowerCase(Locale.ROOT);
+    }
+
+    private static BuildingRow buildingOf(RoomRow r, FloorRow[] floors, BuildingRow[] buildings) {
+        if (r.floorId() == null || r.floorId() >= floors.length || floors[r.floorId()] == null) return null;
+        Integer buildingId = floors[r.floorId()].buildingId();
+        if (buildingId == null || buildingId >= buildings.length) return null;
+        return buildings[buildingId];
+    }
+
+    /**
+     * 검색 방식
+     * - PLAIN  : 소문자 부분 문자열 일치 (기존 LIKE '%q%'와 동일)
+     * - HANGUL : PLAIN + 자모 단위 부분 일치("지"→"진리관", "짛"→"지혜관") + 초성 일치("ㅈㄹㄱ"→"진리관")
+     */
+    public enum Mode { PLAIN, HANGUL }
+
+    /** 검색어를 색인 형태별로 한 번만 변환해 둔 것 */
+    record Query(String plain, String jamo, String jamoWithTrailingChoseong, String choseong) {
+
+        static Query of(String q, Mode mode) {
+            String plain = normalize(q);
+            if (mode != Mode.HANGUL || !HangulJamo.containsHangul(plain)) {
+                return new Query(plain, null, null, null);
+            }
+            if (HangulJamo.isChoseongQuery(plain)) {
+                return new Query(plain, null, null, HangulJamo.toChoseong(plain));
+            }
+            return new Query(plain, HangulJamo.toJamo(plain), HangulJamo.toJamoWithTrailingChoseong(plain), null);
+        }
+    }
+
+    /** 한 종류(건물/강의실/편의시설)의 색인: 원문 / 자모 / 초성 세 가지 형태를 따로 색인한다. */
+    static final class TypeIndex {
+
+        private final SearchResultResponse[] results;    // 문서 번호 → 응답
+        private final Form plain;
+        private final Form jamo;
+        private final Form choseong;
+
+        private TypeIndex(SearchResultResponse[] results, Form plain, Form jamo, Form choseong) {
+            this.results = results;
+            this.plain = plain;
+            this.jamo = jamo;
+            this.choseong = choseong;
+        }
+
+        /** 형태별 후보를 문서 번호 순으로 함께 훑으면서, 실제로 일치하는 문서를 limit개까지 모은다. */
+        List<SearchResultResponse> search(Query q, int limit) {
+            if (q.plain().isEmpty() || results.length == 0 || limit <= 0) return List.of();
+
+            var cursors = new ArrayList<Candidates>(3);
+            cursors.add(new Candidates(plain, q.plain()));
+            if (q.jamo() != null) cursors.add(new Candidates(jamo, q.jamo()));
+            if (q.jamoWithTrailingChoseong() != null) cursors.add(new Candidates(jamo, q.jamoWithTrailingChoseong()));
+            if (q.choseong() != null) cursors.add(new Candidates(choseong, q.choseong()));
+
+            var hits = new ArrayList<SearchResultResponse>(Math.min(limit, 16));
+            while (hits.size() < limit) {
+                int doc = Integer.MAX_VALUE;
+                for (var c : cursors) {
+                    if (c.hasNext()) doc = Math.min(doc, c.peek());
+                }
+                if (doc == Integer.MAX_VALUE) break;
+
+                boolean matched = false;
+                for (var c : cursors) {
+                    if (!c.hasNext() || c.peek() != doc) continue;
+                    if (!matched) matched = c.form.contains(doc, c.query);
+                    c.pos++;
+                }
+                if (matched) hits.add(results[doc]);
+            }
+            return hits;
+        }
+
+        /** 한 형태의 후보 문서 목록 위를 움직이는 커서 */
+        private static final class Candidates {
+            private final Form form;
+            private final String query;
+            private final int[] docs;
+            private int pos;
+
+            private Candidates(Form form, String query) {
+                this.form = form;
+                this.query = query;
+                this.docs = form.candidates(query);
+            }
+
+            boolean hasNext() {
+                return pos < docs.length;
+            }
+
+            int peek() {
+                return docs[pos];
+            }
+        }
+
+        static final class Builder {
+            private final List<SearchResultResponse> results = new ArrayList<>();
+            private final List<String[]> plain = new ArrayList<>();
+            private final List<String[]> jamo = new ArrayList<>();
+            private final List<String[]> choseong = new ArrayList<>();
+
+            void add(SearchResultResponse result, String... searchable) {
+                var p = new String[searchable.length];
+                var j = new String[searchable.length];
+                var c = new String[searchable.length];
+                for (int i = 0; i < searchable.length; i++) {
+                    p[i] = (searchable[i] == null) ? "" : normalize(searchable[i]);
+                    j[i] = HangulJamo.toJamo(p[i]);
+                    c[i] = HangulJamo.toChoseong(p[i]);
+                }
+                results.add(result);
+                plain.add(p);
+                jamo.add(j);
+                choseong.add(c);
+            }
+
+            TypeIndex build() {
+                return new TypeIndex(
+                        results.toArray(SearchResultResponse[]::new),
+                        Form.build(plain), Form.build(jamo), Form.build(choseong)
+                );
+            }
+        }
+    }
+
+    /** 한 가지 문자열 형태에 대한 n-gram 역색인 */
+    static final class Form {
+
+        private static final int[] NONE = new int[0];
+
+        private final String[][] fields;                 // 문서 번호 → 검색 대상
+        private final Map<Integer, int[]> grams;         // n-gram 키 → 문서 번호 (오름차순)
+
+        private Form(String[][] fields, Map<Integer, int[]> grams) {
+            this.fields = fields;
+            this.grams = grams;
+        }
+
+        /** n-gram으로 추린 후보 문서 번호 (오름차순, 실제 포함 여부는 contains로 확인) */
+        int[] candidates(String q) {
+            if (q.isEmpty()) return NONE;
+            if (q.length() == 1) return grams.getOrDefault(unigram(q.charAt(0)), NONE);
+
+            // 목록이 짧은 bigram부터 교집합
+            var lists = new ArrayList<int[]>(q.length() - 1);
+            for (int i = 0; i + 1 < q.length(); i++) {
+                int[] postings = grams.get(bigram(q.charAt(i), q.charAt(i + 1)));
+                if (postings == null) return NONE;
+                lists.add(postings);
+            }
+            lists.sort(Comparator.comparingInt(a -> a.length));
+
+            int[] acc = lists.get(0);
+            for (int i = 1; i < lists.size() && acc.length > 0; i++) {
+                acc = intersect(acc, lists.get(i));
+            }
+            return acc;
+        }
+
+        boolean contains(int doc, String q) {
+            for (var field : fields[doc]) {
+                if (field.contains(q)) return true;
+            }
+            return false;
+        }
+
+        private static int[] intersect(int[] a, int[] b) {
+            var out = new int[Math.min(a.length, b.length)];
+            int i = 0, j = 0, n = 0;
+            while (i < a.length && j < b.length) {
+                if (a[i] < b[j]) i++;
+                else if (a[i] > b[j]) j++;
+                else {
+                    out[n++] = a[i];
+                    i++;
+                    j++;
+                }
+            }
+            return Arrays.copyOf(out, n);
+        }
+
+        /** unigram은 글자 그대로, bigram은 앞 글자를 상위 16비트에 둔다. (앞 글자가 0인 bigram은 없음) */
+        static int unigram(char c) {
+            return c;
+        }
+
+        static int bigram(char a, char b) {
+            return (a << 16) | b;
+        }
+
+        static Form build(List<String[]> fields) {
+            var postings = new HashMap<Integer, List<Integer>>();
+            for (int doc = 0; doc < fields.size(); doc++) {
+                var keys = new HashSet<Integer>();
+                for (var field : fields.get(doc)) {
+                    for (int i = 0; i < field.length(); i++) {
+                        keys.add(unigram(field.charAt(i)));
+                        if (i + 1 < field.length()) keys.add(bigram(field.charAt(i), field.charAt(i + 1)));
+                    }
+                }
+                for (var key : keys) {
+                    postings.computeIfAbsent(key, k -> new ArrayList<>()).add(doc);
+                }
+            }
+
+            var grams = new HashMap<Integer, int[]>(postings.size() * 2);
+            postings.forEach((key, docs) -> grams.put(key, docs.stream().mapToInt(Integer::intValue).toArray()));
+            return new Form(fields.toArray(String[][]::new), grams);
+        }
+    }
+}
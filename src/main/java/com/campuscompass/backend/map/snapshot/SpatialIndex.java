@@ -0,0 +1,202 @@
+package com.campuscompass.backend.map.snapshot;
+
+import java.util.*;
+
+/**
+ * 건물 위치(위도/경도) 격자 인덱스.
+ * - 캠퍼스 중심 기준으로 위경도를 평면 좌표(미터, equirectangular)로 바꾼 뒤
+ *   칸 하나에 건물이 평균 2개쯤 들어가도록 정사각 격자를 만든다. (칸별 건물은 CSR 배열)
+ * - k개 최근접: 질의 지점 칸에서 한 겹씩 넓혀 가다가, 아직 안 본 칸까지의 최소 거리가
+ *   지금까지 찾은 k번째 거리보다 멀어지면 멈춘다.
+ * - 영역 조회: 영역에 걸친 칸만 훑는다.
+ * 캠퍼스 규모(수 km)에서는 평면 근사 오차가 무시할 만하므로 거리도 이 평면 거리로 계산한다.
+ */
+public final class SpatialIndex {
+
+    private static final double EARTH_RADIUS_M = 6_371_008.8;
+    private static final int TARGET_PER_CELL = 2;
+
+    private final BuildingRow[] rows;        // 건물 (이름순 번호)
+    private final double[] xs;               // 번호 → 평면 x (m)
+    private final double[] ys;               // 번호 → 평면 y (m)
+    private final double originLat;
+    private final double originLng;
+    private final double metersPerDegLat;
+    private final double metersPerDegLng;
+    private final double minX, minY, cellSize;
+    private final int cols, rowsCount;
+    private final int[] cellStart;           // 칸 → items 시작 위치 (CSR)
+    private final int[] items;               // 칸 순서로 늘어놓은 건물 번호
+
+    private SpatialIndex(BuildingRow[] rows, double[] xs, double[] ys,
+                         double originLat, double originLng, double metersPerDegLat, double metersPerDegLng,
+                         double minX, double minY, double cellSize, int cols, int rowsCount,
+                         int[] cellStart, int[] items) {
+        this.rows = rows;
+        this.xs = xs;
+        this.ys = ys;
+        this.originLat = originLat;
+        this.originLng = originLng;
+        this.metersPerDegLat = metersPerDegLat;
+        this.metersPerDegLng = metersPerDegLng;
+        this.minX = minX;
+        this.minY = minY;
+        this.cellSize = cellSize;
+        this.cols = cols;
+        this.rowsCount = rowsCount;
+        this.cellStart = cellStart;
+        this.items = items;
+    }
+
+    /**
+     * @param sortedBuildings 이름순 건물 (좌표가 없는 건물은 제외된다)
+     */
+    static SpatialIndex build(List<BuildingRow> sortedBuildings) {
+        var located = sortedBuildings.stream()
+                .filter(b -> b.latitude() != null && b.longitude() != null)
+                .toArray(BuildingRow[]::new);
+        int n = located.length;
+
+        double originLat = 0, originLng = 0;
+        for (var b : located) {
+            originLat += b.latitude();
+            originLng += b.longitude();
+        }
+        if (n > 0) {
+            originLat /= n;
+            originLng /= n;
+        }
+        double metersPerDegLat = Math.toRadians(EARTH_RADIUS_M);
+        double metersPerDegLng = metersPerDegLat * Math.cos(Math.toRadians(originLat));
+
+        var xs = new double[n];
+        var ys = new double[n];
+        double minX = 0, minY = 0, maxX = 0, maxY = 0;
+        for (int i = 0; i < n; i++) {
+            xs[i] = (located[i].longitude() - originLng) * metersPerDegLng;
+            ys[i] = (located[i].latitude() - originLat) * metersPerDegLat;
+            if (i == 0 || xs[i] < minX) minX = xs[i];
+            if (i == 0 || ys[i] < minY) minY = ys[i];
+            if (i == 0 || xs[i] > maxX) maxX = xs[i];
+            if (i == 0 || ys[i] > maxY) maxY = ys[i];
+        }
+
+        // 칸 크기: 전체 면적을 (건물 수 / 2)칸으로 나눈 정사각형 (최소 1m)
+        double width = maxX - minX, height = maxY - minY;
+        double targetCells = Math.max(1.0, (double) n / TARGET_PER_CELL);
+        double cellSize = Math.max(1.0, Math.sqrt(Math.max(width * height, 1.0) / targetCells));
+        cellSize = Math.max(cellSize, Math.max(width, height) / Math.max(1.0, targetCells));
+        int cols = (int) (width / cellSize) + 1;
+        int rowsCount = (int) (height / cellSize) + 1;
+
+        // CSR: 칸별 개수 → 누적 → 채우기 (칸 안에서는 이름순 유지)
+        var cellStart = new int[cols * rowsCount + 1];
+        var cellOf = new int[n];
+        for (int i = 0; i < n; i++) {
+            int cx = (int) ((xs[i] - minX) / cellSize);
+            int cy = (int) ((ys[i] - minY) / cellSize);
+            cellOf[i] = cy * cols + cx;
+            cellStart[cellOf[i] + 1]++;
+        }
+        for (int c = 0; c < cols * rowsCount; c++) cellStart[c + 1] += cellStart[c];
+        var fill = Arrays.copyOf(cellStart, cellStart.length - 1);
+        var items = new int[n];
+        for (int i = 0; i < n; i++) items[fill[cellOf[i]]++] = i;
+
+        return new SpatialIndex(located, xs, ys, originLat, originLng, metersPerDegLat, metersPerDegLng,
+                minX, minY, cellSize, cols, rowsCount, cellStart, items);
+    }
+
+    /** 좌표가 있는 건물 수 */
+    public int size() {
+        return rows.length;
+    }
+
+    /** 가까운 순 최대 k개 (거리가 같으면 이름순) */
+    public List<Nearby> nearest(double latitude, double longitude, int k) {
+        if (k <= 0 || rows.length == 0) return List.of();
+        k = Math.min(k, rows.length);
+
+        double qx = (longitude - originLng) * metersPerDegLng;
+        double qy = (latitude - originLat) * metersPerDegLat;
+        int cx = clamp((int) Math.floor((qx - minX) / cellSize), cols);
+        int cy = clamp((int) Math.floor((qy - minY) / cellSize), rowsCount);
+
+        // 가장 먼 후보가 맨 위에 오는 크기 k의 힙
+        var heap = new PriorityQueue<Nearby>(k + 1, NEAREST_ORDER.reversed());
+        for (int ring = 0; ; ring++) {
+            int x0 = cx - ring, x1 = cx + ring, y0 = cy - ring, y1 = cy + ring;
+            for (int y = Math.max(y0, 0); y <= Math.min(y1, rowsCount - 1); y++) {
+                boolean edgeRow = (y == y0 || y == y1);
+                for (int x = Math.max(x0, 0); x <= Math.min(x1, cols - 1); x++) {
+                    if (!edgeRow && x != x0 && x != x1) continue;   // 이번 겹의 테두리 칸만
+                    int cell = y * cols + x;
+                    for (int p = cellStart[cell]; p < cellStart[cell + 1]; p++) {
+                        int i = items[p];
+                        heap.add(new Nearby(rows[i], Math.hypot(xs[i] - qx, ys[i] - qy)));
+                        if (heap.size() > k) heap.poll();
+                    }
+                }
+            }
+
+            boolean coversGrid = x0 <= 0 && y0 <= 0 && x1 >= cols - 1 && y1 >= rowsCount - 1;
+            if (coversGrid) break;
+            if (heap.size() == k && heap.peek().distanceMeters() <= unvisitedDistance(qx, qy, x0, x1, y0, y1)) break;
+        }
+
+        var result = new ArrayList<>(heap);
+        result.sort(NEAREST_ORDER);
+        return result;
+    }
+
+    /** 영역 안 건물 (이름순) */
+    public List<BuildingRow> within(double minLatitude, double minLongitude, double maxLatitude, double maxLongitude) {
+        if (rows.length == 0) return List.of();
+
+        double bx0 = (minLongitude - originLng) * metersPerDegLng, bx1 = (maxLongitude - originLng) * metersPerDegLng;
+        double by0 = (minLatitude - originLat) * metersPerDegLat, by1 = (maxLatitude - originLat) * metersPerDegLat;
+        if (bx1 < minX || by1 < minY) return List.of();
+        int x0 = clamp((int) Math.floor((bx0 - minX) / cellSize), cols);
+        int x1 = clamp((int) Math.floor((bx1 - minX) / cellSize), cols);
+        int y0 = clamp((int) Math.floor((by0 - minY) / cellSize), rowsCount);
+        int y1 = clamp((int) Math.floor((by1 - minY) / cellSize), rowsCount);
+
+        var hits = new ArrayList<Integer>();
+        for (int y = y0; y <= y1; y++) {
+            for (int x = x0; x <= x1; x++) {
+                int cell = y * cols + x;
+                for (int p = cellStart[cell]; p < cellStart[cell + 1]; p++) {
+                    int i = items[p];
+                    var b = rows[i];
+                    if (b.latitude() >= minLatitude && b.latitude() <= maxLatitude
+                            && b.longitude() >= minLongitude && b.longitude() <= maxLongitude) {
+                        hits.add(i);
+                    }
+                }
+            }
+        }
+        hits.sort(null);   // 번호 = 이름순
+        return hits.stream().map(i -> rows[i]).toList();
+    }
+
+    /** 이번 겹까지 본 칸들의 바깥에 있는 점까지의 최소 거리 (질의 지점이 그 안에 있을 때만 0보다 크다) */
+    private double unvisitedDistance(double qx, double qy, int x0, int x1, int y0, int y1) {
+        double left = qx - (minX + x0 * cellSize);
+        double right = (minX + (x1 + 1) * cellSize) - qx;
+        double bottom = qy - (minY + y0 * cellSize);
+        double top = (minY + (y1 + 1) * cellSize) - qy;
+        return Math.max(0.0, Math.min(Math.min(left, right), Math.min(bottom, top)));
+    }
+
+    private static int clamp(int v, int size) {
+        return Math.max(0, Math.min(v, size - 1));
+    }
+
+    private static final Comparator<Nearby> NEAREST_ORDER = Comparator
+            .comparingDouble(Nearby::distanceMeters)
+            .thenComparing(n -> CampusSnapshot.lower(n.building().name()), Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(n -> n.building().id());
+
+    /** 최근접 결과: 건물과 거리(m) */
+    public record Nearby(BuildingRow building, double distanceMeters) { }
+}
@@ -0,0 +1,38 @@
+package com.campuscompass.backend.popularity.controller;
+
+import com.campuscompass.backend.popularity.dto.PopularRoomResponse;
+import com.campuscompass.backend.popularity.service.PopularityService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/popularity")
+@RequiredArgsConstructor
+public class PopularityController {
+
+    private final PopularityService popularityService;
+
+    /**
+     * 인기 강의실 API (메모리의 상위 목록, 주기적으로 갱신)
+     * (GET /api/popularity/rooms?sort=favorites|clicks&limit=10)
+     */
+    @GetMapping("/rooms")
+    public ResponseEntity<List<PopularRoomResponse>> topRooms(
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(popularityService.top(sort, limit));
+    }
+
+    /**
+     * 검색 결과 클릭 기록 API (로그인 필요, 반영 주기마다 사용자·방당 한 번만 센다)
+     * (POST /api/popularity/rooms/{roomId}/clicks)
+     */
+    @PostMapping("/rooms/{roomId}/clicks")
+    public ResponseEntity<Void> searchClicked(@PathVariable Integer roomId) {
+        popularityService.searchClicked(roomId);
+        return ResponseEntity.noContent().build();
+    }
+}
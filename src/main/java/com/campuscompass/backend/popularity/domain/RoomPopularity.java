@@ -0,0 +1,32 @@
+package com.campuscompass.backend.popularity.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 강의실 인기 카운터 (방마다 한 행).
+ * - PopularityService가 메모리에서 모은 증감분을 주기적으로 더해 넣는다. (INSERT ... ON DUPLICATE KEY UPDATE)
+ */
+@Entity
+@Table(name = "room_popularity")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RoomPopularity {
+
+    @Id
+    @Column(name = "room_id")
+    private Integer roomId;
+
+    @Column(name = "favorite_count", nullable = false)
+    private long favoriteCount;
+
+    @Column(name = "search_click_count", nullable = false)
+    private long searchClickCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,13 @@
+package com.campuscompass.backend.popularity.dto;
+
+public record PopularRoomResponse(
+        Integer roomId,
+        String roomNumber,
+        String roomName,
+        Integer buildingId,
+        String buildingName,
+        Integer floorId,
+        Integer floorLevel,
+        long favoriteCount,
+        long searchClickCount
+) { }
@@ -0,0 +1,7 @@
+package com.campuscompass.backend.popularity.repository;
+
+import com.campuscompass.backend.popularity.domain.RoomPopularity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface RoomPopularityRepository extends JpaRepository<RoomPopularity, Integer> {
+}
@@ -0,0 +1,247 @@
+package com.campuscompass.backend.popularity.service;
+
+import com.campuscompass.backend.map.snapshot.CampusSnapshotHolder;
+import com.campuscompass.backend.popularity.dto.PopularRoomResponse;
+import com.campuscompass.backend.popularity.repository.RoomPopularityRepository;
+import com.campuscompass.backend.security.AuthUser;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+
+/**
+ * 강의실 인기 (즐겨찾기 수, 검색 결과 클릭 수).
+ * - 즐겨찾기 추가/삭제, 검색 결과 클릭은 방별 LongAdder에 더하기만 한다. (락/쿼리 없음)
+ * - 주기적으로(campus.popularity.flush-interval-ms) 모인 증감분을 배치 UPSERT 한 번으로 room_popularity에 더하고,
+ *   표를 다시 읽어 상위 목록을 메모리에 만들어 둔다. (다른 인스턴스가 더한 값도 이때 반영된다)
+ * - 상위 N개 조회는 메모리의 목록만 본다. 그래서 최근 증감은 다음 반영 때까지 보이지 않는다.
+ * - 즐겨찾기 증감은 트랜잭션이 커밋된 뒤에 더한다.
+ * - 표가 비어 있으면 빈 생성 직후(@PostConstruct, 요청을 받기 전) favorites에서 한 번 채운다.
+ *   증감을 받기 시작한 뒤에 채우면 이미 센 즐겨찾기를 두 번 더하게 된다.
+ * - 클릭은 로그인한 사용자만, 반영 주기마다 사용자·방당 한 번만 센다. (같은 방을 연달아 눌러도 1)
+ */
+@Slf4j
+@Service
+public class PopularityService {
+
+    private static final String UPSERT = """
+            insert into room_popularity (room_id, favorite_count, search_click_count, updated_at)
+            values (?, ?, ?, ?)
+            on duplicate key update
+                favorite_count = favorite_count + values(favorite_count),
+                search_click_count = search_click_count + values(search_click_count),
+                updated_at = values(updated_at)
+            """;
+
+    /**
+     * 표가 비어 있을 때만 채운다. 여러 인스턴스가 동시에 떠서 둘 다 빈 표를 봤으면
+     * 나중 쪽은 먼저 들어간 행을 그대로 둔다. (PK 위반으로 기동 실패하거나 두 번 더하지 않음)
+     */
+    private static final String SEED_FROM_FAVORITES = """
+            insert into room_popularity (room_id, favorite_count, search_click_count, updated_at)
+            select f.room_id, count(*), 0, ? from favorites f
+            where not exists (select 1 from room_popularity)
+            group by f.room_id
+            on duplicate key update favorite_count = room_popularity.favorite_count
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final RoomPopularityRepository popularityRepository;
+    private final CampusSnapshotHolder snapshotHolder;
+    private final TransactionTemplate tx;
+    private final int rankingSize;
+
+    private final ConcurrentHashMap<Integer, Pending> pending = new ConcurrentHashMap<>();
+    private final Set<Long> clickedThisPeriod = ConcurrentHashMap.newKeySet();   // (userId << 32) | roomId
+    private volatile Ranking ranking;   // 처음 조회하거나 반영할 때 읽는다
+
+    /**
+     * @param rankingSize 메모리에 들고 있는 종류별 상위 방 수 (조회 limit의 상한)
+     */
+    public PopularityService(JdbcTemplate jdbcTemplate,
+                             RoomPopularityRepository popularityRepository,
+                             CampusSnapshotHolder snapshotHolder,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${campus.popularity.ranking-size:100}") int rankingSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.popularityRepository = popularityRepository;
+        this.snapshotHolder = snapshotHolder;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.rankingSize = rankingSize;
+    }
+
+    /** 즐겨찾기 추가 (트랜잭션 안이면 커밋된 뒤에 센다) */
+    public void favoritesAdded(Collection<Integer> roomIds) {
+        afterCommit(() -> roomIds.forEach(id -> pending(id).favorites.increment()));
+    }
+
+    /** 즐겨찾기 삭제 (트랜잭션 안이면 커밋된 뒤에 센다) */
+    public void favoritesRemoved(Collection<Integer> roomIds) {
+        afterCommit(() -> roomIds.forEach(id -> pending(id).favorites.decrement()));
+    }
+
+    /** 로그인한 사용자가 검색 결과에서 방을 눌렀음 (이번 반영 주기에 이미 센 사용자·방이면 무시) */
+    public void searchClicked(Integer roomId) {
+        long userId = AuthUser.current().userId();
+        if (roomId == null || snapshotHolder.current().room(roomId) == null) {
+            throw new NoSuchElementException("방을 찾을 수 없습니다: " + roomId);
+        }
+        if (clickedThisPeriod.add((userId << 32) | (roomId & 0xFFFFFFFFL))) {
+            pending(roomId).clicks.increment();
+        }
+    }
+
+    /**
+     * 상위 limit개 (마지막 반영 시점 기준, 지금 없는 방은 뺀다)
+     *
+     * @param sort favorites(기본: 즐겨찾기 수) 또는 clicks(검색 결과 클릭 수)
+     */
+    public List<PopularRoomResponse> top(String sort, Integer limit) {
+        boolean byClicks = switch ((sort != null) ? sort : "favorites") {
+            case "favorites" -> false;
+            case "clicks" -> true;
+            default -> throw new IllegalArgumentException("sort는 favorites 또는 clicks여야 합니다.");
+        };
+        int n = (limit != null) ? limit : 10;
+        if (n < 1 || n > rankingSize) throw new IllegalArgumentException("limit는 1~" + rankingSize + "이어야 합니다.");
+
+        var current = ranking;
+        if (current == null) current = reload();
+        var snapshot = snapshotHolder.current();
+        var result = new ArrayList<PopularRoomResponse>(n);
+        for (var c : byClicks ? current.byClicks() : current.byFavorites()) {
+            var room = snapshot.room(c.roomId());
+            if (room == null) continue;
+            var floor = snapshot.floor(room.floorId());
+            var building = snapshot.building(floor.buildingId());
+            result.add(new PopularRoomResponse(room.id(), room.roomNumber(), room.name(),
+                    building.id(), building.name(), floor.id(), floor.level(),
+                    c.favoriteCount(), c.searchClickCount()));
+            if (result.size() == n) break;
+        }
+        return result;
+    }
+
+    /**
+     * 모인 증감분을 배치 UPSERT 한 번으로 반영하고 상위 목록을 다시 만든다.
+     * DB 쓰기가 실패하면 증감분을 되돌려 두고 다음 주기에 다시 시도한다.
+     */
+    @Scheduled(initialDelayString = "${campus.popularity.flush-interval-ms:30000}",
+               fixedDelayString = "${campus.popularity.flush-interval-ms:30000}")
+    public synchronized void flush() {
+        clickedThisPeriod.clear();
+        var deltas = new ArrayList<Counts>();
+        for (var e : pending.entrySet()) {
+            long favorites = e.getValue().favorites.sumThenReset();
+            long clicks = e.getValue().clicks.sumThenReset();
+            if (favorites != 0 || clicks != 0) deltas.add(new Counts(e.getKey(), favorites, clicks));
+        }
+
+        if (!deltas.isEmpty()) {
+            var now = Timestamp.valueOf(LocalDateTime.now());
+            try {
+                // 배치 중간에 실패해도 앞부분만 반영되지 않도록 한 트랜잭션으로 (되돌린 증감분을 다시 더할 때 두 번 세지 않게)
+                tx.executeWithoutResult(status -> jdbcTemplate.batchUpdate(UPSERT, deltas, deltas.size(), (ps, d) -> {
+                    ps.setInt(1, d.roomId());
+                    ps.setLong(2, d.favoriteCount());
+                    ps.setLong(3, d.searchClickCount());
+                    ps.setTimestamp(4, now);
+                }));
+            } catch (DataAccessException | TransactionException ex) {
+                for (var d : deltas) {
+                    var p = pending(d.roomId());
+                    p.favorites.add(d.favoriteCount());
+                    p.clicks.add(d.searchClickCount());
+                }
+                log.warn("인기 카운터 반영 실패 ({}개 방, 다음 주기에 재시도): {}", deltas.size(), ex.getMessage());
+                return;
+            }
+        }
+        reload();
+    }
+
+    /** 요청과 즐겨찾기 증감을 받기 전에 표를 채우고 읽어 둔다. */
+    @PostConstruct
+    void loadOnStartup() {
+        if (popularityRepository.count() == 0) {
+            int seeded = seedFromFavorites();
+            if (seeded > 0) log.info("인기 카운터를 즐겨찾기에서 채웠습니다: {}개 방", seeded);
+        }
+        reload();
+    }
+
+    /** 빈 표를 favorites로 채운다. 이미 행이 있으면 아무것도 하지 않는다. */
+    int seedFromFavorites() {
+        return jdbcTemplate.update(SEED_FROM_FAVORITES, Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        try {
+            flush();
+        } catch (RuntimeException ex) {
+            log.warn("종료 중 인기 카운터 반영 실패: {}", ex.getMessage());
+        }
+    }
+
+    /** room_popularity를 읽어 상위 목록을 만든다. */
+    private synchronized Ranking reload() {
+        var all = popularityRepository.findAll().stream()
+                .map(p -> new Counts(p.getRoomId(), p.getFavoriteCount(), p.getSearchClickCount()))
+                .toList();
+        ranking = new Ranking(topBy(all, Counts::favoriteCount), topBy(all, Counts::searchClickCount));
+        return ranking;
+    }
+
+    private List<Counts> topBy(List<Counts> all, ToLongFunction<Counts> key) {
+        return all.stream()
+                .filter(c -> key.applyAsLong(c) > 0)
+                .sorted(Comparator.comparingLong(key).reversed().thenComparing(Counts::roomId))
+                .limit(rankingSize)
+                .toList();
+    }
+
+    private Pending pending(Integer roomId) {
+        return pending.computeIfAbsent(roomId, id -> new Pending());
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /** 아직 반영하지 않은 방별 증감 */
+    private static final class Pending {
+        final LongAdder favorites = new LongAdder();
+        final LongAdder clicks = new LongAdder();
+    }
+
+    private record Counts(Integer roomId, long favoriteCount, long searchClickCount) { }
+
+    /** 종류별 상위 목록 (많은 순, 같으면 방 id 순) */
+    private record Ranking(List<Counts> byFavorites, List<Counts> byClicks) { }
+}
@@ -0,0 +1,38 @@
+package com.campuscompass.backend.route.controller;
+
+import com.campuscompass.backend.route.dto.BuildingDistanceResponse;
+import com.campuscompass.backend.route.dto.RouteResponse;
+import com.campuscompass.backend.route.service.RouteService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/routes")
+@RequiredArgsConstructor
+public class RouteController {
+
+    private final RouteService routeService;
+
+    /**
+     * GET /api/routes?from=1&to=4 : 방 → 방 길찾기
+     * - accessible=true : 계단 없이 엘리베이터만
+     */
+    @GetMapping
+    public RouteResponse route(
+            @RequestParam("from") Integer fromRoomId,
+            @RequestParam("to") Integer toRoomId,
+            @RequestParam(defaultValue = "false") boolean accessible
+    ) {
+        return routeService.route(fromRoomId, toRoomId, accessible);
+    }
+
+    /** GET /api/routes/buildings?from=1&to=2 : 건물 출입구 사이 이동 시간 */
+    @GetMapping("/buildings")
+    public BuildingDistanceResponse buildingDistance(
+            @RequestParam("from") Integer fromBuildingId,
+            @RequestParam("to") Integer toBuildingId,
+            @RequestParam(defaultValue = "false") boolean accessible
+    ) {
+        return routeService.buildingDistance(fromBuildingId, toBuildingId, accessible);
+    }
+}
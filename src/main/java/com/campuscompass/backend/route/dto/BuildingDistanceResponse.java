@@ -0,0 +1,8 @@
+package com.campuscompass.backend.route.dto;
+
+public record BuildingDistanceResponse(
+        Integer fromBuildingId,
+        Integer toBuildingId,
+        boolean accessible,
+        Double seconds
+) { }
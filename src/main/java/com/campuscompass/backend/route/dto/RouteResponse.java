@@ -0,0 +1,11 @@
+package com.campuscompass.backend.route.dto;
+
+import java.util.List;
+
+public record RouteResponse(
+        Integer fromRoomId,
+        Integer toRoomId,
+        boolean accessible,
+        Double totalSeconds,
+        List<RouteStepResponse> steps
+) { }
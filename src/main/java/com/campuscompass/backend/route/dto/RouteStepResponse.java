@@ -0,0 +1,12 @@
+package com.campuscompass.backend.route.dto;
+
+public record RouteStepResponse(
+        String via,          // 이 지점으로 온 방법: CORRIDOR, STAIRS, ELEVATOR, LINK, OUTDOOR (출발점은 null)
+        String kind,         // ENTRANCE, LOBBY, ELEVATOR, ROOM
+        Integer buildingId,
+        Integer floorId,
+        Integer level,
+        Integer roomId,
+        String name,
+        Double seconds       // 출발점부터 누적 시간(초)
+) { }
@@ -0,0 +1,61 @@
+package com.campuscompass.backend.route.graph;
+
+import java.util.Arrays;
+
+/** (우선순위, 노드) 최소 힙. 같은 노드가 여러 번 들어갈 수 있고, 꺼내는 쪽에서 낡은 항목을 건너뛴다. */
+final class NodeHeap {
+
+    private double[] keys;
+    private int[] nodes;
+    private int size;
+
+    NodeHeap(int capacity) {
+        keys = new double[Math.max(capacity, 4)];
+        nodes = new int[keys.length];
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    double peekKey() {
+        return keys[0];
+    }
+
+    void push(double key, int node) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            nodes = Arrays.copyOf(nodes, size * 2);
+        }
+        int i = size++;
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (keys[parent] <= key) break;
+            keys[i] = keys[parent];
+            nodes[i] = nodes[parent];
+            i = parent;
+        }
+        keys[i] = key;
+        nodes[i] = node;
+    }
+
+    /** 가장 작은 항목의 노드를 꺼낸다. (키는 먼저 peekKey로 읽는다) */
+    int pop() {
+        int top = nodes[0];
+        double key = keys[--size];
+        int node = nodes[size];
+        int i = 0;
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= size) break;
+            if (child + 1 < size && keys[child + 1] < keys[child]) child++;
+            if (keys[child] >= key) break;
+            keys[i] = keys[child];
+            nodes[i] = nodes[child];
+            i = child;
+        }
+        keys[i] = key;
+        nodes[i] = node;
+        return top;
+    }
+}
@@ -0,0 +1,33 @@
+package com.campuscompass.backend.route.graph;
+
+/**
+ * 경로 비용 설정 (단위: 초)
+ *
+ * @param corridorSeconds         복도에서 이웃한 방(또는 로비) 사이
+ * @param stairSecondsPerLevel    계단 한 층
+ * @param elevatorSecondsPerLevel 엘리베이터 한 층
+ * @param elevatorWaitSeconds     엘리베이터 탑승 대기
+ * @param walkingSpeed            건물 사이 보행 속도 (m/s)
+ * @param outdoorNeighbors        건물마다 실외 통로로 잇는 가까운 건물 수
+ */
+public record RouteCosts(
+        double corridorSeconds,
+        double stairSecondsPerLevel,
+        double elevatorSecondsPerLevel,
+        double elevatorWaitSeconds,
+        double walkingSpeed,
+        int outdoorNeighbors
+) {
+
+    public RouteCosts {
+        if (corridorSeconds < 0 || stairSecondsPerLevel < 0 || elevatorSecondsPerLevel < 0 || elevatorWaitSeconds < 0) {
+            throw new IllegalArgumentException("경로 비용은 0 이상이어야 합니다.");
+        }
+        if (walkingSpeed <= 0) throw new IllegalArgumentException("보행 속도는 0보다 커야 합니다.");
+    }
+
+    /** 한 층 오르내리는 최소 비용 (A* 휴리스틱용) */
+    double minSecondsPerLevel(boolean accessible) {
+        return accessible ? elevatorSecondsPerLevel : Math.min(stairSecondsPerLevel, elevatorSecondsPerLevel);
+    }
+}
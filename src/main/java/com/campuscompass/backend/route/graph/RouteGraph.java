@@ -0,0 +1,365 @@
+package com.campuscompass.backend.route.graph;
+
+import com.campuscompass.backend.map.snapshot.CampusSnapshot;
+import com.campuscompass.backend.map.snapshot.FloorRow;
+
+import java.util.*;
+
+/**
+ * 캠퍼스 실내외 이동 그래프 (캠퍼스 스냅샷 한 버전에서 만든 읽기 전용 그래프).
+ *
+ * 노드
+ * - ENTRANCE : 건물마다 출입구 하나 (1층, 없으면 가장 낮은 층)
+ * - LOBBY    : 층마다 계단이 있는 로비 하나
+ * - ELEVATOR : 층마다 엘리베이터 승강장 하나
+ * - ROOM     : 방 (층의 방 순서대로 복도에 늘어서 있다고 본다: 로비 - 방1 - 방2 - ...)
+ * 간선 (방향 있음, CSR 배열)
+ * - CORRIDOR : 로비와 방, 이웃한 방 사이
+ * - STAIRS   : 이웃한 층의 로비 사이 (층 차이 × 계단 비용)
+ * - ELEVATOR : 이웃한 층의 승강장 사이 (층 차이 × 엘리베이터 비용)
+ * - LINK     : 출입구↔로비, 로비→승강장(탑승 대기 포함), 승강장→로비
+ * - OUTDOOR  : 가까운 건물 출입구 사이 (직선 거리 / 보행 속도)
+ *
+ * 건물 출입구 사이 최단 거리는 만들 때 모두 계산해 두고(출입구마다 Dijkstra),
+ * A* 휴리스틱으로 쓴다. 건물을 드나드는 길은 출입구 하나뿐이므로
+ * "현재 노드 → 출입구(층 차이) + 출입구 간 거리 + 출입구 → 목적지(층 차이)"는 실제 거리보다 길지 않다.
+ */
+public final class RouteGraph {
+
+    public enum NodeKind { ENTRANCE, LOBBY, ELEVATOR, ROOM }
+
+    public enum EdgeKind { CORRIDOR, STAIRS, ELEVATOR, LINK, OUTDOOR }
+
+    private static final double UNREACHABLE = Double.POSITIVE_INFINITY;
+
+    private final long version;
+    private final RouteCosts costs;
+
+    private final NodeKind[] nodeKinds;
+    private final int[] nodeBuilding;          // 노드 → 건물 번호 (buildingIds 인덱스)
+    private final Integer[] nodeFloorId;
+    private final int[] nodeLevel;
+    private final Integer[] nodeRoomId;
+    private final String[] nodeNames;
+
+    private final int[] offsets;               // 노드 → 간선 시작 위치 (CSR)
+    private final int[] targets;
+    private final double[] weights;
+    private final EdgeKind[] edgeKinds;
+
+    private final int[] buildingIds;           // 건물 번호 → 건물 id
+    private final Map<Integer, Integer> buildingIndex;
+    private final int[] entranceNodes;         // 건물 번호 → 출입구 노드
+    private final Map<Integer, Integer> roomNodes;
+    private final double[][] entranceDistances; // [accessible ? 1 : 0][from * buildings + to]
+
+    private RouteGraph(long version, RouteCosts costs,
+                       NodeKind[] nodeKinds, int[] nodeBuilding, Integer[] nodeFloorId, int[] nodeLevel,
+                       Integer[] nodeRoomId, String[] nodeNames,
+                       int[] offsets, int[] targets, double[] weights, EdgeKind[] edgeKinds,
+                       int[] buildingIds, Map<Integer, Integer> buildingIndex, int[] entranceNodes,
+                       Map<Integer, Integer> roomNodes) {
+        this.version = version;
+        this.costs = costs;
+        this.nodeKinds = nodeKinds;
+        this.nodeBuilding = nodeBuilding;
+        this.nodeFloorId = nodeFloorId;
+        this.nodeLevel = nodeLevel;
+        this.nodeRoomId = nodeRoomId;
+        this.nodeNames = nodeNames;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+        this.edgeKinds = edgeKinds;
+        this.buildingIds = buildingIds;
+        this.buildingIndex = buildingIndex;
+        this.entranceNodes = entranceNodes;
+        this.roomNodes = roomNodes;
+        this.entranceDistances = new double[][]{entranceDistances(false), entranceDistances(true)};
+    }
+
+    public static RouteGraph build(CampusSnapshot snapshot, RouteCosts costs) {
+        var b = new Builder();
+        var buildings = snapshot.buildings();
+        var buildingIds = new int[buildings.size()];
+        var buildingIndex = new HashMap<Integer, Integer>();
+        var entranceNodes = new int[buildings.size()];
+        var roomNodes = new HashMap<Integer, Integer>();
+
+        for (int bi = 0; bi < buildings.size(); bi++) {
+            var building = buildings.get(bi);
+            buildingIds[bi] = building.id();
+            buildingIndex.put(building.id(), bi);
+
+            var floors = snapshot.floorsOfBuilding(building.id());
+            var ground = groundFloor(floors);
+            int entrance = b.node(NodeKind.ENTRANCE, bi, (ground == null) ? null : ground.id(),
+                    (ground == null) ? 0 : ground.level(), null, building.name() + " 출입구");
+            entranceNodes[bi] = entrance;
+
+            int prevLobby = -1, prevElevator = -1, prevLevel = 0;
+            for (var floor : floors) {
+                String floorName = (floor.name() != null) ? floor.name() : floor.level() + "층";
+                int lobby = b.node(NodeKind.LOBBY, bi, floor.id(), floor.level(), null, floorName);
+                int elevator = b.node(NodeKind.ELEVATOR, bi, floor.id(), floor.level(), null, floorName + " 엘리베이터");
+                b.edge(lobby, elevator, costs.elevatorWaitSeconds(), EdgeKind.LINK);
+                b.edge(elevator, lobby, 0, EdgeKind.LINK);
+
+                if (prevLobby >= 0) {
+                    int levels = Math.abs(floor.level() - prevLevel);
+                    b.both(prevLobby, lobby, levels * costs.stairSecondsPerLevel(), EdgeKind.STAIRS);
+                    b.both(prevElevator, elevator, levels * costs.elevatorSecondsPerLevel(), EdgeKind.ELEVATOR);
+                }
+                if (floor == ground) b.both(entrance, lobby, costs.corridorSeconds(), EdgeKind.LINK);
+
+                int prev = lobby;
+                for (var room : snapshot.roomsOfFloor(floor.id())) {
+                    String roomName = (room.roomNumber() != null) ? room.roomNumber() + " " + room.name() : room.name();
+                    int node = b.node(NodeKind.ROOM, bi, floor.id(), floor.level(), room.id(), roomName);
+                    roomNodes.put(room.id(), node);
+                    b.both(prev, node, costs.corridorSeconds(), EdgeKind.CORRIDOR);
+                    prev = node;
+                }
+
+                prevLobby = lobby;
+                prevElevator = elevator;
+                prevLevel = floor.level();
+            }
+        }
+
+        // 실외: 건물마다 가까운 건물 몇 개와 출입구끼리 잇는다.
+        var spatial = snapshot.spatialIndex();
+        var linked = new HashSet<Long>();
+        for (int bi = 0; bi < buildings.size(); bi++) {
+            var building = buildings.get(bi);
+            if (building.latitude() == null || building.longitude() == null) continue;
+            for (var near : spatial.nearest(building.latitude(), building.longitude(), costs.outdoorNeighbors() + 1)) {
+                Integer bj = buildingIndex.get(near.building().id());
+                if (bj == null || bj == bi) continue;
+                long key = ((long) Math.min(bi, bj) << 32) | Math.max(bi, bj);
+                if (!linked.add(key)) continue;
+                b.both(entranceNodes[bi], entranceNodes[bj], near.distanceMeters() / costs.walkingSpeed(), EdgeKind.OUTDOOR);
+            }
+        }
+
+        return b.build(snapshot.version(), costs, buildingIds, buildingIndex, entranceNodes, roomNodes);
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public int nodeCount() {
+        return nodeKinds.length;
+    }
+
+    /** 방 → 방 최단 경로 (없으면 empty). accessible이면 계단을 쓰지 않는다. */
+    public Optional<Route> route(int fromRoomId, int toRoomId, boolean accessible) {
+        Integer from = roomNodes.get(fromRoomId);
+        Integer to = roomNodes.get(toRoomId);
+        if (from == null || to == null) return Optional.empty();
+        if (heuristic(from, to, accessible) == UNREACHABLE) return Optional.empty();
+        return aStar(from, to, accessible);
+    }
+
+    /** 건물 출입구 사이 최단 거리 (초, 건물이 없거나 이어지지 않으면 empty) */
+    public OptionalDouble entranceDistance(int fromBuildingId, int toBuildingId, boolean accessible) {
+        Integer a = buildingIndex.get(fromBuildingId);
+        Integer b = buildingIndex.get(toBuildingId);
+        if (a == null || b == null) return OptionalDouble.empty();
+        double d = entranceDistances[accessible ? 1 : 0][a * buildingIds.length + b];
+        return (d == UNREACHABLE) ? OptionalDouble.empty() : OptionalDouble.of(d);
+    }
+
+    /** 방이 그래프에 있는지 (층/건물이 없는 방은 빠진다) */
+    public boolean containsRoom(int roomId) {
+        return roomNodes.containsKey(roomId);
+    }
+
+    /** 방의 노드 번호 (없으면 -1) */
+    int roomNode(int roomId) {
+        return roomNodes.getOrDefault(roomId, -1);
+    }
+
+    private Optional<Route> aStar(int from, int to, boolean accessible) {
+        int n = nodeKinds.length;
+        var g = new double[n];
+        var parent = new int[n];
+        var via = new EdgeKind[n];
+        Arrays.fill(g, UNREACHABLE);
+        g[from] = 0;
+        parent[from] = -1;
+
+        var open = new NodeHeap(64);
+        open.push(heuristic(from, to, accessible), from);
+        while (!open.isEmpty()) {
+            double f = open.peekKey();
+            int u = open.pop();
+            if (u == to) break;
+            if (f > g[u] + heuristic(u, to, accessible)) continue;   // 더 짧은 경로로 이미 다시 넣은 항목
+
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                if (accessible && edgeKinds[e] == EdgeKind.STAIRS) continue;
+                int v = targets[e];
+                double cand = g[u] + weights[e];
+                if (cand >= g[v]) continue;
+                double h = heuristic(v, to, accessible);
+                if (h == UNREACHABLE) continue;
+                g[v] = cand;
+                parent[v] = u;
+                via[v] = edgeKinds[e];
+                open.push(cand + h, v);
+            }
+        }
+        if (g[to] == UNREACHABLE) return Optional.empty();
+
+        var path = new ArrayList<Integer>();
+        for (int v = to; v != -1; v = parent[v]) path.add(v);
+        Collections.reverse(path);
+
+        var steps = new ArrayList<Step>(path.size());
+        for (int v : path) {
+            steps.add(new Step(via[v], nodeKinds[v], buildingIds[nodeBuilding[v]], nodeFloorId[v],
+                    nodeLevel[v], nodeRoomId[v], nodeNames[v], g[v]));
+        }
+        return Optional.of(new Route(g[to], steps));
+    }
+
+    /** 남은 비용의 하한: 층 차이(같은 건물) 또는 층 차이 + 출입구 간 최단 거리(다른 건물) */
+    private double heuristic(int node, int target, boolean accessible) {
+        double perLevel = costs.minSecondsPerLevel(accessible);
+        int a = nodeBuilding[node], b = nodeBuilding[target];
+        if (a == b) return Math.abs(nodeLevel[node] - nodeLevel[target]) * perLevel;
+
+        double between = entranceDistances[accessible ? 1 : 0][a * buildingIds.length + b];
+        if (between == UNREACHABLE) return UNREACHABLE;
+        return Math.abs(nodeLevel[node] - nodeLevel[entranceNodes[a]]) * perLevel
+                + between
+                + Math.abs(nodeLevel[entranceNodes[b]] - nodeLevel[target]) * perLevel;
+    }
+
+    /** 출입구마다 Dijkstra 한 번씩 돌려서 출입구 간 최단 거리 표를 만든다. */
+    private double[] entranceDistances(boolean accessible) {
+        int count = entranceNodes.length;
+        var table = new double[count * count];
+        var dist = new double[nodeKinds.length];
+        for (int a = 0; a < count; a++) {
+            dijkstra(entranceNodes[a], accessible, dist);
+            for (int b = 0; b < count; b++) table[a * count + b] = dist[entranceNodes[b]];
+        }
+        return table;
+    }
+
+    /** source에서 모든 노드까지 최단 거리를 dist에 채운다. (닿지 않으면 +∞) */
+    void dijkstra(int source, boolean accessible, double[] dist) {
+        Arrays.fill(dist, UNREACHABLE);
+        dist[source] = 0;
+        var open = new NodeHeap(64);
+        open.push(0, source);
+        while (!open.isEmpty()) {
+            double d = open.peekKey();
+            int u = open.pop();
+            if (d > dist[u]) continue;
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                if (accessible && edgeKinds[e] == EdgeKind.STAIRS) continue;
+                int v = targets[e];
+                double cand = d + weights[e];
+                if (cand < dist[v]) {
+                    dist[v] = cand;
+                    open.push(cand, v);
+                }
+            }
+        }
+    }
+
+    private static FloorRow groundFloor(List<FloorRow> floors) {
+        for (var f : floors) {
+            if (f.level() != null && f.level() == 1) return f;
+        }
+        return floors.isEmpty() ? null : floors.get(0);
+    }
+
+    /** 경로: 총 소요 시간(초)과 지나는 노드들 */
+    public record Route(double seconds, List<Step> steps) { }
+
+    /**
+     * 경로의 한 지점
+     *
+     * @param via     이 지점으로 들어온 간선 종류 (출발점은 null)
+     * @param seconds 출발점부터 이 지점까지 누적 시간(초)
+     */
+    public record Step(EdgeKind via, NodeKind kind, Integer buildingId, Integer floorId,
+                       int level, Integer roomId, String name, double seconds) { }
+
+    private static final class Builder {
+        private final List<NodeKind> kinds = new ArrayList<>();
+        private final List<Integer> building = new ArrayList<>();
+        private final List<Integer> floorId = new ArrayList<>();
+        private final List<Integer> level = new ArrayList<>();
+        private final List<Integer> roomId = new ArrayList<>();
+        private final List<String> names = new ArrayList<>();
+
+        private int[] from = new int[64], to = new int[64];
+        private double[] weight = new double[64];
+        private EdgeKind[] kind = new EdgeKind[64];
+        private int edges;
+
+        int node(NodeKind k, int buildingOrdinal, Integer floor, int lvl, Integer room, String name) {
+            kinds.add(k);
+            building.add(buildingOrdinal);
+            floorId.add(floor);
+            level.add(lvl);
+            roomId.add(room);
+            names.add(name);
+            return kinds.size() - 1;
+        }
+
+        void both(int a, int b, double w, EdgeKind k) {
+            edge(a, b, w, k);
+            edge(b, a, w, k);
+        }
+
+        void edge(int a, int b, double w, EdgeKind k) {
+            if (edges == from.length) {
+                from = Arrays.copyOf(from, edges * 2);
+                to = Arrays.copyOf(to, edges * 2);
+                weight = Arrays.copyOf(weight, edges * 2);
+                kind = Arrays.copyOf(kind, edges * 2);
+            }
+            from[edges] = a;
+            to[edges] = b;
+            weight[edges] = w;
+            kind[edges] = k;
+            edges++;
+        }
+
+        RouteGraph build(long version, RouteCosts costs, int[] buildingIds, Map<Integer, Integer> buildingIndex,
+                         int[] entranceNodes, Map<Integer, Integer> roomNodes) {
+            int n = kinds.size();
+            var offsets = new int[n + 1];
+            for (int e = 0; e < edges; e++) offsets[from[e] + 1]++;
+            for (int v = 0; v < n; v++) offsets[v + 1] += offsets[v];
+
+            var fill = Arrays.copyOf(offsets, n);
+            var targets = new int[edges];
+            var weights = new double[edges];
+            var edgeKinds = new EdgeKind[edges];
+            for (int e = 0; e < edges; e++) {
+                int p = fill[from[e]]++;
+                targets[p] = to[e];
+                weights[p] = weight[e];
+                edgeKinds[p] = kind[e];
+            }
+
+            return new RouteGraph(version, costs,
+                    kinds.toArray(NodeKind[]::new),
+                    building.stream().mapToInt(Integer::intValue).toArray(),
+                    floorId.toArray(Integer[]::new),
+                    level.stream().mapToInt(Integer::intValue).toArray(),
+                    roomId.toArray(Integer[]::new),
+                    names.toArray(String[]::new),
+                    offsets, targets, weights, edgeKinds,
+                    buildingIds, Map.copyOf(buildingIndex), entranceNodes, Map.copyOf(roomNodes));
+        }
+    }
+}
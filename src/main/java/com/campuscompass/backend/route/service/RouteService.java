@@ -0,0 +1,116 @@
+package com.campuscompass.backend.route.service;
+
+import com.campuscompass.backend.map.snapshot.CampusSnapshot;
+import com.campuscompass.backend.map.snapshot.CampusSnapshotHolder;
+import com.campuscompass.backend.map.snapshot.CampusSnapshotReloadedEvent;
+import com.campuscompass.backend.route.dto.BuildingDistanceResponse;
+import com.campuscompass.backend.route.dto.RouteResponse;
+import com.campuscompass.backend.route.dto.RouteStepResponse;
+import com.campuscompass.backend.route.graph.RouteCosts;
+import com.campuscompass.backend.route.graph.RouteGraph;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 실내외 길찾기.
+ * - 캠퍼스 스냅샷에서 이동 그래프(RouteGraph)를 만들어 두고, 스냅샷이 바뀌면 백그라운드 스레드에서 다시 만든다.
+ *   새 그래프가 준비될 때까지는 이전 그래프로 답한다. (요청 스레드는 그래프를 만들지 않는다, 기동 직후 한 번만 예외)
+ * - 경로 탐색은 메모리 그래프에서만 한다. (SQL, 트랜잭션 없음)
+ */
+@Slf4j
+@Service
+public class RouteService {
+
+    private final CampusSnapshotHolder snapshotHolder;
+    private final RouteCosts costs;
+    private final AtomicReference<RouteGraph> graph = new AtomicReference<>();
+    private final ExecutorService rebuilder = Executors.newSingleThreadExecutor(r -> {
+        var t = new Thread(r, "route-graph-rebuild");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public RouteService(CampusSnapshotHolder snapshotHolder,
+                        @Value("${campus.route.corridor-seconds:8}") double corridorSeconds,
+                        @Value("${campus.route.stair-seconds-per-level:20}") double stairSecondsPerLevel,
+                        @Value("${campus.route.elevator-seconds-per-level:6}") double elevatorSecondsPerLevel,
+                        @Value("${campus.route.elevator-wait-seconds:30}") double elevatorWaitSeconds,
+                        @Value("${campus.route.walking-speed:1.3}") double walkingSpeed,
+                        @Value("${campus.route.outdoor-neighbors:4}") int outdoorNeighbors) {
+        this.snapshotHolder = snapshotHolder;
+        this.costs = new RouteCosts(corridorSeconds, stairSecondsPerLevel, elevatorSecondsPerLevel,
+                elevatorWaitSeconds, walkingSpeed, outdoorNeighbors);
+    }
+
+    /** /api/routes?from=&to= */
+    public RouteResponse route(Integer fromRoomId, Integer toRoomId, boolean accessible) {
+        var g = graph();
+        if (!g.containsRoom(fromRoomId)) throw new NoSuchElementException("방을 찾을 수 없습니다: " + fromRoomId);
+        if (!g.containsRoom(toRoomId)) throw new NoSuchElementException("방을 찾을 수 없습니다: " + toRoomId);
+
+        var route = g.route(fromRoomId, toRoomId, accessible)
+                .orElseThrow(() -> new NoSuchElementException("경로를 찾을 수 없습니다: " + fromRoomId + " → " + toRoomId));
+        var steps = route.steps().stream()
+                .map(s -> new RouteStepResponse(
+                        (s.via() == null) ? null : s.via().name(), s.kind().name(),
+                        s.buildingId(), s.floorId(), s.level(), s.roomId(), s.name(), s.seconds()))
+                .toList();
+        return new RouteResponse(fromRoomId, toRoomId, accessible, route.seconds(), steps);
+    }
+
+    /** /api/routes/buildings?from=&to= : 미리 계산해 둔 출입구 간 최단 거리 */
+    public BuildingDistanceResponse buildingDistance(Integer fromBuildingId, Integer toBuildingId, boolean accessible) {
+        double seconds = graph().entranceDistance(fromBuildingId, toBuildingId, accessible)
+                .orElseThrow(() -> new NoSuchElementException(
+                        "경로를 찾을 수 없습니다: 건물 " + fromBuildingId + " → " + toBuildingId));
+        return new BuildingDistanceResponse(fromBuildingId, toBuildingId, accessible, seconds);
+    }
+
+    /** 스냅샷이 바뀌면 새 그래프를 백그라운드에서 만든다. (그사이 더 새 스냅샷이 나왔으면 건너뛴다) */
+    @EventListener
+    public void onSnapshotReloaded(CampusSnapshotReloadedEvent event) {
+        var snapshot = event.snapshot();
+        rebuilder.execute(() -> {
+            if (snapshotHolder.current().version() > snapshot.version()) return;
+            try {
+                install(snapshot);
+            } catch (RuntimeException e) {
+                log.error("길찾기 그래프를 만들지 못했습니다: version={}", snapshot.version(), e);
+            }
+        });
+    }
+
+    private RouteGraph graph() {
+        var g = graph.get();
+        if (g != null) return g;
+
+        // 아직 한 번도 만들지 않았음 (기동 직후)
+        synchronized (this) {
+            g = graph.get();
+            return (g != null) ? g : install(snapshotHolder.current());
+        }
+    }
+
+    private synchronized RouteGraph install(CampusSnapshot snapshot) {
+        var current = graph.get();
+        if (current != null && current.version() >= snapshot.version()) return current;
+
+        var g = RouteGraph.build(snapshot, costs);
+        graph.set(g);
+        log.info("길찾기 그래프 교체: version={}, nodes={}", g.version(), g.nodeCount());
+        return g;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        rebuilder.shutdownNow();
+    }
+}
@@ -0,0 +1,48 @@
+package com.campuscompass.backend.security;
+
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.security.Principal;
+import java.util.List;
+
+/**
+ * 인증된 사용자 (Access Token의 클레임에서 만든다. DB 조회 없음)
+ * - getName()은 학번이라 authentication.getName()도 그대로 학번이다.
+ *
+ * @param userId    users.user_id (토큰의 uid 클레임)
+ * @param studentId 학번 (토큰의 subject)
+ * @param roles     역할 (USER, ADMIN … 토큰의 roles 클레임, 권한은 "ROLE_" + 역할)
+ */
+public record AuthUser(Long userId, String studentId, List<String> roles) implements Principal {
+
+    public AuthUser {
+        roles = List.copyOf(roles);
+    }
+
+    @Override
+    public String getName() {
+        return studentId;
+    }
+
+    public List<GrantedAuthority> authorities() {
+        return roles.stream()
+                .<GrantedAuthority>map(role -> new SimpleGrantedAuthority("ROLE_" + role))
+                .toList();
+    }
+
+    /** SecurityContext에 넣을 인증 정보 */
+    public Authentication toAuthentication() {
+        return new UsernamePasswordAuthenticationToken(this, "", authorities());
+    }
+
+    /** 지금 요청의 인증된 사용자 (토큰으로 인증되지 않았으면 예외) */
+    public static AuthUser current() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthUser user) return user;
+        throw new IllegalStateException("인증된 사용자가 없습니다.");
+    }
+}
@@ -1,5 +1,7 @@
 package com.campuscompass.backend.security;
 
+import com.campuscompass.backend.user.domain.User;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -9,10 +11,15 @@ import org.springframework.stereotype.Component;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
 import java.util.Date;
+import java.util.List;
+import java.util.Optional;
 
 @Component // 이 클래스를 Spring이 관리하는 컴포넌트(도구)로 등록
 public class JwtTokenProvider {
 
+    private static final String USER_ID_CLAIM = "uid";
+    private static final String ROLES_CLAIM = "roles";
+
     private final Key secretKey;
     private final long accessTokenValidityInMilliseconds;
     private final long refreshTokenValidityInMilliseconds;
@@ -28,13 +35,15 @@ public class JwtTokenProvider {
         this.refreshTokenValidityInMilliseconds = refreshTokenValidity * 1000;
     }
 
-    // Access Token 생성
-    public String createAccessToken(String studentId) {
+    // Access Token 생성 (요청마다 사용자를 조회하지 않도록 user_id와 역할도 담는다)
+    public String createAccessToken(User user) {
         Date now = new Date();
         Date validity = new Date(now.getTime() + accessTokenValidityInMilliseconds);
 
         return Jwts.builder()
-                .setSubject(studentId) // 토큰의 주체 (학번)
+                .setSubject(user.getStudentId()) // 토큰의 주체 (학번)
+                .claim(USER_ID_CLAIM, user.getId())
+                .claim(ROLES_CLAIM, List.of(user.getRole().name()))
                 .setIssuedAt(now)      // 발급 시간
                 .setExpiration(validity) // 만료 시간
                 .signWith(secretKey, SignatureAlgorithm.HS256) // HS256 알고리즘과 비밀 키로 서명
@@ -53,14 +62,23 @@ public class JwtTokenProvider {
                 .compact();
     }
 
-    // 토큰에서 학번(Subject) 추출
-    public String getStudentIdFromToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+    /**
+     * Access Token을 한 번 파싱해 검증하고 인증된 사용자를 만든다.
+     * 만료/위조되었거나 uid 클레임이 없는(예전 형식) 토큰이면 empty
+     */
+    public Optional<AuthUser> parseAccessToken(String token) {
+        Claims claims;
+        try {
+            claims = Jwts.parserBuilder().setSigningKey(secretKey).build().parseClaimsJws(token).getBody();
+        } catch (Exception e) {
+            return Optional.empty();
+        }
+
+        Long userId = claims.get(USER_ID_CLAIM, Long.class);
+        if (userId == null || claims.getSubject() == null) return Optional.empty();
+        List<?> roles = claims.get(ROLES_CLAIM, List.class);
+        return Optional.of(new AuthUser(userId, claims.getSubject(),
+                (roles != null) ? roles.stream().map(String::valueOf).toList() : List.of()));
     }
 
     // 토큰 유효성 검증
@@ -13,6 +13,8 @@ import java.time.LocalDateTime;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class User {
 
+    public enum Role { USER, ADMIN }
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "user_id")
@@ -28,6 +30,11 @@ public class User {
     @Column(nullable = false)
     private String nickname;
 
+    // 기존 행은 USER (ddl-auto update로 컬럼이 추가될 때)
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16, columnDefinition = "varchar(16) default 'USER'")
+    private Role role;
+
     // DB 컬럼은 'created_at'으로, Java 필드는 'createdAt'으로 매핑
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
@@ -37,6 +44,12 @@ public class User {
         this.studentId = studentId;
         this.password = password;
         this.nickname = nickname;
+        this.role = Role.USER;
         this.createdAt = LocalDateTime.now();
     }
+
+    /** 역할 변경 (다음 토큰 발급부터 반영된다) */
+    public void changeRole(Role role) {
+        this.role = role;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,38 @@
+package com.campuscompass.backend.user.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 관리자 역할 부여. 기동할 때 campus.admin.grant에 적은 학번들을 ADMIN으로 바꾼다. (이미 ADMIN이면 그대로)
+ * java -jar app.jar --campus.admin.grant=20250001,20250002
+ * - 토큰의 roles 클레임으로 권한을 보므로, 다음 로그인(또는 토큰 재발급)부터 /api/admin/**에 들어갈 수 있다.
+ * - 되돌리려면 users.role을 USER로 바꾼다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty("campus.admin.grant")
+public class AdminGrantRunner implements ApplicationRunner {
+
+    private final UserService userService;
+    private final List<String> studentIds;
+
+    public AdminGrantRunner(UserService userService,
+                            @Value("${campus.admin.grant}") List<String> studentIds) {
+        this.userService = userService;
+        this.studentIds = studentIds.stream().map(String::strip).filter(id -> !id.isEmpty()).toList();
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        var missing = userService.grantAdmin(studentIds);
+        log.info("관리자 역할 부여: {}", studentIds.stream().filter(id -> !missing.contains(id)).toList());
+        if (!missing.isEmpty()) log.warn("가입되지 않은 학번이라 관리자 역할을 주지 못했습니다: {}", missing);
+    }
+}
@@ -11,6 +11,10 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -56,7 +60,7 @@ public class UserService {
         }
 
         // 3. 토큰 생성
-        String accessToken = jwtTokenProvider.createAccessToken(user.getStudentId());
+        String accessToken = jwtTokenProvider.createAccessToken(user);
         String refreshTokenString = jwtTokenProvider.createRefreshToken();
         long refreshTokenValiditySeconds = jwtTokenProvider.getRefreshTokenValidityInSeconds();
 
@@ -112,9 +116,25 @@ public class UserService {
         User user = refreshToken.getUser();
 
         // 4. 새로운 Access Token 생성
-        String newAccessToken = jwtTokenProvider.createAccessToken(user.getStudentId());
+        String newAccessToken = jwtTokenProvider.createAccessToken(user);
 
         // 5. 새 Access Token 반환
         return new AccessTokenResponse(newAccessToken);
     }
-}
\ No newline at end of file
+
+    /**
+     * 관리자 역할 부여 (AdminGrantRunner가 기동할 때 부른다)
+     *
+     * @return 가입되지 않아 부여하지 못한 학번
+     */
+    @Transactional
+    public List<String> grantAdmin(Collection<String> studentIds) {
+        var missing = new ArrayList<String>();
+        for (var studentId : studentIds) {
+            userRepository.findByStudentId(studentId).ifPresentOrElse(
+                    user -> user.changeRole(User.Role.ADMIN),
+                    () -> missing.add(studentId));
+        }
+        return missing;
+    }
+}
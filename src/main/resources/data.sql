@@ -30,4 +30,10 @@ INSERT INTO rooms (room_id, floor_id, name, room_type, operating_hours)
 VALUES (3, 1, '학생 카페', 'FACILITY', '09:00~18:00');
 
 INSERT INTO rooms (room_id, floor_id, name, room_type, operating_hours)
-VALUES (4, 1, '편의점', 'FACILITY', '24시간');
\ No newline at end of file
+VALUES (4, 1, '편의점', 'FACILITY', '24시간');
+
+-- 6. id 시퀀스를 위에서 직접 넣은 id 뒤로 (pooled, 50씩 증가)
+ALTER SEQUENCE buildings_seq RESTART WITH 100;
+ALTER SEQUENCE floors_seq RESTART WITH 100;
+ALTER SEQUENCE rooms_seq RESTART WITH 100;
+ALTER SEQUENCE schedules_seq RESTART WITH 100;
@@ -0,0 +1,141 @@
+package com.campuscompass.backend.favorite.controller;
+
+import com.campuscompass.backend.security.AuthUser;
+import com.campuscompass.backend.user.domain.User;
+import com.campuscompass.backend.user.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+class FavoriteControllerTest {
+
+    private static final String STUDENT_ID = "fav-batch-test";
+    private static final int R1 = 9201, R2 = 9202, R3 = 9203, MISSING = 9299;
+
+    @Autowired WebApplicationContext context;
+    @Autowired UserRepository userRepository;
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired EntityManagerFactory entityManagerFactory;
+    @Autowired PlatformTransactionManager transactionManager;
+
+    private MockMvc mockMvc;
+    private AuthUser authUser;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).apply(springSecurity()).build();
+        var user = userRepository.save(new User(STUDENT_ID, "password", "일괄 동기화"));
+        authUser = new AuthUser(user.getId(), STUDENT_ID, List.of("USER"));
+        for (int roomId : new int[] {R1, R2, R3}) {
+            jdbcTemplate.update("insert into rooms (room_id, floor_id, room_number, name, room_type, capacity) values (?, 4, ?, ?, 'CLASSROOM', 30)",
+                    roomId, String.valueOf(roomId), "일괄강의실 " + roomId);
+        }
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        statistics.setStatisticsEnabled(false);
+        jdbcTemplate.update("delete from favorites where room_id >= ?", R1);
+        jdbcTemplate.update("delete from rooms where room_id >= ?", R1);
+        jdbcTemplate.update("delete from users where student_id = ?", STUDENT_ID);
+    }
+
+    /** 요청한 방을 added/unchanged/notFound로 나누고, 방 확인과 중복 확인은 각각 쿼리 한 번, 목록 캐시는 비운다 */
+    @Test
+    void batchAddSplitsRoomsAndInvalidatesTheList() throws Exception {
+        addBatch(R1).andExpect(status().isOk());
+        mockMvc.perform(get("/api/favorites").with(authentication(authUser.toAuthentication())))
+                .andExpect(jsonPath("$[*].roomId").value(contains(R1)));   // 캐시에 올라감
+
+        statistics.clear();
+        addBatch(R2, MISSING, R1, R3, R2)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changed").value(contains(R2, R3)))
+                .andExpect(jsonPath("$.unchanged").value(contains(R1)))
+                .andExpect(jsonPath("$.notFound").value(contains(MISSING)));
+        // 방 IN 조회 한 번 + 이미 있는 즐겨찾기 조회 한 번 (INSERT는 JDBC 배치라 세지 않음)
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+
+        mockMvc.perform(get("/api/favorites").with(authentication(authUser.toAuthentication())))
+                .andExpect(jsonPath("$[*].roomId").value(containsInAnyOrder(R1, R2, R3)));
+    }
+
+    /** 확인한 뒤 다른 요청이 같은 즐겨찾기를 먼저 넣으면 500이 아니라 409, 다시 보내면 unchanged */
+    @Test
+    void concurrentBatchForSameUserIsAConflict() throws Exception {
+        var tx = new TransactionTemplate(transactionManager);
+        var other = new CompletableFuture<Integer>();
+        tx.executeWithoutResult(status -> {
+            jdbcTemplate.update("insert into favorites (user_id, room_id, created_at) values (?, ?, current_timestamp)",
+                    authUser.userId(), R2);
+            // 아직 커밋 전: 다른 요청은 R2가 없다고 보고 INSERT에서 이 행의 잠금을 기다리다가, 커밋되면 유일 키 위반
+            CompletableFuture.runAsync(() -> {
+                try {
+                    other.complete(addBatch(R1, R2).andReturn().getResponse().getStatus());
+                } catch (Throwable e) {
+                    other.completeExceptionally(e);
+                }
+            });
+            awaitOtherInsert();
+        });
+
+        assertThat(other.get(10, TimeUnit.SECONDS)).isEqualTo(409);
+        assertThat(jdbcTemplate.queryForList("select room_id from favorites where user_id = ?", Integer.class, authUser.userId()))
+                .containsExactly(R2);
+
+        addBatch(R1, R2)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changed").value(contains(R1)))
+                .andExpect(jsonPath("$.unchanged").value(contains(R2)));
+    }
+
+    private ResultActions addBatch(int... roomIds) throws Exception {
+        var body = new StringBuilder("{\"roomIds\": [");
+        for (int i = 0; i < roomIds.length; i++) body.append(i > 0 ? ", " : "").append(roomIds[i]);
+        return mockMvc.perform(post("/api/favorites/batch")
+                .with(authentication(authUser.toAuthentication()))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body.append("]}").toString()));
+    }
+
+    /** H2 세션 목록에서 다른 세션이 즐겨찾기 INSERT를 실행 중일(이 트랜잭션의 행 잠금을 기다릴) 때까지 */
+    private void awaitOtherInsert() {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (jdbcTemplate.queryForObject("select count(*) from information_schema.sessions "
+                + "where session_id <> session_id() and executing_statement like 'insert into favorites%'", Integer.class) == 0) {
+            assertThat(System.nanoTime()).as("다른 요청이 INSERT에 이르지 않음").isLessThan(deadline);
+            Thread.onSpinWait();
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.campuscompass.backend.favorite.service;
+
+import com.campuscompass.backend.favorite.dto.FavoriteAddRequest;
+import com.campuscompass.backend.favorite.dto.FavoriteAvailabilityResponse;
+import com.campuscompass.backend.favorite.dto.FavoriteResponse;
+import com.campuscompass.backend.map.snapshot.OccupancyIndex;
+import com.campuscompass.backend.map.snapshot.ScheduleRow;
+import com.campuscompass.backend.security.AuthUser;
+import com.campuscompass.backend.user.domain.User;
+import com.campuscompass.backend.user.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class FavoriteServiceTest {
+
+    static final String STUDENT_ID = "fav-test";
+    private static final int FIRST_ROOM_ID = 9101;
+    private static final int ROOMS = 30;
+
+    @Autowired FavoriteService favoriteService;
+    @Autowired UserRepository userRepository;
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        var user = userRepository.save(new User(STUDENT_ID, "password", "즐겨찾기"));
+        var authUser = new AuthUser(user.getId(), STUDENT_ID, List.of("USER"));
+        SecurityContextHolder.getContext().setAuthentication(authUser.toAuthentication());
+        for (int i = 0; i < ROOMS; i++) {
+            jdbcTemplate.update("insert into rooms (room_id, floor_id, room_number, name, room_type, capacity) values (?, 4, ?, ?, 'CLASSROOM', 30)",
+                    FIRST_ROOM_ID + i, "9" + i, "테스트강의실 " + i);
+        }
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        statistics.setStatisticsEnabled(false);
+        SecurityContextHolder.clearContext();
+        jdbcTemplate.update("delete from favorites where room_id >= ?", FIRST_ROOM_ID);
+        jdbcTemplate.update("delete from rooms where room_id >= ?", FIRST_ROOM_ID);
+        jdbcTemplate.update("delete from users where student_id = ?", STUDENT_ID);
+    }
+
+    @Test
+    void favoritesAreReadWithOneQueryRegardlessOfCount() {
+        for (int added = 1; added <= ROOMS; added++) {
+            addFavorite(FIRST_ROOM_ID + added - 1);
+            if (added != 1 && added != 10 && added != ROOMS) continue;
+
+            statistics.clear();
+            var favorites = favoriteService.getFavorites();
+            assertThat(favorites).hasSize(added);
+            assertThat(statistics.getPrepareStatementCount()).as("%d favorites, cache miss", added).isEqualTo(1);
+
+            var first = favorites.get(0);
+            assertThat(first.roomId()).isEqualTo(FIRST_ROOM_ID);
+            assertThat(first.floorLevel()).isEqualTo(2);
+            assertThat(first.buildingName()).isEqualTo("진리관");
+
+            statistics.clear();
+            assertThat(favoriteService.getFavorites()).isEqualTo(favorites);
+            assertThat(statistics.getPrepareStatementCount()).as("%d favorites, cache hit", added).isZero();
+        }
+    }
+
+    @Test
+    void addAndDeleteInvalidateTheCachedList() {
+        addFavorite(FIRST_ROOM_ID);
+        assertThat(favoriteService.getFavorites()).hasSize(1);
+
+        addFavorite(FIRST_ROOM_ID + 1);
+        assertThat(favoriteService.getFavorites()).hasSize(2);
+
+        favoriteService.deleteFavoriteByRoomId(FIRST_ROOM_ID);
+        assertThat(favoriteService.getFavorites())
+                .extracting(f -> f.roomId())
+                .containsExactly(FIRST_ROOM_ID + 1);
+    }
+
+    /** 토큰 발급 뒤 사용자가 지워졌으면 FK 위반 대신 401 */
+    @Test
+    void writesForDeletedUserAreRejectedAsUnauthorized() {
+        jdbcTemplate.update("delete from users where student_id = ?", STUDENT_ID);
+
+        assertThatThrownBy(() -> addFavorite(FIRST_ROOM_ID))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED));
+        assertThatThrownBy(() -> favoriteService.addFavorites(List.of(FIRST_ROOM_ID, FIRST_ROOM_ID + 1)))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED));
+        assertThat(jdbcTemplate.queryForObject("select count(*) from favorites where room_id >= ?", Integer.class, FIRST_ROOM_ID))
+                .isZero();
+    }
+
+    /**
+     * 월요일: 09:00-10:30, 10:30-12:00 (맞닿아서 09:00-12:00 한 구간), 13:00-14:00, 22:00-24:00
+     * 화요일: 수업 없음
+     */
+    @Test
+    void availabilityFollowsMergedClassBlocks() {
+        var occupancy = OccupancyIndex.build(List.of(
+                new ScheduleRow(1, FIRST_ROOM_ID, 1, LocalTime.of(10, 30), LocalTime.of(12, 0), "자료구조"),
+                new ScheduleRow(2, FIRST_ROOM_ID, 1, LocalTime.of(9, 0), LocalTime.of(10, 30), "운영체제"),
+                new ScheduleRow(3, FIRST_ROOM_ID, 1, LocalTime.of(13, 0), LocalTime.of(14, 0), "컴파일러"),
+                new ScheduleRow(4, FIRST_ROOM_ID, 1, LocalTime.of(22, 0), LocalTime.MAX, "야간 실습")));
+
+        // 비어 있음: 다음 수업까지, 다음 수업은 이어지는 수업까지 합쳐서
+        assertAvailability(occupancy, 1, "08:00", true, "09:00", null, "09:00", "12:00");
+        // 수업 중: 합쳐진 구간 끝에 비고, 그 뒤의 다음 수업
+        assertAvailability(occupancy, 1, "10:45", false, null, "12:00", "13:00", "14:00");
+        assertAvailability(occupancy, 1, "09:00", false, null, "12:00", "13:00", "14:00");
+        // 끝나는 시각에는 비어 있다
+        assertAvailability(occupancy, 1, "12:00", true, "13:00", null, "13:00", "14:00");
+        assertAvailability(occupancy, 1, "14:30", true, "22:00", null, "22:00", null);
+        // 24:00까지 가는 수업: 비는 시각도 다음 수업도 없음
+        assertAvailability(occupancy, 1, "23:30", false, null, null, null, null);
+        // 그날 수업이 없으면 하루 끝까지 비어 있음
+        assertAvailability(occupancy, 2, "10:00", true, null, null, null, null);
+    }
+
+    @Test
+    void roomWithoutAnyClassIsFreeAllDay() {
+        var occupancy = OccupancyIndex.build(List.of(
+                new ScheduleRow(1, FIRST_ROOM_ID + 1, 1, LocalTime.of(9, 0), LocalTime.of(10, 0), "다른 방")));
+        assertAvailability(occupancy, 1, "09:30", true, null, null, null, null);
+        assertAvailability(OccupancyIndex.empty(), 1, "09:30", true, null, null, null, null);
+    }
+
+    private static void assertAvailability(OccupancyIndex occupancy, int dayOfWeek, String at, boolean freeNow,
+                                           String freeUntil, String busyUntil, String nextStart, String nextEnd) {
+        var favorite = new FavoriteResponse(1L, FIRST_ROOM_ID, "90", "테스트강의실 0", 4, 2, "2층", 2, "진리관");
+        var result = FavoriteService.availabilityOf(favorite, occupancy, dayOfWeek, LocalTime.parse(at));
+        assertThat(result).as("day=%d at=%s", dayOfWeek, at).isEqualTo(new FavoriteAvailabilityResponse(
+                1L, FIRST_ROOM_ID, "90", "테스트강의실 0", 4, 2, "2층", 2, "진리관", dayOfWeek, freeNow,
+                time(freeUntil), time(busyUntil), time(nextStart), time(nextEnd)));
+    }
+
+    private static LocalTime time(String hhmm) {
+        return (hhmm == null) ? null : LocalTime.parse(hhmm);
+    }
+
+    private void addFavorite(int roomId) {
+        var request = new FavoriteAddRequest();
+        ReflectionTestUtils.setField(request, "roomId", roomId);
+        favoriteService.addFavorite(request);
+    }
+}
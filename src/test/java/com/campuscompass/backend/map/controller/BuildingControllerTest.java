@@ -0,0 +1,97 @@
+package com.campuscompass.backend.map.controller;
+
+import com.campuscompass.backend.map.snapshot.CampusSnapshotHolder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+class BuildingControllerTest {
+
+    @Autowired WebApplicationContext context;
+    @Autowired CampusSnapshotHolder snapshotHolder;
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).apply(springSecurity()).build();
+    }
+
+    /** ETag는 행 내용에서 만든다: 그냥 다시 읽으면 그대로, 행이 바뀌면 달라지고 되돌리면 다시 같아진다 */
+    @Test
+    void etagFollowsRowContent() throws Exception {
+        var etag = etagOf("/api/buildings", null);
+        assertThat(etag).isEqualTo(snapshotHolder.etag());
+        assertThat(etagOf("/api/buildings/2", null)).isEqualTo(etag);
+
+        snapshotHolder.reload();
+        mockMvc.perform(get("/api/buildings/2").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        var name = jdbcTemplate.queryForObject("select name from buildings where building_id = 3", String.class);
+        try {
+            renameBuilding3(name + " (공사 중)");
+            assertThat(etagOf("/api/buildings", null)).isNotEqualTo(etag).isEqualTo(snapshotHolder.etag());
+            mockMvc.perform(get("/api/buildings").header(HttpHeaders.IF_NONE_MATCH, etag))
+                    .andExpect(status().isOk());
+        } finally {
+            renameBuilding3(name);
+        }
+        assertThat(etagOf("/api/buildings", null)).isEqualTo(etag);
+    }
+
+    /** gzip 본문과 원래 본문은 ETag가 다르고, 다른 인코딩의 ETag로는 304가 나오지 않는다 */
+    @Test
+    void eachContentCodingHasItsOwnEtag() throws Exception {
+        var identity = etagOf("/api/buildings", null);
+        var gzip = etagOf("/api/buildings", "gzip");
+        assertThat(gzip).isNotEqualTo(identity).endsWith("-gz\"");
+
+        mockMvc.perform(get("/api/buildings").header(HttpHeaders.ACCEPT_ENCODING, "gzip").header(HttpHeaders.IF_NONE_MATCH, identity))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"));
+        mockMvc.perform(get("/api/buildings").header(HttpHeaders.IF_NONE_MATCH, gzip))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING));
+        mockMvc.perform(get("/api/buildings").header(HttpHeaders.ACCEPT_ENCODING, "gzip").header(HttpHeaders.IF_NONE_MATCH, gzip))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING));
+    }
+
+    /** 없는 건물은 현재 ETag를 보내도 304가 아니다 */
+    @Test
+    void missingBuildingIsNotReportedAsNotModified() {
+        assertThatThrownBy(() -> mockMvc.perform(get("/api/buildings/999999")
+                        .header(HttpHeaders.IF_NONE_MATCH, snapshotHolder.etag())))
+                .hasRootCauseInstanceOf(NoSuchElementException.class);
+    }
+
+    private void renameBuilding3(String name) {
+        jdbcTemplate.update("update buildings set name = ? where building_id = 3", name);
+        snapshotHolder.reload();
+    }
+
+    private String etagOf(String path, String acceptEncoding) throws Exception {
+        var request = get(path);
+        if (acceptEncoding != null) request.header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        return mockMvc.perform(request).andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+}
@@ -0,0 +1,122 @@
+package com.campuscompass.backend.map.controller;
+
+import com.campuscompass.backend.map.service.OfflineBundleService;
+import com.campuscompass.backend.map.snapshot.CampusSnapshotHolder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+class BundleControllerTest {
+
+    @Autowired WebApplicationContext context;
+    @Autowired OfflineBundleService offlineBundleService;
+    @Autowired CampusSnapshotHolder snapshotHolder;
+
+    private MockMvc mockMvc;
+    private byte[] full;
+    private String etag;
+
+    @BeforeEach
+    void fetchFullBundle() throws Exception {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).apply(springSecurity()).build();
+        var result = mockMvc.perform(get("/api/bundle"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andReturn();
+        full = result.getResponse().getContentAsByteArray();
+        etag = result.getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(full.length).isGreaterThan(20);
+        assertThat(etag).isNotNull();
+    }
+
+    @Test
+    void servesSingleByteRanges() throws Exception {
+        int size = full.length;
+        assertPartial("bytes=0-9", 0, 10);
+        assertPartial("bytes=10-", 10, size);
+        assertPartial("bytes=-5", size - 5, size);
+        assertPartial("bytes=" + (size - 1) + "-" + (size - 1), size - 1, size);
+        assertPartial("bytes=5-" + (size * 2), 5, size);          // 끝이 파일보다 길면 잘라서
+        assertPartial("bytes=-" + (size * 2), 0, size);           // 끝에서 n바이트가 파일보다 길면 전체
+    }
+
+    @Test
+    void rejectsRangesStartingPastEndOfFile() throws Exception {
+        for (var range : new String[]{"bytes=" + full.length + "-", "bytes=" + (full.length + 100) + "-" + (full.length + 200), "bytes=-0"}) {
+            mockMvc.perform(get("/api/bundle").header(HttpHeaders.RANGE, range))
+                    .andExpect(status().isRequestedRangeNotSatisfiable())
+                    .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */" + full.length));
+        }
+    }
+
+    @Test
+    void ignoresMalformedOrMultipleRanges() throws Exception {
+        for (var range : new String[]{"bytes=a-b", "bytes=0-1,5-6", "bytes=9-3", "items=0-9", "bytes=-", "bytes=5"}) {
+            var body = mockMvc.perform(get("/api/bundle").header(HttpHeaders.RANGE, range))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsByteArray();
+            assertThat(body).as(range).isEqualTo(full);
+        }
+    }
+
+    @Test
+    void honoursIfRangeOnlyForCurrentEtag() throws Exception {
+        var body = mockMvc.perform(get("/api/bundle")
+                        .header(HttpHeaders.RANGE, "bytes=0-9")
+                        .header(HttpHeaders.IF_RANGE, "\"stale\""))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_RANGE))
+                .andReturn().getResponse().getContentAsByteArray();
+        assertThat(body).isEqualTo(full);
+
+        mockMvc.perform(get("/api/bundle")
+                        .header(HttpHeaders.RANGE, "bytes=0-9")
+                        .header(HttpHeaders.IF_RANGE, etag))
+                .andExpect(status().isPartialContent());
+    }
+
+    @Test
+    void returnsNotModifiedForMatchingEtag() throws Exception {
+        mockMvc.perform(get("/api/bundle").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+    }
+
+    /** 다시 읽은 뒤에도 요청은 바로 (이전 번들로) 답하고, 새 번들은 백그라운드에서 준비된다 */
+    @Test
+    void rebuildsInBackgroundAfterReload() throws Exception {
+        var before = offlineBundleService.bundle();
+        snapshotHolder.reload();
+        long version = snapshotHolder.current().version();
+
+        assertThat(offlineBundleService.bundle().version()).isIn(before.version(), version);
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (offlineBundleService.bundle().version() != version && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(offlineBundleService.bundle().version()).isEqualTo(version);
+    }
+
+    private void assertPartial(String range, int start, int end) throws Exception {
+        var body = mockMvc.perform(get("/api/bundle").header(HttpHeaders.RANGE, range))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE,
+                        "bytes " + start + "-" + (end - 1) + "/" + full.length))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, end - start))
+                .andReturn().getResponse().getContentAsByteArray();
+        assertThat(body).as(range).isEqualTo(Arrays.copyOfRange(full, start, end));
+    }
+}
@@ -0,0 +1,90 @@
+package com.campuscompass.backend.map.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+class ExportControllerTest {
+
+    @Autowired WebApplicationContext context;
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired ObjectMapper objectMapper;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).apply(springSecurity()).build();
+    }
+
+    /** 한 줄에 방 하나, id순, 마지막 줄도 줄바꿈으로 끝난다 */
+    @Test
+    void exportsRoomsAsNdjson() throws Exception {
+        var lines = export("/api/export/rooms");
+
+        var ids = jdbcTemplate.queryForList("select room_id from rooms order by room_id", Integer.class);
+        assertThat(lines).extracting(line -> line.get("id").asInt()).containsExactlyElementsOf(ids);
+        assertThat(lines.get(0).get("roomNumber").asText()).isEqualTo("201");
+        assertThat(lines.get(0).has("floorId")).isTrue();
+    }
+
+    @Test
+    void exportsSchedulesAsNdjson() throws Exception {
+        String insert = "insert into schedules (schedule_id, room_id, course_name, day_of_week, start_time, end_time) values (?, ?, ?, ?, ?, ?)";
+        jdbcTemplate.update(insert, 9002, 2, "자료구조", 3, "13:00", "14:30");
+        jdbcTemplate.update(insert, 9001, 1, "운영체제", 1, "09:00", "10:30");
+        try {
+            var lines = export("/api/export/schedules");
+
+            assertThat(lines).extracting(line -> line.get("id").asInt()).containsExactly(9001, 9002);
+            assertThat(lines.get(0).get("courseName").asText()).isEqualTo("운영체제");
+            assertThat(lines.get(0).get("startTime").asText()).isEqualTo("09:00:00");
+            assertThat(lines.get(1).get("roomId").asInt()).isEqualTo(2);
+        } finally {
+            jdbcTemplate.update("delete from schedules where schedule_id in (9001, 9002)");
+        }
+    }
+
+    @Test
+    void exportRequiresLogin() throws Exception {
+        mockMvc.perform(get("/api/export/rooms"))
+                .andExpect(result -> assertThat(result.getResponse().getStatus()).isIn(401, 403));
+    }
+
+    private List<JsonNode> export(String path) throws Exception {
+        var started = mockMvc.perform(get(path).with(user("analyst")))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        var body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        assertThat(body).endsWith("\n");
+        var lines = new ArrayList<JsonNode>();
+        for (var line : body.split("\n")) lines.add(objectMapper.readTree(line));
+        return lines;
+    }
+}
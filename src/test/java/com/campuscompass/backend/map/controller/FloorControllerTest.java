@@ -0,0 +1,59 @@
+package com.campuscompass.backend.map.controller;
+
+import com.campuscompass.backend.map.snapshot.CampusSnapshotHolder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+class FloorControllerTest {
+
+    @Autowired WebApplicationContext context;
+    @Autowired CampusSnapshotHolder snapshotHolder;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).apply(springSecurity()).build();
+    }
+
+    /** 데이터가 그대로면 스냅샷을 다시 읽어도 ETag가 같다 (304) */
+    @Test
+    void etagSurvivesReloadWithoutDataChange() throws Exception {
+        var etag = mockMvc.perform(availableRooms(1))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        snapshotHolder.reload();
+        mockMvc.perform(availableRooms(1).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+    }
+
+    /** 없는 층은 현재 ETag를 보내도 304가 아니다 */
+    @Test
+    void missingFloorIsNotReportedAsNotModified() {
+        assertThatThrownBy(() -> mockMvc.perform(availableRooms(999999).header(HttpHeaders.IF_NONE_MATCH, snapshotHolder.etag())))
+                .hasRootCauseInstanceOf(NoSuchElementException.class);
+    }
+
+    private static MockHttpServletRequestBuilder availableRooms(int floorId) {
+        return get("/api/floors/" + floorId + "/available-rooms")
+                .param("dayOfWeek", "1").param("start", "09:00").param("end", "10:00");
+    }
+}
@@ -0,0 +1,107 @@
+package com.campuscompass.backend.map.controller;
+
+import com.campuscompass.backend.map.domain.MapChange.EntityType;
+import com.campuscompass.backend.map.service.MapChangeRecorder;
+import com.campuscompass.backend.map.snapshot.CampusSnapshotHolder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.LocalTime;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/** 변경을 커밋해야 스냅샷을 다시 읽으므로, 다른 테스트와 섞이지 않게 따로 DB를 쓰고 보관 범위를 5개로 줄인다. */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:sync;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "campus.sync.retained-changes=5"
+})
+class SyncControllerTest {
+
+    private static final String INSERT_SCHEDULE = "insert into schedules (schedule_id, room_id, course_name, day_of_week, start_time, end_time) values (?, ?, ?, ?, ?, ?)";
+
+    @Autowired WebApplicationContext context;
+    @Autowired MapChangeRecorder mapChangeRecorder;
+    @Autowired CampusSnapshotHolder snapshotHolder;
+    @Autowired TransactionTemplate tx;
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).apply(springSecurity()).build();
+    }
+
+    @Test
+    void servesDeltaInsideRetainedWindowAndFullOtherwise() throws Exception {
+        long start = snapshotHolder.current().changeLog().head();
+
+        tx.executeWithoutResult(status -> {
+            jdbcTemplate.update("update rooms set name = '바뀐 강의실' where room_id = 2");
+            mapChangeRecorder.upserted(EntityType.ROOM, 2);
+            jdbcTemplate.update(INSERT_SCHEDULE, 9001, 1, "자료구조", 1, LocalTime.of(9, 0), LocalTime.of(10, 0));
+            mapChangeRecorder.upserted(EntityType.SCHEDULE, 9001);
+            jdbcTemplate.update(INSERT_SCHEDULE, 9002, 1, "폐강", 2, LocalTime.of(9, 0), LocalTime.of(10, 0));
+            mapChangeRecorder.upserted(EntityType.SCHEDULE, 9002);
+            jdbcTemplate.update("delete from schedules where schedule_id = 9002");
+            mapChangeRecorder.deleted(EntityType.SCHEDULE, 9002);
+        });
+        long afterFirst = start + 4;
+
+        // 한 트랜잭션의 변경은 커밋 뒤 한 번에 보이고, 같은 행은 마지막 변경만 남는다
+        sync(start)
+                .andExpect(jsonPath("$.full").value(false))
+                .andExpect(jsonPath("$.version").value(afterFirst))
+                .andExpect(jsonPath("$.buildings", empty()))
+                .andExpect(jsonPath("$.rooms[*].name", contains("바뀐 강의실")))
+                .andExpect(jsonPath("$.schedules[*].id", contains(9001)))
+                .andExpect(jsonPath("$.deleted.schedules", contains(9002)))
+                .andExpect(jsonPath("$.deleted.rooms", empty()));
+        sync(afterFirst)
+                .andExpect(jsonPath("$.full").value(false))
+                .andExpect(jsonPath("$.schedules", empty()))
+                .andExpect(jsonPath("$.deleted.schedules", empty()));
+
+        // 보관 범위(최근 5개)를 벗어난 since는 전체
+        tx.executeWithoutResult(status -> {
+            mapChangeRecorder.upserted(EntityType.BUILDING, 1);
+            mapChangeRecorder.upserted(EntityType.BUILDING, 1);
+        });
+        sync(start)
+                .andExpect(jsonPath("$.full").value(true))
+                .andExpect(jsonPath("$.version").value(afterFirst + 2))
+                .andExpect(jsonPath("$.buildings", hasSize(3)));
+        sync(afterFirst)
+                .andExpect(jsonPath("$.full").value(false))
+                .andExpect(jsonPath("$.buildings[*].id", contains(1)));
+
+        // RESET이 끼어 있으면 범위 안이어도 전체
+        mapChangeRecorder.reset();
+        sync(afterFirst + 2)
+                .andExpect(jsonPath("$.full").value(true))
+                .andExpect(jsonPath("$.version").value(afterFirst + 3))
+                .andExpect(jsonPath("$.schedules[*].id", contains(9001)));
+        sync(afterFirst + 3).andExpect(jsonPath("$.full").value(false));
+
+        // 아직 없는 버전도 전체
+        sync(afterFirst + 100).andExpect(jsonPath("$.full").value(true));
+    }
+
+    private ResultActions sync(long since) throws Exception {
+        return mockMvc.perform(get("/api/sync").param("since", String.valueOf(since))).andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,120 @@
+package com.campuscompass.backend.map.repository;
+
+import com.campuscompass.backend.map.snapshot.CampusSnapshotHolder;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.transaction.AfterTransaction;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * n-gram 색인이 JPQL LIKE 검색과 같은 결과를 같은 순서로 돌려주는지 무작위 캠퍼스로 비교한다.
+ * 초성 검색은 LIKE에 없는 결과를 더하므로 끄고, 다른 테스트와 섞이지 않게 따로 DB를 쓴다.
+ * 색인은 '%', '_'를 글자 그대로 찾으므로(LIKE에서는 와일드카드) 이름에만 넣고 검색어에는 넣지 않는다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:search-parity;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "campus.search.hangul.enabled=false"
+})
+@Transactional
+class IndexedSearchRepositoryTest {
+
+    private static final String LETTERS = "aAbBcC가나다관실ㄱ1 2%_-";
+    private static final int FIRST_ID = 9001;
+
+    @Autowired SearchRepository searchRepository;
+    @Autowired SearchRepositoryImpl jpqlRepository;
+    @Autowired CampusSnapshotHolder snapshotHolder;
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    @AfterTransaction
+    void restoreSnapshot() {
+        snapshotHolder.reload();
+    }
+
+    @Test
+    void indexMatchesLikeQueriesOnRandomCampus() {
+        assertThat(searchRepository).isInstanceOf(IndexedSearchRepository.class);
+        var random = new Random(20250305L);
+        var names = insertRandomCampus(random);
+        snapshotHolder.reload();
+
+        for (int i = 0; i < 1_500; i++) {
+            var q = randomQuery(random, names);
+            int limit = random.nextInt(3) == 0 ? 1 + random.nextInt(5) : 1_000;
+            var where = String.format("q='%s' limit=%d", q, limit);
+
+            assertThat(searchRepository.searchBuildings(q, limit)).as("buildings " + where)
+                    .containsExactlyElementsOf(jpqlRepository.searchBuildings(q, limit));
+            assertThat(searchRepository.searchRooms(q, limit)).as("rooms " + where)
+                    .containsExactlyElementsOf(jpqlRepository.searchRooms(q, limit));
+            assertThat(searchRepository.searchFacilities(q, limit)).as("facilities " + where)
+                    .containsExactlyElementsOf(jpqlRepository.searchFacilities(q, limit));
+        }
+    }
+
+    /** 건물 6개, 층 2개씩, 층마다 강의실(방 번호 없는 것 포함)과 편의시설. 같은 이름·대소문자만 다른 이름도 섞는다. */
+    private List<String> insertRandomCampus(Random random) {
+        var names = new ArrayList<String>();
+        int floorId = FIRST_ID, roomId = FIRST_ID;
+        for (int b = 0; b < 6; b++) {
+            int buildingId = FIRST_ID + b;
+            var name = (b == 5) ? names.get(0).toUpperCase(Locale.ROOT) : randomWord(random, 2, 6);
+            names.add(name);
+            Double latitude = (b == 4) ? null : 37.5 + random.nextDouble() / 100;
+            jdbcTemplate.update("insert into buildings (building_id, name, latitude, longitude, description) values (?, ?, ?, ?, ?)",
+                    buildingId, name, latitude, latitude == null ? null : 127.0 + random.nextDouble() / 100, null);
+            for (int f = 1; f <= 2; f++, floorId++) {
+                jdbcTemplate.update("insert into floors (floor_id, building_id, level, name) values (?, ?, ?, ?)",
+                        floorId, buildingId, f, f + "층");
+                for (int r = 0; r < 8; r++, roomId++) {
+                    boolean facility = random.nextInt(4) == 0;
+                    var roomName = random.nextInt(8) == 0 && !names.isEmpty()
+                            ? names.get(random.nextInt(names.size()))
+                            : randomWord(random, 1, 7);
+                    var roomNumber = (facility || random.nextInt(4) == 0) ? null : randomWord(random, 1, 4);
+                    var features = facility && random.nextBoolean() ? randomWord(random, 1, 8) : null;
+                    jdbcTemplate.update("insert into rooms (room_id, floor_id, room_number, name, room_type, capacity, features) values (?, ?, ?, ?, ?, ?, ?)",
+                            roomId, floorId, roomNumber, roomName, facility ? "FACILITY" : "CLASSROOM", 30, features);
+                    names.add(roomName);
+                    if (roomNumber != null) names.add(roomNumber);
+                    if (features != null) names.add(features);
+                }
+            }
+        }
+        return names;
+    }
+
+    /** 1~3글자: 있는 이름의 일부(대소문자를 바꿔서도) 또는 아무 글자, 와일드카드 글자는 뺀다 */
+    private static String randomQuery(Random random, List<String> names) {
+        String q;
+        do {
+            q = randomPart(random, names);
+        } while (q.isBlank() || q.contains("%") || q.contains("_"));
+        return q;
+    }
+
+    private static String randomPart(Random random, List<String> names) {
+        int length = 1 + random.nextInt(3);
+        if (random.nextInt(3) == 0) return randomWord(random, length, length);
+        var name = names.get(random.nextInt(names.size()));
+        int start = random.nextInt(name.length());
+        var q = name.substring(start, Math.min(name.length(), start + length));
+        return random.nextBoolean() ? q.toUpperCase(Locale.ROOT) : q;
+    }
+
+    private static String randomWord(Random random, int min, int max) {
+        var sb = new StringBuilder();
+        int length = min + random.nextInt(max - min + 1);
+        for (int i = 0; i < length; i++) sb.append(LETTERS.charAt(random.nextInt(LETTERS.length())));
+        return sb.toString();
+    }
+}
@@ -0,0 +1,127 @@
+package com.campuscompass.backend.map.service;
+
+import com.campuscompass.backend.map.dto.AvailableRoomResponse;
+import com.campuscompass.backend.map.dto.FreeRoomResponse;
+import com.campuscompass.backend.map.repository.RoomRepository;
+import com.campuscompass.backend.map.snapshot.CampusSnapshotHolder;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.transaction.AfterTransaction;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class FloorQueryServiceTest {
+
+    private static final int BUILDING_ID = 9001;
+    private static final int FIRST_FLOOR_ID = 9001;
+    private static final int FLOORS = 3;
+    private static final int ROOMS_PER_FLOOR = 12;
+
+    @Autowired FloorQueryService floorQueryService;
+    @Autowired RoomQueryService roomQueryService;
+    @Autowired RoomRepository roomRepository;
+    @Autowired CampusSnapshotHolder snapshotHolder;
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    @AfterTransaction
+    void restoreSnapshot() {
+        snapshotHolder.reload();
+    }
+
+    @Test
+    void occupancyIndexMatchesJpqlOnRandomTimetable() {
+        var random = new Random(20250301L);
+        insertRandomTimetable(random);
+        snapshotHolder.reload();
+
+        for (int i = 0; i < 2_000; i++) {
+            int floorId = FIRST_FLOOR_ID + random.nextInt(FLOORS);
+            int dow = 1 + random.nextInt(7);
+            LocalTime start = randomTime(random, 7, 22);
+            LocalTime end = start.plusSeconds(60L + random.nextInt(4 * 60 * 60));
+            if (!end.isAfter(start)) continue; // 자정을 넘는 구간은 둘 다 예외
+
+            var expected = roomRepository.findAvailableClassrooms(floorId, dow, start, end);
+            var actual = floorQueryService.getAvailableRooms(floorId, dow, start, end);
+
+            assertThat(actual)
+                    .as("floor=%d dow=%d %s~%s", floorId, dow, start, end)
+                    .containsExactlyElementsOf(expected);
+        }
+    }
+
+    @Test
+    void campusWideFreeRoomsMatchPerFloorJpql() {
+        var random = new Random(20250302L);
+        insertRandomTimetable(random);
+        snapshotHolder.reload();
+
+        for (int i = 0; i < 500; i++) {
+            int dow = 1 + random.nextInt(7);
+            LocalTime start = randomTime(random, 7, 22);
+            LocalTime end = start.plusSeconds(60L + random.nextInt(4 * 60 * 60));
+            if (!end.isAfter(start)) continue;
+
+            var expected = new ArrayList<Integer>();
+            for (int f = 0; f < FLOORS; f++) {
+                roomRepository.findAvailableClassrooms(FIRST_FLOOR_ID + f, dow, start, end).stream()
+                        .map(AvailableRoomResponse::roomId)
+                        .forEach(expected::add);
+            }
+            var actual = roomQueryService.getFreeRooms(dow, start, end, BUILDING_ID, null, null).stream()
+                    .map(FreeRoomResponse::roomId)
+                    .toList();
+
+            assertThat(actual)
+                    .as("dow=%d %s~%s", dow, start, end)
+                    .containsExactlyElementsOf(expected);
+        }
+    }
+
+    private void insertRandomTimetable(Random random) {
+        jdbcTemplate.update("insert into buildings (building_id, name, latitude, longitude, description) values (?, ?, ?, ?, ?)",
+                BUILDING_ID, "테스트관", 36.84, 127.18, "parity");
+
+        int roomId = 9001;
+        int scheduleId = 9001;
+        for (int f = 0; f < FLOORS; f++) {
+            int floorId = FIRST_FLOOR_ID + f;
+            jdbcTemplate.update("insert into floors (floor_id, building_id, level, name) values (?, ?, ?, ?)",
+                    floorId, BUILDING_ID, f + 1, (f + 1) + "층");
+
+            for (int r = 0; r < ROOMS_PER_FLOOR; r++, roomId++) {
+                String type = random.nextInt(5) == 0 ? "FACILITY" : "CLASSROOM";
+                String number = random.nextInt(6) == 0 ? null : String.valueOf((f + 1) * 100 + r);
+                jdbcTemplate.update("insert into rooms (room_id, floor_id, room_number, name, room_type, capacity, features) values (?, ?, ?, ?, ?, ?, ?)",
+                        roomId, floorId, number, "강의실" + (char) ('A' + random.nextInt(26)), type, 20 + random.nextInt(80), "빔프로젝터");
+
+                int schedules = random.nextInt(10);
+                for (int s = 0; s < schedules; s++, scheduleId++) {
+                    LocalTime start = randomTime(random, 8, 21);
+                    LocalTime end = start.plusMinutes(15 + random.nextInt(165)).plusSeconds(random.nextInt(3) == 0 ? random.nextInt(60) : 0);
+                    if (!end.isAfter(start)) end = LocalTime.of(23, 59);
+                    jdbcTemplate.update("insert into schedules (schedule_id, room_id, course_name, day_of_week, start_time, end_time) values (?, ?, ?, ?, ?, ?)",
+                            scheduleId, roomId, "과목" + s, 1 + random.nextInt(7), start, end);
+                }
+            }
+        }
+    }
+
+    /** 절반은 5분 단위, 절반은 분/초가 어긋난 시각 */
+    private static LocalTime randomTime(Random random, int fromHour, int toHour) {
+        int hour = fromHour + random.nextInt(toHour - fromHour);
+        if (random.nextBoolean()) {
+            return LocalTime.of(hour, random.nextInt(12) * 5);
+        }
+        return LocalTime.of(hour, random.nextInt(60), random.nextInt(60));
+    }
+}
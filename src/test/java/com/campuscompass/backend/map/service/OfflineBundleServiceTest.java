@@ -0,0 +1,57 @@
+package com.campuscompass.backend.map.service;
+
+import com.campuscompass.backend.map.snapshot.CampusSnapshotHolder;
+import com.campuscompass.backend.map.snapshot.CampusSnapshotReloadedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class OfflineBundleServiceTest {
+
+    @Autowired CampusSnapshotHolder snapshotHolder;
+    @Autowired ObjectMapper objectMapper;
+
+    /** 이전 프로세스가 남긴 파일은 처음 만들 때 지우고, 행이 그대로면 다시 읽어도 같은 파일·ETag를 쓴다 */
+    @Test
+    void cleansStaleFilesAndReusesFileForSameData(@TempDir Path directory) throws Exception {
+        var stale = Files.writeString(directory.resolve("campus-bundle-0123456789abcdef.json.gz"), "old");
+        var partial = Files.writeString(directory.resolve("campus-bundle-42.tmp"), "partial");
+        var other = Files.writeString(directory.resolve("notes.txt"), "keep");
+
+        var service = new OfflineBundleService(snapshotHolder, objectMapper, directory);
+        try {
+            var first = service.bundle();
+            assertThat(first.file().getFileName().toString())
+                    .isEqualTo("campus-bundle-" + snapshotHolder.current().dataHash() + ".json.gz");
+            assertThat(first.etag()).isEqualTo(snapshotHolder.etag());
+            assertThat(stale).doesNotExist();
+            assertThat(partial).doesNotExist();
+            assertThat(other).exists();
+
+            var reloaded = snapshotHolder.reload();
+            service.onSnapshotReloaded(new CampusSnapshotReloadedEvent(reloaded));
+            long deadline = System.currentTimeMillis() + 10_000;
+            while (service.bundle().version() != reloaded.version() && System.currentTimeMillis() < deadline) {
+                Thread.sleep(20);
+            }
+            var second = service.bundle();
+            assertThat(second.version()).isEqualTo(reloaded.version());
+            assertThat(second.file()).isEqualTo(first.file());
+            assertThat(second.etag()).isEqualTo(first.etag());
+            try (var files = Files.list(directory)) {
+                assertThat(files.map(f -> f.getFileName().toString()))
+                        .containsExactlyInAnyOrder(first.file().getFileName().toString(), "notes.txt");
+            }
+        } finally {
+            service.shutdown();
+        }
+    }
+}
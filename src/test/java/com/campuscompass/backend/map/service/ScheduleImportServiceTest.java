@@ -0,0 +1,163 @@
+package com.campuscompass.backend.map.service;
+
+import com.campuscompass.backend.map.dto.ScheduleImportReport.Problem;
+import com.campuscompass.backend.map.service.ScheduleImportService.Columns;
+import com.campuscompass.backend.map.service.ScheduleImportService.Entry;
+import com.campuscompass.backend.map.service.ScheduleImportService.Problems;
+import com.campuscompass.backend.map.snapshot.CampusSnapshotHolder;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.transaction.AfterTransaction;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.StringReader;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class ScheduleImportServiceTest {
+
+    @Autowired ScheduleImportService scheduleImportService;
+    @Autowired CampusSnapshotHolder snapshotHolder;
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    @AfterTransaction
+    void restoreSnapshot() {
+        snapshotHolder.reload();
+    }
+
+    @Test
+    void splitsQuotedCsvFields() {
+        assertThat(ScheduleImportService.splitCsvLine(" a ,\"b,c\",\"d\"\"e\",,"))
+                .containsExactly("a", "b,c", "d\"e", "", "");
+        assertThat(ScheduleImportService.splitCsvLine("")).containsExactly("");
+    }
+
+    @Test
+    void parsesDayOfWeek() {
+        assertThat(ScheduleImportService.dayOfWeek("1")).isEqualTo(1);
+        assertThat(ScheduleImportService.dayOfWeek("7")).isEqualTo(7);
+        assertThat(ScheduleImportService.dayOfWeek("월")).isEqualTo(1);
+        assertThat(ScheduleImportService.dayOfWeek("일요일")).isEqualTo(7);
+        for (var bad : List.of("", "0", "8", "12", "월요", "화요일요일", "Mon", "요일")) {
+            assertThat(ScheduleImportService.dayOfWeek(bad)).as(bad).isEqualTo(-1);
+        }
+    }
+
+    @Test
+    void resolvesHeaderAliases() {
+        var english = Columns.of(List.of("room_id", "day_of_week", "start_time", "end_time", "course_name"));
+        assertThat(english).isEqualTo(new Columns(0, -1, -1, 1, 2, 3, 4));
+        assertThat(english.missing()).isNull();
+
+        var korean = Columns.of(List.of("과목", "건물", "강의실", "요일", "시작", "종료"));
+        assertThat(korean).isEqualTo(new Columns(-1, 1, 2, 3, 4, 5, 0));
+        assertThat(korean.missing()).isNull();
+
+        var shortNames = Columns.of(List.of("ROOM_ID", "Day", "Start", "End"));
+        assertThat(shortNames).isEqualTo(new Columns(0, -1, -1, 1, 2, 3, -1));
+
+        assertThat(Columns.of(List.of("building", "day", "start", "end")).missing()).isNotNull();
+        assertThat(Columns.of(List.of("room_id", "day", "start")).missing()).isNotNull();
+    }
+
+    /** 정렬 후 한 번 훑기가 모든 쌍을 비교한 결과와 같은지 (겹침이 있는지, 보고한 줄이 실제로 겹치는지) */
+    @Test
+    void sweepMatchesPairwiseOnRandomEntries() {
+        var random = new Random(20250317L);
+        for (int trial = 0; trial < 3_000; trial++) {
+            var existing = new ArrayList<Entry>();
+            var imported = new ArrayList<Entry>();
+            int n = 1 + random.nextInt(8);
+            for (int i = 0; i < n; i++) {
+                var start = LocalTime.of(8 + random.nextInt(12), random.nextInt(4) * 15);
+                var end = start.plusMinutes(15 + random.nextInt(12) * 15);
+                int roomId = 1 + random.nextInt(2);
+                int day = 1 + random.nextInt(2);
+                if (random.nextInt(3) == 0) existing.add(new Entry(0, roomId, day, start, end, null));
+                else imported.add(new Entry(imported.size() + 2, roomId, day, start, end, null));
+            }
+
+            var problems = new Problems(100);
+            ScheduleImportService.findOverlaps(imported, existing, problems);
+
+            var all = new ArrayList<Entry>(existing);
+            all.addAll(imported);
+            boolean anyOverlap = false;
+            var overlapping = new ArrayList<Long>();
+            for (int i = 0; i < all.size(); i++) {
+                for (int j = i + 1; j < all.size(); j++) {
+                    var a = all.get(i);
+                    var b = all.get(j);
+                    if (a.line() == 0 && b.line() == 0) continue;
+                    if (a.roomId() == b.roomId() && a.dayOfWeek() == b.dayOfWeek()
+                            && a.start().isBefore(b.end()) && b.start().isBefore(a.end())) {
+                        anyOverlap = true;
+                        overlapping.add(a.line());
+                        overlapping.add(b.line());
+                    }
+                }
+            }
+            assertThat(problems.count > 0).as("trial %d: %s / %s", trial, existing, imported).isEqualTo(anyOverlap);
+            assertThat(problems.list).extracting(Problem::line).allMatch(overlapping::contains);
+        }
+    }
+
+    @Test
+    void importsByBuildingAndRoomName() {
+        var csv = "﻿건물,강의실,요일,시작,종료,과목\n"
+                + "진리관,201,월,09:00,10:30,자료구조\n"
+                + "\n"
+                + "\"진리관\",대형강의실,화요일,13:00,15:00,\"운영체제, 실습\"\n";
+
+        var report = scheduleImportService.importCsv(new StringReader(csv), false);
+
+        assertThat(report.applied()).as("%s", report.problems()).isTrue();
+        assertThat(report.imported()).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForList(
+                "select course_name from schedules where room_id = 2 and day_of_week = 2", String.class))
+                .containsExactly("운영체제, 실습");
+    }
+
+    @Test
+    void reportsRowProblemsWithLineNumbers() {
+        var csv = "room_id,day_of_week,start_time,end_time\n"
+                + "999999,1,09:00,10:00\n"
+                + "1,8,09:00,10:00\n"
+                + "1,1,9시,10:00\n"
+                + "1,1,10:00,09:00\n"
+                + "1,1,09:00,10:00\n";
+
+        var report = scheduleImportService.importCsv(new StringReader(csv), false);
+
+        assertThat(report.applied()).isFalse();
+        assertThat(report.rows()).isEqualTo(5);
+        assertThat(report.problems()).extracting(Problem::line).containsExactly(2L, 3L, 4L, 5L);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from schedules", Integer.class)).isZero();
+    }
+
+    /** 스냅샷을 다시 읽기 전에 들어간 시간표와도 겹침을 찾는다 (검사는 DB를 다시 읽어 한다) */
+    @Test
+    void rejectsOverlapWithScheduleNotYetInSnapshot() {
+        jdbcTemplate.update("insert into schedules (schedule_id, room_id, course_name, day_of_week, start_time, end_time) values (?, ?, ?, ?, ?, ?)",
+                9001, 1, "기존", 3, LocalTime.of(9, 0), LocalTime.of(11, 0));
+        var csv = "room_id,day_of_week,start_time,end_time\n"
+                + "1,3,10:00,12:00\n"
+                + "2,3,10:00,12:00\n";
+
+        var report = scheduleImportService.importCsv(new StringReader(csv), false);
+        assertThat(report.applied()).isFalse();
+        assertThat(report.problems()).extracting(Problem::line).containsExactly(2L);
+
+        var replaced = scheduleImportService.importCsv(new StringReader(csv), true);
+        assertThat(replaced.applied()).isTrue();
+        assertThat(replaced.deleted()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,113 @@
+package com.campuscompass.backend.map.service;
+
+import com.campuscompass.backend.CampusCompassApplication;
+import com.campuscompass.backend.map.domain.Room;
+import com.campuscompass.backend.map.domain.Schedule;
+import com.campuscompass.benchmark.IdentitySchedule;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.StringReader;
+import java.time.LocalTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 시간표 INSERT 처리량 (H2): IDENTITY id(행마다 INSERT 한 번) vs pooled 시퀀스 id(JDBC 배치)
+ * gradle benchmark 로 실행한다. (기본 test에서는 제외, 결과는 로그와 TestReporter로 남긴다)
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:benchmark;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=warn"
+})
+class ScheduleInsertBenchmark {
+
+    private static final int ROWS = 20_000;
+    private static final int WARMUP_ROWS = 2_000;
+    private static final int FLUSH_EVERY = 1_000;
+    private static final int[] ROOM_IDS = {1, 2, 3, 4};
+
+    private static final Logger log = LoggerFactory.getLogger(ScheduleInsertBenchmark.class);
+
+    /** 비교용 IDENTITY 엔티티는 이 컨텍스트에만 등록한다. (다른 테스트 컨텍스트에는 표가 생기지 않는다) */
+    @TestConfiguration
+    @EntityScan(basePackageClasses = {CampusCompassApplication.class, IdentitySchedule.class})
+    static class IdentityScheduleConfig { }
+
+    @Autowired EntityManager entityManager;
+    @Autowired PlatformTransactionManager transactionManager;
+    @Autowired ScheduleImportService scheduleImportService;
+
+    @Test
+    void insertThroughput(TestReporter reporter) {
+        persist(WARMUP_ROWS, IdentitySchedule::new);
+        persist(WARMUP_ROWS, Schedule::new);
+
+        double identity = persist(ROWS, IdentitySchedule::new);
+        double pooled = persist(ROWS, Schedule::new);
+        double imported = importCsv(ROWS);
+
+        var result = String.format("%d rows: IDENTITY %.0f rows/s, pooled sequence + batch %.0f rows/s (x%.1f), CSV import %.0f rows/s",
+                ROWS, identity, pooled, pooled / identity, imported);
+        log.info("[benchmark] {}", result);
+        reporter.publishEntry("schedule-insert", result);
+        assertThat(identity).isPositive();
+        assertThat(pooled).isPositive();
+    }
+
+    /** 한 트랜잭션에서 rows개 persist (FLUSH_EVERY개마다 flush/clear) → rows/s */
+    private double persist(int rows, Factory factory) {
+        var tx = new TransactionTemplate(transactionManager);
+        long start = System.nanoTime();
+        tx.executeWithoutResult(status -> {
+            for (int i = 0; i < rows; i++) {
+                var room = entityManager.getReference(Room.class, ROOM_IDS[i % ROOM_IDS.length]);
+                entityManager.persist(factory.create(room, i % 7 + 1, slot(i), slot(i).plusMinutes(1), "과목 " + i));
+                if ((i + 1) % FLUSH_EVERY == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                }
+            }
+        });
+        return rows / ((System.nanoTime() - start) / 1e9);
+    }
+
+    /** 겹치지 않는 시간표 rows개 CSV를 가져오기 (파싱/검증/스냅샷 재생성 포함) → rows/s */
+    private double importCsv(int rows) {
+        var csv = new StringBuilder("room_id,day_of_week,start_time,end_time,course_name\n");
+        for (int i = 0; i < rows; i++) {
+            int room = ROOM_IDS[i % ROOM_IDS.length];
+            int day = (i / ROOM_IDS.length) % 7 + 1;
+            var start = LocalTime.ofSecondOfDay(60L * (i / (ROOM_IDS.length * 7)));
+            csv.append(room).append(',').append(day).append(',').append(start).append(',')
+                    .append(start.plusMinutes(1)).append(",과목 ").append(i).append('\n');
+        }
+        long begin = System.nanoTime();
+        var report = scheduleImportService.importCsv(new StringReader(csv.toString()), true);
+        double perSecond = rows / ((System.nanoTime() - begin) / 1e9);
+        assertThat(report.applied()).as("%s", report.problems()).isTrue();
+        assertThat(report.imported()).isEqualTo(rows);
+        return perSecond;
+    }
+
+    private static LocalTime slot(int i) {
+        return LocalTime.ofSecondOfDay(60L * (i % 1_000));
+    }
+
+    @FunctionalInterface
+    private interface Factory {
+        Object create(Room room, Integer dayOfWeek, LocalTime start, LocalTime end, String courseName);
+    }
+}
@@ -0,0 +1,48 @@
+package com.campuscompass.backend.map.service;
+
+import com.campuscompass.backend.map.dto.SearchResultResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SearchBranchRunnerTest {
+
+    @Test
+    void concurrentBranchOpensTransactionOnlyWhenItQueriesDatabase() {
+        var opened = new AtomicInteger();
+        var transactionManager = new PlatformTransactionManager() {
+            @Override
+            public TransactionStatus getTransaction(TransactionDefinition definition) {
+                assertThat(definition.isReadOnly()).isTrue();
+                opened.incrementAndGet();
+                return new SimpleTransactionStatus();
+            }
+
+            @Override public void commit(TransactionStatus status) { }
+            @Override public void rollback(TransactionStatus status) { }
+        };
+        var runner = new SearchBranchRunner(new SimpleMeterRegistry(), transactionManager,
+                SearchBranchRunner.Execution.CONCURRENT, 2, 4, 5_000);
+        List<SearchResultResponse> none = List.of();
+        try {
+            var outcome = runner.run(List.of(
+                    new SearchBranchRunner.Branch("index", false, () -> none),
+                    new SearchBranchRunner.Branch("jpql", true, () -> none),
+                    new SearchBranchRunner.Branch("index2", false, () -> none)));
+
+            assertThat(outcome.partial()).isFalse();
+            assertThat(outcome.results()).hasSize(3);
+            assertThat(opened).hasValue(1);
+        } finally {
+            runner.shutdown();
+        }
+    }
+}
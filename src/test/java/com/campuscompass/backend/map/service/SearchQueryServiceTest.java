@@ -0,0 +1,79 @@
+package com.campuscompass.backend.map.service;
+
+import com.campuscompass.backend.map.dto.SearchPage;
+import com.campuscompass.backend.map.dto.SearchResultResponse;
+import com.campuscompass.backend.map.snapshot.CampusSnapshotHolder;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.transaction.AfterTransaction;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@Transactional
+class SearchQueryServiceTest {
+
+    @Autowired SearchQueryService searchQueryService;
+    @Autowired CampusSnapshotHolder snapshotHolder;
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    @AfterTransaction
+    void restoreSnapshot() {
+        snapshotHolder.reload();
+    }
+
+    /** 일반 검색 결과가 campus.search.fuzzy.min-hits(기본 1)보다 적을 때만 오타 허용 결과를 덧붙인다 */
+    @Test
+    void addsFuzzyMatchesOnlyWhenTooFewHits() {
+        insertBuildings("공학관", "공학간");
+
+        assertThat(names(searchQueryService.search("공학곤", 10, null))).containsExactly("공학간", "공학관");
+        assertThat(names(searchQueryService.search("공학관", 10, null))).containsExactly("공학관");   // 한 개면 충분
+        assertThat(names(searchQueryService.search("공학곤", 1, null))).containsExactly("공학간");     // limit까지만
+        assertThat(names(searchQueryService.search("공학", 10, null))).containsExactly("공학간", "공학관");
+    }
+
+    /** 오타 허용 결과는 첫 페이지에만 붙고, 그 뒤 페이지에는 없다 */
+    @Test
+    void addsFuzzyMatchesOnlyOnFirstPage() {
+        insertBuildings("공학관", "공학간");
+
+        var first = searchQueryService.search("공학곤", 1, null);
+        assertThat(names(first)).containsExactly("공학간");
+        assertThat(first.nextCursor()).isNull();
+        assertThat(names(searchQueryService.search("공학곤", 1, cursor("1")))).isEmpty();
+    }
+
+    /** 기본 campus.search.max-offset(1000)을 넘는 cursor는 검색 전에 거절한다 (offset + limit + 1이 넘치지 않도록) */
+    @Test
+    void rejectsCursorsPastMaxOffset() {
+        assertThat(searchQueryService.search("관", 10, cursor("1000")).results()).isEmpty();
+        for (var offset : new String[]{"1001", String.valueOf(Integer.MAX_VALUE), "-1", "x"}) {
+            assertThatThrownBy(() -> searchQueryService.search("관", 10, cursor(offset)))
+                    .as(offset).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    private void insertBuildings(String... names) {
+        for (int i = 0; i < names.length; i++) {
+            jdbcTemplate.update("insert into buildings (building_id, name) values (?, ?)", 9001 + i, names[i]);
+        }
+        snapshotHolder.reload();
+    }
+
+    private static List<String> names(SearchPage page) {
+        return page.results().stream().map(SearchResultResponse::displayName).toList();
+    }
+
+    private static String cursor(String offset) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(offset.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,138 @@
+package com.campuscompass.backend.map.service;
+
+import com.campuscompass.backend.map.dto.SearchPage;
+import com.campuscompass.backend.map.service.SearchResultCache.Key;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** 시계와 스냅샷 버전을 직접 움직이며 캐시 동작과 메트릭을 본다. */
+class SearchResultCacheTest {
+
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    private final AtomicLong version = new AtomicLong(1);
+    private final AtomicLong now = new AtomicLong(1_000);
+    private final AtomicInteger loads = new AtomicInteger();
+    private SimpleMeterRegistry registry;
+    private SearchResultCache cache;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        cache = new SearchResultCache(version::get, now::get, registry, true, 3, TTL);
+    }
+
+    @Test
+    void hitsUntilTtlExpires() {
+        assertThat(get("a")).isNotSameAs(get("b"));
+        assertThat(loads).hasValue(2);
+        var page = get("a");
+        assertThat(get("a")).isSameAs(page);
+        assertThat(loads).hasValue(2);
+
+        now.addAndGet(TTL.toNanos() - 1);
+        assertThat(get("a")).isSameAs(page);
+        now.addAndGet(1);
+        assertThat(get("a")).isNotSameAs(page);
+        assertThat(loads).hasValue(3);
+
+        assertThat(count("requests", "result", "hit")).isEqualTo(3);
+        assertThat(count("requests", "result", "miss")).isEqualTo(3);
+        assertThat(count("evictions", "cause", "expired")).isEqualTo(1);
+        assertThat(registry.get("campus.search.cache.size").gauge().value()).isEqualTo(2);
+    }
+
+    /** 넘치면 가장 오래 안 쓴 것부터 버린다 (조회도 사용으로 친다) */
+    @Test
+    void evictsLeastRecentlyUsed() {
+        get("a");
+        get("b");
+        get("c");
+        get("a");          // a를 다시 쓴다 → b가 가장 오래됨
+        get("d");
+        assertThat(cache.size()).isEqualTo(3);
+        assertThat(count("evictions", "cause", "size")).isEqualTo(1);
+
+        int before = loads.get();
+        get("a");
+        get("c");
+        get("d");
+        assertThat(loads).hasValue(before);
+        get("b");
+        assertThat(loads).hasValue(before + 1);
+    }
+
+    @Test
+    void clearsWhenSnapshotVersionChanges() {
+        var page = get("a");
+        get("b");
+        version.incrementAndGet();
+
+        assertThat(get("a")).isNotSameAs(page);
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(count("evictions", "cause", "invalidated")).isEqualTo(2);
+    }
+
+    /** 계산하는 사이 스냅샷이 바뀌면 예전 데이터로 만든 결과라서 담지 않는다 */
+    @Test
+    void doesNotStorePageBuiltAcrossReload() {
+        cache.get(key("a"), () -> {
+            version.incrementAndGet();
+            return new SearchPage(List.of(), null, false);
+        });
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void bypassesPartialPages() {
+        var partial = new SearchPage(List.of(), null, true);
+        assertThat(cache.get(key("a"), () -> partial)).isSameAs(partial);
+        assertThat(cache.size()).isZero();
+        assertThat(get("a")).isNotSameAs(partial);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void keysDifferByLimitAndOffset() {
+        cache.get(new Key("a", 10, 0), this::load);
+        cache.get(new Key("a", 20, 0), this::load);
+        cache.get(new Key("a", 10, 10), this::load);
+        assertThat(loads).hasValue(3);
+        assertThat(SearchResultCache.normalize("  진리관 ")).isEqualTo(SearchResultCache.normalize("진리관"));
+        assertThat(SearchResultCache.normalize("IT관")).isEqualTo("it관");
+    }
+
+    @Test
+    void disabledCacheAlwaysLoads() {
+        var disabled = new SearchResultCache(version::get, now::get, new SimpleMeterRegistry(), false, 3, TTL);
+        disabled.get(key("a"), this::load);
+        disabled.get(key("a"), this::load);
+        assertThat(loads).hasValue(2);
+        assertThat(disabled.size()).isZero();
+    }
+
+    private SearchPage get(String query) {
+        return cache.get(key(query), this::load);
+    }
+
+    private SearchPage load() {
+        loads.incrementAndGet();
+        return new SearchPage(List.of(), null, false);
+    }
+
+    private static Key key(String query) {
+        return new Key(query, 10, 0);
+    }
+
+    private double count(String name, String tag, String value) {
+        return registry.get("campus.search.cache." + name).tag(tag, value).counter().count();
+    }
+}
@@ -0,0 +1,83 @@
+package com.campuscompass.backend.map.snapshot;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** BK-tree 검색을 모든 항목과 거리를 재 본 결과와 비교한다. */
+class BkTreeTest {
+
+    private static final String LETTERS = "abc관리진";
+
+    @Test
+    void searchMatchesBruteForceOnRandomStrings() {
+        var random = new Random(20250310L);
+        for (int trial = 0; trial < 30; trial++) {
+            var tree = new BkTree<Integer>();
+            var valuesByTerm = new HashMap<String, Set<Integer>>();
+            int n = 1 + random.nextInt(200);
+            for (int i = 0; i < n; i++) {
+                var term = randomWord(random);
+                tree.add(term, i);
+                valuesByTerm.computeIfAbsent(term, k -> new HashSet<>()).add(i);
+            }
+            assertThat(tree.size()).isEqualTo(valuesByTerm.size());
+
+            for (int q = 0; q < 50; q++) {
+                var query = randomWord(random);
+                for (int k = 0; k <= 2; k++) {
+                    var expected = new HashMap<String, Integer>();
+                    for (var term : valuesByTerm.keySet()) {
+                        int d = levenshtein(query, term);
+                        if (d <= k) expected.put(term, d);
+                    }
+                    var actual = new HashMap<String, Integer>();
+                    for (var match : tree.search(query, k)) {
+                        assertThat(actual.put(match.term(), match.distance())).as("중복 %s", match.term()).isNull();
+                        assertThat(match.values()).containsExactlyInAnyOrderElementsOf(valuesByTerm.get(match.term()));
+                    }
+                    assertThat(actual).as("trial=%d q='%s' k=%d", trial, query, k).isEqualTo(expected);
+                }
+            }
+        }
+    }
+
+    @Test
+    void distanceMatchesReference() {
+        var random = new Random(20250311L);
+        for (int i = 0; i < 5_000; i++) {
+            var a = randomWord(random);
+            var b = randomWord(random);
+            assertThat(BkTree.distance(a, b)).as("'%s' '%s'", a, b).isEqualTo(levenshtein(a, b));
+        }
+        assertThat(new BkTree<Integer>().search("a", 2)).isEmpty();
+    }
+
+    /** 0~6글자, 같은 글자가 자주 겹치도록 작은 알파벳 */
+    private static String randomWord(Random random) {
+        var sb = new StringBuilder();
+        int length = random.nextInt(7);
+        for (int i = 0; i < length; i++) sb.append(LETTERS.charAt(random.nextInt(LETTERS.length())));
+        return sb.toString();
+    }
+
+    /** 전체 표를 채우는 교과서 방식 */
+    private static int levenshtein(String a, String b) {
+        var d = new int[a.length() + 1][b.length() + 1];
+        for (int i = 0; i <= a.length(); i++) d[i][0] = i;
+        for (int j = 0; j <= b.length(); j++) d[0][j] = j;
+        for (int i = 1; i <= a.length(); i++) {
+            for (int j = 1; j <= b.length(); j++) {
+                int substitute = d[i - 1][j - 1] + (a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1);
+                d[i][j] = Math.min(substitute, Math.min(d[i - 1][j], d[i][j - 1]) + 1);
+            }
+        }
+        return d[a.length()][b.length()];
+    }
+}
@@ -0,0 +1,122 @@
+package com.campuscompass.backend.map.snapshot;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalTime;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** findByCapacity를 모든 강의실을 훑어 거르고 정렬한 결과와 비교한다. */
+class FreeRoomTableTest {
+
+    private static final int BUILDINGS = 4;
+    private static final List<String> FEATURES = List.of("빔프로젝터", "화이트보드", "마이크", "스크린", "pc");
+
+    @Test
+    void findByCapacityMatchesFullScanOnRandomCampus() {
+        var random = new Random(20250402L);
+        for (int trial = 0; trial < 20; trial++) {
+            var byBuilding = new LinkedHashMap<Integer, List<RoomRow>>();
+            var ordered = new ArrayList<RoomRow>();
+            var buildingOf = new HashMap<Integer, Integer>();
+            int roomId = 1;
+            for (int b = 1; b <= BUILDINGS; b++) {
+                var rooms = new ArrayList<RoomRow>();
+                int count = (b == 2) ? 0 : 5 + random.nextInt(60);          // 강의실 없는 건물 포함
+                for (int r = 0; r < count; r++, roomId++) {
+                    Integer capacity = random.nextInt(5) == 0 ? null : 10 + random.nextInt(10) * 10;
+                    rooms.add(new RoomRow(roomId, b, String.valueOf(100 + r), "강의실" + r, "CLASSROOM",
+                            capacity, randomFeatures(random), null));
+                    buildingOf.put(roomId, b);
+                }
+                byBuilding.put(b, rooms);
+                ordered.addAll(rooms);
+            }
+            var schedules = randomSchedules(random, roomId);
+            var occupancy = OccupancyIndex.build(schedules);
+            var table = FreeRoomTable.build(byBuilding, BUILDINGS + 1, occupancy);
+
+            for (int q = 0; q < 400; q++) {
+                Integer buildingId = random.nextInt(3) == 0 ? 1 + random.nextInt(BUILDINGS) : null;
+                Integer min = random.nextBoolean() ? 10 + random.nextInt(100) : null;
+                Integer max = random.nextBoolean() ? 10 + random.nextInt(100) : null;
+                if (min != null && max != null && max < min) max = null;
+                var required = randomRequired(random);
+                int limit = random.nextInt(4) == 0 ? 1 + random.nextInt(10) : Integer.MAX_VALUE;
+
+                int day = 0;
+                LocalTime start = null, end = null;
+                if (random.nextBoolean()) {
+                    day = 1 + random.nextInt(OccupancyIndex.DAYS);
+                    start = LocalTime.of(7 + random.nextInt(14), random.nextInt(60), random.nextInt(4) == 0 ? random.nextInt(60) : 0);
+                    end = start.plusMinutes(1 + random.nextInt(180));
+                    if (!end.isAfter(start)) continue;
+                }
+                var window = (start != null) ? OccupancyIndex.window(start, end) : null;
+
+                var expected = expected(ordered, buildingOf, schedules, day, start, end, buildingId, min, max, required, limit);
+                var actual = table.findByCapacity(day, window, buildingId, min, max, required, limit);
+                assertThat(actual)
+                        .as("trial=%d building=%s cap=%s~%s features=%s day=%d %s~%s limit=%d",
+                                trial, buildingId, min, max, required, day, start, end, limit)
+                        .containsExactlyElementsOf(expected);
+            }
+        }
+    }
+
+    /** 수용 인원 작은 순(없는 방은 조건이 없을 때만 맨 뒤), 같으면 건물·방 순 */
+    private static List<RoomRow> expected(List<RoomRow> ordered, Map<Integer, Integer> buildingOf, List<ScheduleRow> schedules,
+                                          int day, LocalTime start, LocalTime end, Integer buildingId,
+                                          Integer min, Integer max, List<String> required, int limit) {
+        var result = new ArrayList<RoomRow>();
+        for (var room : ordered) {
+            if (buildingId != null && !buildingId.equals(buildingOf.get(room.id()))) continue;
+            if (room.capacity() == null) {
+                if (min != null || max != null) continue;
+            } else if ((min != null && room.capacity() < min) || (max != null && room.capacity() > max)) {
+                continue;
+            }
+            var features = Arrays.asList(room.features().split(","));
+            if (!features.containsAll(required)) continue;
+            if (start != null && schedules.stream().anyMatch(s -> s.roomId().equals(room.id()) && s.dayOfWeek() == day
+                    && s.startTime().isBefore(end) && s.endTime().isAfter(start))) continue;
+            result.add(room);
+        }
+        // 안정 정렬이라 같은 수용 인원은 건물·방(ordinal) 순서가 유지된다
+        result.sort(Comparator.comparing(RoomRow::capacity, Comparator.nullsLast(Comparator.naturalOrder())));
+        return result.subList(0, Math.min(limit, result.size()));
+    }
+
+    private static String randomFeatures(Random random) {
+        var tokens = new ArrayList<String>();
+        for (var f : FEATURES) {
+            if (random.nextInt(3) == 0) tokens.add(f);
+        }
+        return String.join(",", tokens);
+    }
+
+    /** 없는 특징("냉장고")을 요구하면 아무 방도 없다 */
+    private static List<String> randomRequired(Random random) {
+        var required = new ArrayList<String>();
+        for (var f : FEATURES) {
+            if (random.nextInt(6) == 0) required.add(f);
+        }
+        if (random.nextInt(20) == 0) required.add("냉장고");
+        return required;
+    }
+
+    private static List<ScheduleRow> randomSchedules(Random random, int roomIdBound) {
+        var rows = new ArrayList<ScheduleRow>();
+        for (int roomId = 1; roomId < roomIdBound; roomId++) {
+            int count = random.nextInt(12);
+            for (int c = 0; c < count; c++) {
+                var start = LocalTime.of(8 + random.nextInt(13), random.nextInt(12) * 5, random.nextInt(5) == 0 ? random.nextInt(60) : 0);
+                var end = start.plusMinutes(20 + random.nextInt(160));
+                if (!end.isAfter(start)) end = LocalTime.MAX;
+                rows.add(new ScheduleRow(rows.size() + 1, roomId, 1 + random.nextInt(OccupancyIndex.DAYS), start, end, null));
+            }
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,117 @@
+package com.campuscompass.backend.map.snapshot;
+
+import com.campuscompass.backend.map.dto.SearchResultResponse;
+import org.junit.jupiter.api.Test;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HangulJamoTest {
+
+    @Test
+    void choseongOfNames() {
+        assertThat(HangulJamo.toChoseong("진리관")).isEqualTo("ㅈㄹㄱ");
+        assertThat(HangulJamo.toChoseong("학생 카페")).isEqualTo("ㅎㅅㅋㅍ");
+        assertThat(HangulJamo.toChoseong("IT관 A동")).isEqualTo("ITㄱAㄷ");
+
+        assertThat(HangulJamo.isChoseongQuery("ㅈㄹㄱ")).isTrue();
+        assertThat(HangulJamo.isChoseongQuery("ㅈ ㄹ")).isTrue();
+        assertThat(HangulJamo.isChoseongQuery("ㄲㅆ")).isTrue();
+        for (var notChoseong : List.of("", " ", "진ㄹ", "ㅈㅏ", "ㄳ", "ㅈa", "abc")) {
+            assertThat(HangulJamo.isChoseongQuery(notChoseong)).as(notChoseong).isFalse();
+        }
+    }
+
+    /** 홑모음·홑받침 음절은 유니코드 정준 분해(NFD)와 같다 (모든 음절) */
+    @Test
+    void simpleSyllablesMatchCanonicalDecomposition() {
+        for (char c = '가'; c <= '힣'; c++) {
+            var s = String.valueOf(c);
+            var nfd = Normalizer.normalize(s, Normalizer.Form.NFD);
+            var jamo = HangulJamo.toJamo(s);
+            assertThat(jamo.charAt(0)).as(s).isEqualTo(nfd.charAt(0));
+            assertThat(Normalizer.normalize(HangulJamo.toChoseong(s), Normalizer.Form.NFKD)).as(s)
+                    .isEqualTo(String.valueOf(nfd.charAt(0)));
+            if (jamo.length() == nfd.length()) assertThat(jamo).as(s).isEqualTo(nfd);
+        }
+    }
+
+    @Test
+    void splitsCompoundVowelsAndFinals() {
+        // 겹모음: "고", "과"는 "관"의 앞부분
+        assertThat(HangulJamo.toJamo("관")).startsWith(HangulJamo.toJamo("고")).startsWith(HangulJamo.toJamo("과"));
+        assertThat(HangulJamo.toJamo("의")).startsWith(HangulJamo.toJamo("으"));
+        // 겹받침: "닭" = 달 + 받침 ㄱ, 호환 자모 ㄺ도 같은 받침
+        assertThat(HangulJamo.toJamo("닭")).startsWith(HangulJamo.toJamo("달")).hasSize(4);
+        assertThat(HangulJamo.toJamo("닭")).endsWith(HangulJamo.toJamo("ㄺ"));
+        assertThat(HangulJamo.toJamo("넋")).endsWith(HangulJamo.toJamo("ㄳ"));
+        // 받침 ㄴ과 초성 ㄴ은 다르다
+        assertThat(HangulJamo.toJamo("간")).isNotEqualTo(HangulJamo.toJamo("가ㄴ"));
+    }
+
+    /** 입력 중인 마지막 받침은 다음 음절의 초성일 수 있다 */
+    @Test
+    void movesTrailingFinalToNextChoseong() {
+        assertThat(HangulJamo.toJamoWithTrailingChoseong("짛")).isEqualTo(HangulJamo.toJamo("지ㅎ"));
+        assertThat(HangulJamo.toJamoWithTrailingChoseong("진리괍")).isEqualTo(HangulJamo.toJamo("진리과ㅂ"));
+        assertThat(HangulJamo.toJamoWithTrailingChoseong("닭")).isEqualTo(HangulJamo.toJamo("달ㄱ"));
+        assertThat(HangulJamo.toJamoWithTrailingChoseong("값")).isEqualTo(HangulJamo.toJamo("갑ㅅ"));
+        assertThat(HangulJamo.toJamoWithTrailingChoseong("지")).isNull();
+        assertThat(HangulJamo.toJamoWithTrailingChoseong("ㄱ")).isNull();
+        assertThat(HangulJamo.toJamoWithTrailingChoseong("a")).isNull();
+        assertThat(HangulJamo.toJamoWithTrailingChoseong("")).isNull();
+    }
+
+    @Test
+    void keepsLatinAndDigits() {
+        assertThat(HangulJamo.toJamo("IT관 2층")).startsWith("IT").contains(" 2");
+        assertThat(HangulJamo.containsHangul("IT관")).isTrue();
+        assertThat(HangulJamo.containsHangul("ㄱ")).isTrue();
+        assertThat(HangulJamo.containsHangul("Lab 101")).isFalse();
+    }
+
+    @Test
+    void hangulModeFindsChoseongAndPartialSyllables() {
+        var index = index("진리관", "지혜관", "본부동", "IT관", "닭갈비관", "달걀관", "Lab");
+
+        assertThat(buildings(index, "ㅈㄹㄱ", SearchIndex.Mode.HANGUL)).containsExactly("진리관");
+        assertThat(buildings(index, "ㅈ ㅎ", SearchIndex.Mode.HANGUL)).containsExactly("지혜관");
+        assertThat(buildings(index, "ㅈㄹㄱ", SearchIndex.Mode.PLAIN)).isEmpty();
+
+        assertThat(buildings(index, "지", SearchIndex.Mode.HANGUL)).containsExactly("지혜관", "진리관");
+        assertThat(buildings(index, "지", SearchIndex.Mode.PLAIN)).containsExactly("지혜관");
+        assertThat(buildings(index, "진ㄹ", SearchIndex.Mode.HANGUL)).containsExactly("진리관");
+        assertThat(buildings(index, "짛", SearchIndex.Mode.HANGUL)).containsExactly("지혜관");
+        assertThat(buildings(index, "리고", SearchIndex.Mode.HANGUL)).containsExactly("진리관");
+
+        // 겹받침: 완성된 "닭"과 "달ㄱ…"으로 치는 중일 수 있는 "닭"
+        assertThat(buildings(index, "닭", SearchIndex.Mode.HANGUL)).containsExactly("달걀관", "닭갈비관");
+        assertThat(buildings(index, "닭", SearchIndex.Mode.PLAIN)).containsExactly("닭갈비관");
+
+        // 영문과 한글이 섞인 이름
+        assertThat(buildings(index, "itㄱ", SearchIndex.Mode.HANGUL)).containsExactly("IT관");
+        assertThat(buildings(index, "IT고", SearchIndex.Mode.HANGUL)).containsExactly("IT관");
+        assertThat(buildings(index, "lab", SearchIndex.Mode.HANGUL)).containsExactly("Lab");
+    }
+
+    /** 스냅샷처럼 이름(소문자) 순으로 넣는다 */
+    private static SearchIndex index(String... buildingNames) {
+        buildingNames = Arrays.stream(buildingNames).sorted(Comparator.comparing(n -> n.toLowerCase(Locale.ROOT))).toArray(String[]::new);
+        var rows = new ArrayList<BuildingRow>();
+        var byId = new BuildingRow[buildingNames.length + 1];
+        for (int i = 0; i < buildingNames.length; i++) {
+            rows.add(byId[i + 1] = new BuildingRow(i + 1, buildingNames[i], null, null, null));
+        }
+        return SearchIndex.build(rows, List.of(), new FloorRow[0], byId);
+    }
+
+    private static List<String> buildings(SearchIndex index, String q, SearchIndex.Mode mode) {
+        return index.searchBuildings(q, mode, 100).stream().map(SearchResultResponse::displayName).toList();
+    }
+}
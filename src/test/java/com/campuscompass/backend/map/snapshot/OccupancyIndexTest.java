@@ -0,0 +1,147 @@
+package com.campuscompass.backend.map.snapshot;
+
+import com.campuscompass.backend.map.snapshot.OccupancyIndex.ClassBlock;
+import com.campuscompass.backend.map.snapshot.OccupancyIndex.FreeSlot;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** 분 단위 시간표로 인덱스의 빈 시간 조회를 1분씩 훑은 결과와 비교한다. */
+class OccupancyIndexTest {
+
+    private static final int ROOMS = 6;
+    private static final int MINUTES = 24 * 60;
+    private static final long MINUTE = 60_000_000_000L;
+
+    @Test
+    void freeTimeQueriesMatchMinuteScanOnRandomTimetables() {
+        var random = new Random(20250401L);
+        for (int trial = 0; trial < 40; trial++) {
+            var busy = new boolean[ROOMS][OccupancyIndex.DAYS + 1][MINUTES];
+            var index = OccupancyIndex.build(randomTimetable(random, busy));
+
+            for (int roomId = 0; roomId < ROOMS; roomId++) {
+                for (int day = 1; day <= OccupancyIndex.DAYS; day++) {
+                    var minutes = busy[roomId][day];
+                    for (int len : new int[]{0, 1, 5, 30, 90, 240, MINUTES}) {
+                        assertThat(index.freeSlots(roomId, day, Duration.ofMinutes(len)))
+                                .as("trial=%d room=%d day=%d len=%d", trial, roomId, day, len)
+                                .containsExactlyElementsOf(freeRuns(minutes, 0, len));
+                    }
+                    for (int q = 0; q < 60; q++) {
+                        int t = random.nextInt(MINUTES);
+                        int len = random.nextInt(4) == 0 ? 0 : 1 + random.nextInt(180);
+                        var at = LocalTime.of(t / 60, t % 60);
+                        var where = String.format("trial=%d room=%d day=%d at=%s len=%d", trial, roomId, day, at, len);
+
+                        assertThat(index.freeAt(roomId, day, at)).as(where).isEqualTo(freeAt(minutes, t));
+                        assertThat(index.nextFree(roomId, day, at, Duration.ofMinutes(len))).as(where)
+                                .isEqualTo(freeRuns(minutes, t, len).stream().findFirst());
+                        assertThat(index.classAtOrAfter(roomId, day, at)).as(where).isEqualTo(classAtOrAfter(minutes, t));
+
+                        int end = t + 1 + random.nextInt(Math.min(240, MINUTES - t));
+                        if (end < MINUTES) {
+                            assertThat(index.isFree(roomId, day, at, LocalTime.of(end / 60, end % 60))).as(where)
+                                    .isEqualTo(allFree(minutes, t, end));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void roomsAndDaysOutsideIndexAreFreeAllDay() {
+        var index = OccupancyIndex.build(List.of(new ScheduleRow(1, 2, 3, LocalTime.of(9, 0), LocalTime.of(10, 0), null)));
+        var allDay = new FreeSlot(0, OccupancyIndex.DAY_NANOS);
+
+        for (var key : new int[][]{{-1, 3}, {99, 3}, {2, 0}, {2, 8}, {1, 3}}) {
+            assertThat(index.freeSlots(key[0], key[1], Duration.ZERO)).containsExactly(allDay);
+            assertThat(index.freeAt(key[0], key[1], LocalTime.MIDNIGHT)).contains(allDay);
+            assertThat(index.nextFree(key[0], key[1], LocalTime.of(12, 0), Duration.ofHours(1)))
+                    .contains(new FreeSlot(12 * 60 * MINUTE, OccupancyIndex.DAY_NANOS));
+            assertThat(index.classAtOrAfter(key[0], key[1], LocalTime.MIDNIGHT)).isEmpty();
+        }
+        assertThat(OccupancyIndex.empty().freeSlots(0, 1, Duration.ofDays(2))).isEmpty();
+    }
+
+    /**
+     * 방·요일마다 0~30개의 수업 (겹치거나 맞닿는 것, 자정 직전 LocalTime.MAX로 끝나는 것 포함).
+     * 건너뛰어야 하는 행(요일/방 없음, 끝이 시작보다 이르거나 같음)도 섞는다.
+     */
+    private static List<ScheduleRow> randomTimetable(Random random, boolean[][][] busy) {
+        var rows = new ArrayList<ScheduleRow>();
+        int id = 1;
+        for (int roomId = 0; roomId < ROOMS; roomId++) {
+            for (int day = 1; day <= OccupancyIndex.DAYS; day++) {
+                int count = random.nextInt(4) == 0 ? 0 : random.nextInt(31);
+                for (int c = 0; c < count; c++) {
+                    int start = random.nextInt(MINUTES - 1);
+                    int end = Math.min(MINUTES, start + 5 + random.nextInt(90));
+                    var endTime = (end == MINUTES) ? LocalTime.MAX : LocalTime.of(end / 60, end % 60);
+                    rows.add(new ScheduleRow(id++, roomId, day, LocalTime.of(start / 60, start % 60), endTime, null));
+                    for (int m = start; m < end; m++) busy[roomId][day][m] = true;
+                }
+            }
+        }
+        rows.add(new ScheduleRow(id++, 0, 0, LocalTime.of(9, 0), LocalTime.of(10, 0), null));
+        rows.add(new ScheduleRow(id++, 0, 8, LocalTime.of(9, 0), LocalTime.of(10, 0), null));
+        rows.add(new ScheduleRow(id++, null, 1, LocalTime.of(9, 0), LocalTime.of(10, 0), null));
+        rows.add(new ScheduleRow(id++, 1, 1, LocalTime.of(10, 0), LocalTime.of(9, 0), null));
+        rows.add(new ScheduleRow(id, 1, 1, LocalTime.of(10, 0), LocalTime.of(10, 0), null));
+        return rows;
+    }
+
+    /** from 이후(from 포함)의 빈 시간 중 len분 이상인 것 (from이 들어 있는 빈 시간은 from부터) */
+    private static List<FreeSlot> freeRuns(boolean[] busy, int from, int len) {
+        var result = new ArrayList<FreeSlot>();
+        int m = 0;
+        while (m < MINUTES) {
+            if (busy[m]) {
+                m++;
+                continue;
+            }
+            int a = m;
+            while (m < MINUTES && !busy[m]) m++;
+            if (m <= from) continue;
+            int start = Math.max(a, from);
+            if (m - start >= Math.max(len, 1)) result.add(slot(start, m));
+        }
+        return result;
+    }
+
+    private static Optional<FreeSlot> freeAt(boolean[] busy, int t) {
+        if (busy[t]) return Optional.empty();
+        int end = t;
+        while (end < MINUTES && !busy[end]) end++;
+        return Optional.of(slot(t, end));
+    }
+
+    private static Optional<ClassBlock> classAtOrAfter(boolean[] busy, int t) {
+        int a = t;
+        while (a > 0 && busy[a] && busy[a - 1]) a--;   // t가 수업 중이면 그 구간의 시작으로
+        while (a < MINUTES && !busy[a]) a++;
+        if (a == MINUTES) return Optional.empty();
+        int b = a;
+        while (b < MINUTES && busy[b]) b++;
+        return Optional.of(new ClassBlock(a * MINUTE, (b == MINUTES) ? OccupancyIndex.DAY_NANOS : b * MINUTE));
+    }
+
+    private static boolean allFree(boolean[] busy, int from, int to) {
+        for (int m = from; m < to; m++) {
+            if (busy[m]) return false;
+        }
+        return true;
+    }
+
+    private static FreeSlot slot(int from, int to) {
+        return new FreeSlot(from * MINUTE, (to == MINUTES) ? OccupancyIndex.DAY_NANOS : to * MINUTE);
+    }
+}
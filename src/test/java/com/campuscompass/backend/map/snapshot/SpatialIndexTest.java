@@ -0,0 +1,111 @@
+package com.campuscompass.backend.map.snapshot;
+
+import com.campuscompass.backend.map.snapshot.SpatialIndex.Nearby;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** 격자 인덱스의 최근접 / 영역 조회를 모든 건물을 훑은 결과와 비교한다. */
+class SpatialIndexTest {
+
+    private static final double LAT = 36.84, LNG = 127.18;
+
+    @Test
+    void nearestAndWithinMatchFullScanOnRandomCampus() {
+        var random = new Random(20250315L);
+        for (int trial = 0; trial < 40; trial++) {
+            var buildings = randomBuildings(random, random.nextInt(60));
+            var index = SpatialIndex.build(buildings);
+            var located = buildings.stream().filter(b -> b.latitude() != null && b.longitude() != null).toList();
+            assertThat(index.size()).isEqualTo(located.size());
+            var plane = new Plane(located);
+
+            for (int q = 0; q < 100; q++) {
+                // 캠퍼스 안팎 (격자 밖 먼 곳 포함)
+                double spread = random.nextInt(5) == 0 ? 0.2 : 0.01;
+                double lat = LAT + (random.nextDouble() - 0.5) * spread;
+                double lng = LNG + (random.nextDouble() - 0.5) * spread;
+                int k = random.nextInt(4) == 0 ? located.size() + 1 + random.nextInt(5) : random.nextInt(8);
+
+                assertThat(index.nearest(lat, lng, k))
+                        .as("trial=%d (%f, %f) k=%d", trial, lat, lng, k)
+                        .containsExactlyElementsOf(plane.nearest(lat, lng, k));
+
+                double lat2 = lat + (random.nextDouble() - 0.3) * spread;
+                double lng2 = lng + (random.nextDouble() - 0.3) * spread;
+                assertThat(index.within(lat, lng, lat2, lng2))
+                        .as("trial=%d (%f, %f)~(%f, %f)", trial, lat, lng, lat2, lng2)
+                        .containsExactlyElementsOf(located.stream()
+                                .filter(b -> b.latitude() >= lat && b.latitude() <= lat2
+                                        && b.longitude() >= lng && b.longitude() <= lng2)
+                                .toList());
+            }
+        }
+    }
+
+    @Test
+    void emptyAndDegenerateCampuses() {
+        var empty = SpatialIndex.build(List.of(new BuildingRow(1, "좌표 없음", null, 127.0, null)));
+        assertThat(empty.size()).isZero();
+        assertThat(empty.nearest(LAT, LNG, 3)).isEmpty();
+        assertThat(empty.within(-90, -180, 90, 180)).isEmpty();
+
+        // 모두 한 점에 있는 건물: 거리가 같으면 이름순
+        var sameSpot = List.of(new BuildingRow(2, "a관", LAT, LNG, null), new BuildingRow(1, "b관", LAT, LNG, null));
+        var index = SpatialIndex.build(sameSpot);
+        assertThat(index.nearest(LAT + 0.001, LNG, 5)).extracting(n -> n.building().name()).containsExactly("a관", "b관");
+        assertThat(index.nearest(LAT, LNG, 0)).isEmpty();
+        assertThat(index.within(LAT, LNG, LAT, LNG)).containsExactlyElementsOf(sameSpot);
+    }
+
+    /** 이름순 건물, 일부는 좌표가 없고 일부는 같은 자리·같은 이름 */
+    private static List<BuildingRow> randomBuildings(Random random, int n) {
+        var rows = new ArrayList<BuildingRow>();
+        for (int i = 0; i < n; i++) {
+            Double lat = LAT + (random.nextDouble() - 0.5) * 0.01;
+            Double lng = LNG + (random.nextDouble() - 0.5) * 0.01;
+            if (random.nextInt(8) == 0) lat = null;
+            if (random.nextInt(8) == 0) lng = null;
+            if (i > 0 && random.nextInt(10) == 0) {
+                var twin = rows.get(random.nextInt(rows.size()));
+                lat = twin.latitude();
+                lng = twin.longitude();
+            }
+            var name = random.nextInt(10) == 0 ? "같은관" : "건물" + (char) ('가' + random.nextInt(500));
+            rows.add(new BuildingRow(i + 1, name, lat, lng, null));
+        }
+        rows.sort(Comparator.comparing((BuildingRow b) -> CampusSnapshot.lower(b.name())).thenComparing(BuildingRow::id));
+        return rows;
+    }
+
+    /** 인덱스와 같은 평면 근사로 모든 건물까지의 거리를 재서 정렬 */
+    private record Plane(List<BuildingRow> located, double originLat, double originLng, double mLat, double mLng) {
+
+        Plane(List<BuildingRow> located) {
+            this(located, mean(located, true), mean(located, false), Math.toRadians(6_371_008.8),
+                    Math.toRadians(6_371_008.8) * Math.cos(Math.toRadians(mean(located, true))));
+        }
+
+        List<Nearby> nearest(double lat, double lng, int k) {
+            double qx = (lng - originLng) * mLng, qy = (lat - originLat) * mLat;
+            return located.stream()
+                    .map(b -> new Nearby(b, Math.hypot((b.longitude() - originLng) * mLng - qx, (b.latitude() - originLat) * mLat - qy)))
+                    .sorted(Comparator.comparingDouble(Nearby::distanceMeters)
+                            .thenComparing(n -> CampusSnapshot.lower(n.building().name()))
+                            .thenComparing(n -> n.building().id()))
+                    .limit(Math.max(k, 0))
+                    .toList();
+        }
+
+        private static double mean(List<BuildingRow> rows, boolean latitude) {
+            double sum = 0;
+            for (var b : rows) sum += latitude ? b.latitude() : b.longitude();
+            return rows.isEmpty() ? 0 : sum / rows.size();
+        }
+    }
+}
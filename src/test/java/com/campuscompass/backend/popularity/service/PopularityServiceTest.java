@@ -0,0 +1,118 @@
+package com.campuscompass.backend.popularity.service;
+
+import com.campuscompass.backend.popularity.dto.PopularRoomResponse;
+import com.campuscompass.backend.security.AuthUser;
+import com.campuscompass.backend.user.domain.User;
+import com.campuscompass.backend.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** flush는 자기 트랜잭션으로 커밋하므로 테스트 트랜잭션 대신 앞뒤로 표를 비운다. */
+@SpringBootTest
+class PopularityServiceTest {
+
+    @Autowired PopularityService popularityService;
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired UserRepository userRepository;
+
+    @BeforeEach
+    @AfterEach
+    void clear() {
+        popularityService.flush();   // 다른 테스트가 남긴 증감분까지 비운다
+        jdbcTemplate.update("delete from room_popularity");
+        popularityService.flush();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void flushAppliesPendingDeltasAndRanks() {
+        popularityService.favoritesAdded(List.of(1, 2, 1));
+        popularityService.favoritesRemoved(List.of(2));
+        clickAs(1L, 2);
+        clickAs(1L, 2);               // 같은 주기에 같은 사용자·방은 한 번만
+        clickAs(2L, 2);
+        clickAs(1L, 1);
+
+        assertThat(popularityService.top("clicks", 10)).isEmpty();   // 반영 전에는 안 보인다
+        popularityService.flush();
+
+        assertThat(rows()).isEqualTo(Map.of(1, List.of(2L, 1L), 2, List.of(0L, 2L)));
+        assertThat(popularityService.top("favorites", 10)).extracting(PopularRoomResponse::roomId).containsExactly(1);
+        assertThat(popularityService.top(null, 10)).extracting(PopularRoomResponse::favoriteCount).containsExactly(2L);
+        assertThat(popularityService.top("clicks", 10)).extracting(PopularRoomResponse::roomId).containsExactly(2, 1);
+        assertThat(popularityService.top("clicks", 1)).extracting(PopularRoomResponse::roomId).containsExactly(2);
+
+        clickAs(1L, 1);               // 다음 주기에는 다시 센다
+        clickAs(3L, 1);
+        popularityService.flush();
+        assertThat(rows().get(1)).containsExactly(2L, 3L);
+        assertThat(popularityService.top("clicks", 10)).extracting(PopularRoomResponse::roomId).containsExactly(1, 2);   // 같으면 방 id 순
+    }
+
+    @Test
+    void restoresDeltasWhenWriteFails() {
+        jdbcTemplate.update("insert into room_popularity (room_id, favorite_count, search_click_count, updated_at) values (?, ?, ?, ?)",
+                1, Long.MAX_VALUE, 0, Timestamp.valueOf(LocalDateTime.now()));
+        popularityService.favoritesAdded(List.of(2, 1));   // 방 1은 넘쳐서 배치가 실패한다
+        clickAs(1L, 2);
+
+        popularityService.flush();
+        assertThat(rows()).as("배치 전체가 되돌려져야 한다").isEqualTo(Map.of(1, List.of(Long.MAX_VALUE, 0L)));
+
+        jdbcTemplate.update("update room_popularity set favorite_count = 0 where room_id = 1");
+        popularityService.flush();
+        assertThat(rows()).isEqualTo(Map.of(1, List.of(1L, 0L), 2, List.of(1L, 1L)));
+    }
+
+    /** 다른 인스턴스가 먼저 채운 표는 그대로 둔다 */
+    @Test
+    void seedsOnlyAnEmptyTable() {
+        var user = userRepository.save(new User("popularity-seed", "password", "인기"));
+        var now = Timestamp.valueOf(LocalDateTime.now());
+        try {
+            for (int roomId : new int[] {1, 2}) {
+                jdbcTemplate.update("insert into favorites (user_id, room_id, created_at) values (?, ?, ?)", user.getId(), roomId, now);
+            }
+            jdbcTemplate.update("insert into room_popularity (room_id, favorite_count, search_click_count, updated_at) values (?, ?, ?, ?)",
+                    1, 7, 3, now);
+            assertThat(popularityService.seedFromFavorites()).isZero();
+            assertThat(rows()).isEqualTo(Map.of(1, List.of(7L, 3L)));
+
+            jdbcTemplate.update("delete from room_popularity");
+            popularityService.seedFromFavorites();
+            assertThat(rows()).isEqualTo(Map.of(1, List.of(1L, 0L), 2, List.of(1L, 0L)));
+            popularityService.seedFromFavorites();
+            assertThat(rows()).isEqualTo(Map.of(1, List.of(1L, 0L), 2, List.of(1L, 0L)));
+        } finally {
+            jdbcTemplate.update("delete from favorites where user_id = ?", user.getId());
+            userRepository.delete(user);
+        }
+    }
+
+    private void clickAs(Long userId, int roomId) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new AuthUser(userId, "2025" + userId, List.of("USER")).toAuthentication());
+        popularityService.searchClicked(roomId);
+    }
+
+    /** room_id → [favorite_count, search_click_count] */
+    private Map<Integer, List<Long>> rows() {
+        var rows = new HashMap<Integer, List<Long>>();
+        jdbcTemplate.query("select room_id, favorite_count, search_click_count from room_popularity",
+                rs -> { rows.put(rs.getInt(1), List.of(rs.getLong(2), rs.getLong(3))); });
+        return rows;
+    }
+}
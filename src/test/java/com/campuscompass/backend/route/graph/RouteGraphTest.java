@@ -0,0 +1,99 @@
+package com.campuscompass.backend.route.graph;
+
+import com.campuscompass.backend.map.snapshot.CampusSnapshotHolder;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.transaction.AfterTransaction;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@SpringBootTest
+@Transactional
+class RouteGraphTest {
+
+    private static final int FIRST_BUILDING_ID = 9001;
+    private static final int BUILDINGS = 12;
+
+    private static final RouteCosts COSTS = new RouteCosts(8, 20, 6, 30, 1.3, 3);
+
+    @Autowired CampusSnapshotHolder snapshotHolder;
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    @AfterTransaction
+    void restoreSnapshot() {
+        snapshotHolder.reload();
+    }
+
+    @Test
+    void aStarMatchesDijkstraOnRandomCampus() {
+        var random = new Random(20250311L);
+        var roomIds = insertRandomCampus(random);
+        var graph = RouteGraph.build(snapshotHolder.reload(), COSTS);
+        var dist = new double[graph.nodeCount()];
+
+        for (int i = 0; i < 300; i++) {
+            int from = roomIds.get(random.nextInt(roomIds.size()));
+            boolean accessible = random.nextBoolean();
+            graph.dijkstra(graph.roomNode(from), accessible, dist);
+
+            for (int j = 0; j < 10; j++) {
+                int to = roomIds.get(random.nextInt(roomIds.size()));
+                double expected = dist[graph.roomNode(to)];
+                var route = graph.route(from, to, accessible);
+
+                var desc = String.format("%d → %d accessible=%s", from, to, accessible);
+                if (expected == Double.POSITIVE_INFINITY) {
+                    assertThat(route).as(desc).isEmpty();
+                    continue;
+                }
+                assertThat(route).as(desc).isPresent();
+                assertThat(route.get().seconds()).as(desc).isCloseTo(expected, within(1e-6));
+
+                var steps = route.get().steps();
+                assertThat(steps.get(0).roomId()).as(desc).isEqualTo(from);
+                assertThat(steps.get(steps.size() - 1).roomId()).as(desc).isEqualTo(to);
+                if (accessible) {
+                    assertThat(steps).as(desc).noneMatch(s -> s.via() == RouteGraph.EdgeKind.STAIRS);
+                }
+            }
+        }
+    }
+
+    /** 건물마다 층(지하, 빠진 층 포함)과 방을 만든다. 몇몇 건물은 좌표가 없어 실외로 이어지지 않는다. */
+    private List<Integer> insertRandomCampus(Random random) {
+        var roomIds = new ArrayList<Integer>();
+        int floorId = 9001;
+        int roomId = 9001;
+        for (int b = 0; b < BUILDINGS; b++) {
+            int buildingId = FIRST_BUILDING_ID + b;
+            boolean located = random.nextInt(6) != 0;
+            jdbcTemplate.update("insert into buildings (building_id, name, latitude, longitude, description) values (?, ?, ?, ?, ?)",
+                    buildingId, "경로관" + b,
+                    located ? 36.80 + random.nextDouble() * 0.01 : null,
+                    located ? 127.10 + random.nextDouble() * 0.01 : null, "route");
+
+            int level = -random.nextInt(2);
+            int floors = 1 + random.nextInt(5);
+            for (int f = 0; f < floors; f++, floorId++) {
+                jdbcTemplate.update("insert into floors (floor_id, building_id, level, name) values (?, ?, ?, ?)",
+                        floorId, buildingId, level, level + "층");
+                int rooms = random.nextInt(8);
+                for (int r = 0; r < rooms; r++, roomId++) {
+                    jdbcTemplate.update("insert into rooms (room_id, floor_id, room_number, name, room_type, capacity) values (?, ?, ?, ?, 'CLASSROOM', 30)",
+                            roomId, floorId, String.valueOf(roomId), "경로실");
+                    roomIds.add(roomId);
+                }
+                level += 1 + (random.nextInt(4) == 0 ? 1 : 0);
+            }
+        }
+        return roomIds;
+    }
+}
@@ -0,0 +1,36 @@
+package com.campuscompass.benchmark;
+
+import com.campuscompass.backend.map.domain.Room;
+import jakarta.persistence.*;
+
+import java.time.LocalTime;
+
+/**
+ * 비교용: 시간표와 같은 컬럼에 IDENTITY id를 쓰는 엔티티 (예전 방식).
+ * 애플리케이션 패키지 밖에 두어 기본 엔티티 스캔에 잡히지 않는다. ScheduleInsertBenchmark의 컨텍스트에서만 @EntityScan으로 등록한다.
+ */
+@Entity
+@Table(name = "benchmark_identity_schedules")
+public class IdentitySchedule {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+    private String courseName;
+    private Integer dayOfWeek;
+    private LocalTime startTime;
+    private LocalTime endTime;
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "room_id")
+    private Room room;
+
+    protected IdentitySchedule() { }
+
+    public IdentitySchedule(Room room, Integer dayOfWeek, LocalTime startTime, LocalTime endTime, String courseName) {
+        this.room = room;
+        this.dayOfWeek = dayOfWeek;
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.courseName = courseName;
+    }
+}